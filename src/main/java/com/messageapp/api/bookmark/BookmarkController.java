@@ -4,6 +4,7 @@ import com.messageapp.domain.bookmark.dto.BookmarkRequest;
 import com.messageapp.domain.bookmark.service.BookmarkService;
 import com.messageapp.domain.letter.dto.LetterResponse;
 import com.messageapp.global.auth.LoginMember;
+import com.messageapp.global.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -36,6 +37,7 @@ public class BookmarkController {
             @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
             @ApiResponse(responseCode = "404", description = "편지를 찾을 수 없음", content = @Content)
     })
+    @RateLimited("bookmark-write")
     @PostMapping
     public void saveLetter(
             @Parameter(hidden = true) @LoginMember Long memberId,
@@ -1,13 +1,22 @@
 package com.messageapp.api.letter;
 
-import com.messageapp.domain.letter.dto.LetterIdResponse;
+import com.messageapp.domain.letter.dto.LetterReadRequest;
+import com.messageapp.domain.letter.dto.LetterPageResponse;
+import com.messageapp.domain.letter.dto.LetterReadResponse;
 import com.messageapp.domain.letter.dto.LetterRequest;
 import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.dto.LetterSendAcceptedResponse;
+import com.messageapp.domain.letter.dto.LetterSendStatusResponse;
+import com.messageapp.domain.letter.dto.LetterSyncResponse;
+import com.messageapp.domain.letter.dto.UnreadCountResponse;
+import com.messageapp.domain.letter.queue.LetterSendQueue;
+import com.messageapp.domain.letter.service.IdempotentLetterSendService;
 import com.messageapp.domain.letter.service.LetterService;
+import com.messageapp.domain.letter.service.UnreadCountService;
 import com.messageapp.global.auth.LoginMember;
+import com.messageapp.global.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,10 +26,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * 편지 관련 REST API 컨트롤러
  *
@@ -28,9 +36,13 @@ import java.util.List;
  *
  * <h3>API 목록:</h3>
  * <ul>
- *   <li>GET /api/v1/letter/list - 수신 편지 목록 조회</li>
- *   <li>POST /api/v1/letter/send - 편지 발송 (랜덤 수신자)</li>
+ *   <li>GET /api/v1/letter/list - 수신 편지 목록 조회 (커서 페이징)</li>
+ *   <li>GET /api/v1/letter/sync - 수신함 변경분 동기화</li>
+ *   <li>GET /api/v1/letter/unread-count - 미읽음 편지 수 조회 (배지용)</li>
+ *   <li>POST /api/v1/letter/send - 편지 발송 (랜덤 수신자, 비동기 발송 모드에서는 202 접수)</li>
+ *   <li>GET /api/v1/letter/send/{trackingId} - 비동기 발송 요청 상태 조회</li>
  *   <li>GET /api/v1/letter/{letterId} - 편지 상세 조회 및 읽음 처리</li>
+ *   <li>POST /api/v1/letter/read - 편지 일괄 읽음 처리</li>
  * </ul>
  *
  * @author MessageApp Team
@@ -48,30 +60,110 @@ public class LetterController {
     /** 편지 서비스 */
     private final LetterService letterService;
 
-    @Operation(summary = "수신한 편지 목록 조회", description = "로그인한 사용자가 받은 편지 목록을 조회합니다.")
+    /** 멱등 편지 발송 서비스 */
+    private final IdempotentLetterSendService idempotentLetterSendService;
+
+    /** 편지 비동기 발송 큐 */
+    private final LetterSendQueue letterSendQueue;
+
+    /** 미읽음 편지 수 서비스 */
+    private final UnreadCountService unreadCountService;
+
+    @Operation(summary = "수신한 편지 목록 조회", description = "로그인한 사용자가 받은 편지 목록을 최신순으로 한 페이지 조회합니다. " +
+            "다음 페이지는 응답의 nextCursor를 cursor 파라미터로 넘겨 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = LetterIdResponse.class)))),
+                    content = @Content(schema = @Schema(implementation = LetterPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content),
             @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     })
     @GetMapping("/list")
-    public List<LetterIdResponse> getReceivedLetters(
+    public LetterPageResponse getReceivedLetters(
+            @Parameter(hidden = true) @LoginMember Long memberId,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
+        return letterService.getReceivedLetters(memberId, cursor, size);
+    }
+
+    @Operation(summary = "수신함 동기화", description = "since 토큰 이후 배달되었거나 상태가 바뀐 편지만 조회합니다. " +
+            "토큰을 생략하면 수신함 전체를 반환하며, hasMore가 true면 nextToken으로 바로 이어서 요청합니다. " +
+            "같은 편지가 다시 전달될 수 있으므로 편지 ID 기준으로 덮어쓰고, removedLetterIds의 편지는 삭제합니다. " +
+            "reset이 true면 로컬 수신함을 비우고 응답을 처음부터 반영합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = LetterSyncResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 토큰", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @GetMapping("/sync")
+    public LetterSyncResponse syncLetters(
+            @Parameter(hidden = true) @LoginMember Long memberId,
+            @Parameter(description = "이전 응답의 nextToken (처음 동기화는 생략)")
+            @RequestParam(required = false) String since) {
+        return letterService.syncLetters(memberId, since);
+    }
+
+    @Operation(summary = "미읽음 편지 수 조회", description = "배지 표시용 미읽음 편지 수를 조회합니다. " +
+            "편지 목록을 읽지 않고 회원별 카운터만 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = UnreadCountResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @GetMapping("/unread-count")
+    public UnreadCountResponse getUnreadCount(
             @Parameter(hidden = true) @LoginMember Long memberId) {
-        return letterService.getReceivedLetters(memberId);
+        return new UnreadCountResponse(unreadCountService.getUnreadCount(memberId));
     }
 
-    @Operation(summary = "편지 발송", description = "랜덤 수신자에게 편지를 발송합니다.")
+    @Operation(summary = "편지 발송", description = "랜덤 수신자에게 편지를 발송합니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재시도에는 최초 응답을 그대로 반환합니다. " +
+            "비동기 발송 모드에서는 요청을 큐에 넣고 202와 추적 ID를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "발송 성공",
                     content = @Content(schema = @Schema(implementation = LetterResponse.class))),
+            @ApiResponse(responseCode = "202", description = "발송 접수 (비동기 발송 모드)",
+                    content = @Content(schema = @Schema(implementation = LetterSendAcceptedResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
-            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과 (Retry-After 헤더 참고)", content = @Content),
+            @ApiResponse(responseCode = "409", description = "같은 키의 요청이 처리 중이거나 다른 내용에 사용된 키", content = @Content)
     })
+    @RateLimited(value = "letter-send", exemptIdempotentReplays = true)
     @PostMapping("/send")
-    public LetterResponse sendLetter(
+    public ResponseEntity<?> sendLetter(
             @Parameter(hidden = true) @LoginMember Long memberId,
+            @Parameter(description = "재시도 식별 키 (최대 100자)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody LetterRequest request) {
-        return letterService.sendLetter(memberId, request.getContent());
+        if (letterSendQueue.isEnabled()) {
+            if (idempotencyKey != null) {
+                idempotentLetterSendService.validateKey(idempotencyKey);
+            }
+            return ResponseEntity.accepted()
+                    .body(letterSendQueue.accept(memberId, idempotencyKey, request.getContent()));
+        }
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(letterService.sendLetter(memberId, request.getContent()));
+        }
+        return ResponseEntity.ok(idempotentLetterSendService.sendLetter(memberId, idempotencyKey, request.getContent()));
+    }
+
+    @Operation(summary = "비동기 발송 요청 상태 조회", description = "발송 접수 시 받은 추적 ID로 발송 결과를 조회합니다. " +
+            "완료된 요청은 보관 기간(기본 1일)이 지나면 조회되지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = LetterSendStatusResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "404", description = "발송 요청을 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/send/{trackingId}")
+    public LetterSendStatusResponse getSendStatus(
+            @Parameter(description = "추적 ID", required = true) @PathVariable String trackingId,
+            @Parameter(hidden = true) @LoginMember Long memberId) {
+        return letterSendQueue.getStatus(memberId, trackingId);
     }
 
     @Operation(summary = "편지 상세 조회", description = "편지 ID로 편지 상세 정보를 조회합니다.")
@@ -87,4 +179,19 @@ public class LetterController {
             @Parameter(hidden = true) @LoginMember Long memberId) {
         return letterService.getLetterDetail(letterId, memberId);
     }
+
+    @Operation(summary = "편지 일괄 읽음 처리", description = "여러 편지를 한 번에 읽음 처리합니다. " +
+            "이미 읽었거나 본인이 받은 편지가 아닌 ID는 무시됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공",
+                    content = @Content(schema = @Schema(implementation = LetterReadResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @PostMapping("/read")
+    public LetterReadResponse markAsRead(
+            @Parameter(hidden = true) @LoginMember Long memberId,
+            @Valid @RequestBody LetterReadRequest request) {
+        return new LetterReadResponse(letterService.markAsRead(memberId, request.getLetterIds()));
+    }
 }
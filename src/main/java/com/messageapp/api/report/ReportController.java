@@ -4,6 +4,7 @@ import com.messageapp.domain.report.dto.ReportRequest;
 import com.messageapp.domain.report.dto.ReportResponse;
 import com.messageapp.domain.report.service.ReportService;
 import com.messageapp.global.auth.LoginMember;
+import com.messageapp.global.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,8 +34,10 @@ public class ReportController {
                     content = @Content(schema = @Schema(implementation = ReportResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
             @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과 (Retry-After 헤더 참고)", content = @Content),
             @ApiResponse(responseCode = "404", description = "편지를 찾을 수 없음", content = @Content)
     })
+    @RateLimited("report-write")
     @PostMapping
     public ReportResponse reportLetter(
             @Parameter(hidden = true) @LoginMember Long memberId,
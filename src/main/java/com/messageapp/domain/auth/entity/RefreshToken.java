@@ -2,6 +2,7 @@ package com.messageapp.domain.auth.entity;
 
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -32,9 +33,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken extends BaseEntity {
 
-    /** 토큰 고유 식별자 (PK, Auto Increment) */
+    /** 토큰 고유 식별자 (PK, id_sequences 테이블에서 pooled 할당) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_id_generator")
+    @TableGenerator(name = "refresh_token_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "refresh_tokens", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     /** 연결된 회원 (1:1 관계) */
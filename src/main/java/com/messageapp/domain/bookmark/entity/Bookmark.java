@@ -3,6 +3,7 @@ package com.messageapp.domain.bookmark.entity;
 import com.messageapp.domain.letter.entity.Letter;
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,10 @@ import lombok.NoArgsConstructor;
 public class Bookmark extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bookmark_id_generator")
+    @TableGenerator(name = "bookmark_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "bookmarks", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "bookmark_id")
     private Long id;
 
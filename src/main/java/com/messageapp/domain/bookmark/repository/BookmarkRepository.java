@@ -1,9 +1,12 @@
 package com.messageapp.domain.bookmark.repository;
 
 import com.messageapp.domain.bookmark.entity.Bookmark;
+import com.messageapp.domain.letter.dto.LetterDetail;
 import com.messageapp.domain.letter.entity.Letter;
 import com.messageapp.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -23,9 +26,17 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     Optional<Bookmark> findByMemberAndLetter(Member member, Letter letter);
 
     /**
-     * 특정 회원의 북마크 목록 조회 (생성일 내림차순)
+     * 특정 회원이 북마크한 편지 목록 조회 (북마크 생성일 내림차순)
+     *
+     * <p>북마크, 편지, 본문, 내용, 발신자를 한 번의 조인 쿼리로 읽어 필요한 컬럼만 반환합니다.
+     * 엔티티를 영속성 컨텍스트에 올리지 않습니다.</p>
      */
-    List<Bookmark> findByMemberIdOrderByCreatedAtDesc(Long memberId);
+    @Query("SELECT new com.messageapp.domain.letter.dto.LetterDetail(" +
+            "l.id, l.receiver.id, c.text, s.name, s.islandName, s.profileImageIndex, " +
+            "l.status, l.createdAt, l.matchedAt, l.readAt) " +
+            "FROM Bookmark bm JOIN bm.letter l JOIN l.body b JOIN b.letterContent c JOIN b.sender s " +
+            "WHERE bm.member.id = :memberId ORDER BY bm.createdAt DESC")
+    List<LetterDetail> findLetterDetailsByMemberId(@Param("memberId") Long memberId);
 
     /**
      * 특정 회원의 특정 편지 북마크 삭제
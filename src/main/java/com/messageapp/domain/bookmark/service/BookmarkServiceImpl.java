@@ -2,6 +2,7 @@ package com.messageapp.domain.bookmark.service;
 
 import com.messageapp.domain.bookmark.entity.Bookmark;
 import com.messageapp.domain.bookmark.repository.BookmarkRepository;
+import com.messageapp.domain.letter.dto.LetterDetail;
 import com.messageapp.domain.letter.dto.LetterResponse;
 import com.messageapp.domain.letter.entity.Letter;
 import com.messageapp.domain.letter.repository.LetterRepository;
@@ -63,12 +64,11 @@ public class BookmarkServiceImpl implements BookmarkService {
 
     @Override
     public List<LetterResponse> getBookmarkList(Long memberId) {
-        // 1. memberId로 북마크 목록 조회
-        List<Bookmark> bookmarks = bookmarkRepository.findByMemberIdOrderByCreatedAtDesc(memberId);
+        // 1. memberId로 북마크한 편지를 조인 쿼리 한 번으로 조회 (엔티티 로딩 없음)
+        List<LetterDetail> letters = bookmarkRepository.findLetterDetailsByMemberId(memberId);
 
-        // 2. Bookmark -> Letter -> LetterResponse 변환
-        return bookmarks.stream()
-                .map(Bookmark::getLetter)
+        // 2. LetterDetail -> LetterResponse 변환
+        return letters.stream()
                 .map(LetterResponse::from)
                 .toList();
     }
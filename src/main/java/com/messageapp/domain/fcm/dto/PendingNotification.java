@@ -0,0 +1,24 @@
+package com.messageapp.domain.fcm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 릴레이가 임대한 알림 한 건
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class PendingNotification {
+
+    /** 아웃박스 ID */
+    private final Long outboxId;
+
+    /** 알림 수신자 ID */
+    private final Long receiverId;
+
+    /** 발신자 닉네임 */
+    private final String senderName;
+}
@@ -0,0 +1,52 @@
+package com.messageapp.domain.fcm.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 포기 알림 엔티티
+ *
+ * <p>최대 시도 횟수를 넘긴 아웃박스 행을 삭제하지 않고 옮겨 둔 행입니다.
+ * notification_outbox의 컬럼을 그대로 복사하고 포기 시각만 추가하며, 행은
+ * {@link com.messageapp.domain.fcm.service.NotificationOutboxService}가
+ * {@code INSERT ... SELECT}로만 만듭니다. 원인 조사나 수동 재발송에 사용합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see NotificationOutbox
+ */
+@Entity
+@Table(name = "notification_outbox_dead")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeadNotification {
+
+    /** 아웃박스 ID (notification_outbox의 outbox_id 그대로) */
+    @Id
+    @Column(name = "outbox_id")
+    private Long id;
+
+    /** 알림 수신자 ID */
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    /** 발신자 닉네임 */
+    @Column(name = "sender_name", nullable = false)
+    private String senderName;
+
+    /** 발송 시도 횟수 */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** 알림 적재 시각 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 발송 포기 시각 */
+    @Column(name = "dead_at", nullable = false)
+    private LocalDateTime deadAt;
+}
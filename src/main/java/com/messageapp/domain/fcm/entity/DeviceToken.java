@@ -2,6 +2,7 @@ package com.messageapp.domain.fcm.entity;
 
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,7 +16,10 @@ import lombok.NoArgsConstructor;
 public class DeviceToken extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "device_token_id_generator")
+    @TableGenerator(name = "device_token_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "device_tokens", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "device_token_id")
     private Long id;
 
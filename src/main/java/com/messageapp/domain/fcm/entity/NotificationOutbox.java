@@ -0,0 +1,84 @@
+package com.messageapp.domain.fcm.entity;
+
+import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스 엔티티
+ *
+ * <p>편지 발송 트랜잭션 안에서 함께 저장되는 푸시 알림 요청입니다.
+ * 편지가 커밋되어야만 행이 보이고, 롤백되면 함께 사라지므로
+ * 존재하지 않는 편지에 대한 알림이 나가지 않습니다.</p>
+ *
+ * <p>릴레이가 행을 가져갈 때 {@code availableAt}을 임대 만료 시각으로 미루고,
+ * 발송이 끝나면 행을 삭제합니다. 서버가 중간에 내려가도 임대가 만료되면 다시 발송됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.fcm.outbox.NotificationOutboxRelay
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_available_at", columnList = "available_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseEntity {
+
+    /** 아웃박스 고유 식별자 (PK, id_sequences 테이블에서 pooled 할당) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_outbox_id_generator")
+    @TableGenerator(name = "notification_outbox_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "notification_outbox", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    /** 알림 수신자 ID */
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    /** 발신자 닉네임 */
+    @Column(name = "sender_name", nullable = false)
+    private String senderName;
+
+    /** 발송 시도 횟수 */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** 릴레이가 가져갈 수 있는 시각 (임대 중이면 임대 만료 시각) */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    /**
+     * 알림 아웃박스 생성자
+     *
+     * @param receiverId 알림 수신자 ID
+     * @param senderName 발신자 닉네임
+     */
+    @Builder
+    public NotificationOutbox(Long receiverId, String senderName) {
+        this.receiverId = receiverId;
+        this.senderName = senderName;
+        this.attempts = 0;
+        this.availableAt = LocalDateTime.now();
+    }
+
+    /**
+     * 릴레이가 행을 임대합니다.
+     *
+     * <p>시도 횟수를 늘리고 임대 만료 전까지 다른 릴레이가 가져가지 못하게 합니다.</p>
+     *
+     * @param leaseUntil 임대 만료 시각
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+}
@@ -0,0 +1,13 @@
+package com.messageapp.domain.fcm.event;
+
+/**
+ * 알림 아웃박스 적재 이벤트
+ *
+ * <p>커밋 이후 릴레이를 즉시 깨우는 신호로만 사용하며, 내용은 아웃박스 테이블에 있습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.fcm.outbox.NotificationOutboxRelay
+ */
+public class NotificationEnqueuedEvent {
+}
@@ -0,0 +1,151 @@
+package com.messageapp.domain.fcm.outbox;
+
+import com.messageapp.domain.fcm.dto.PendingNotification;
+import com.messageapp.domain.fcm.event.NotificationEnqueuedEvent;
+import com.messageapp.domain.fcm.service.FcmService;
+import com.messageapp.domain.fcm.service.NotificationOutboxService;
+import com.messageapp.global.config.NotificationOutboxProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 알림 아웃박스 릴레이
+ *
+ * <p>아웃박스 테이블의 알림을 배치 단위로 임대하여 FCM 실행기에 넘기고,
+ * 발송이 끝난 행을 삭제합니다. 일시적인 FCM 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED 등)로
+ * 실패한 알림은 재시도 대기로 돌려놓고, 최대 시도 횟수에 도달하면 발송을 포기합니다.</p>
+ *
+ * <h3>실행 시점:</h3>
+ * <ul>
+ *   <li>편지 발송 트랜잭션 커밋 직후 ({@link NotificationEnqueuedEvent}) - 지연 최소화</li>
+ *   <li>주기적 폴링 - 신호를 놓친 행, 재시작 전에 남은 행, 재시도 행 처리</li>
+ * </ul>
+ *
+ * <h3>유실 방지:</h3>
+ * <ul>
+ *   <li>FCM 실행기 큐가 가득 차면 ({@link TaskRejectedException}) 배치를 재시도 대기로 돌려놓고 중단
+ *       (발송을 시도하지 않았으므로 시도 횟수에 포함하지 않음)</li>
+ *   <li>일시적인 발송 실패는 재시도 대기 후 다시 발송</li>
+ *   <li>발송 중 서버가 내려가면 임대가 만료된 뒤 다른 릴레이가 다시 발송 (at-least-once)</li>
+ * </ul>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see NotificationOutboxService
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    /** 한 번 실행에 연속 처리하는 최대 배치 수 */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final FcmService fcmService;
+    private final NotificationOutboxProperties properties;
+    private final Executor fcmTaskExecutor;
+    private final Executor outboxRelayExecutor;
+
+    public NotificationOutboxRelay(NotificationOutboxService notificationOutboxService,
+                                   FcmService fcmService,
+                                   NotificationOutboxProperties properties,
+                                   @Qualifier("fcmTaskExecutor") Executor fcmTaskExecutor,
+                                   @Qualifier("outboxRelayExecutor") Executor outboxRelayExecutor) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.fcmService = fcmService;
+        this.properties = properties;
+        this.fcmTaskExecutor = fcmTaskExecutor;
+        this.outboxRelayExecutor = outboxRelayExecutor;
+    }
+
+    /**
+     * 알림 적재 트랜잭션이 커밋되면 릴레이를 깨웁니다.
+     *
+     * <p>릴레이 실행기는 실행 1개 + 대기 1개만 허용하므로 한 트랜잭션에서 여러 건을 적재해도
+     * 실행이 한 번으로 합쳐집니다.</p>
+     *
+     * @param event 알림 적재 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationEnqueued(NotificationEnqueuedEvent event) {
+        outboxRelayExecutor.execute(this::relay);
+    }
+
+    /**
+     * 주기적으로 아웃박스를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        relay();
+    }
+
+    /**
+     * 아웃박스를 배치 단위로 임대하여 FCM 실행기에 넘깁니다.
+     */
+    void relay() {
+        int batchSize = properties.getBatchSize();
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<PendingNotification> batch;
+            try {
+                batch = notificationOutboxService.lease(batchSize);
+            } catch (Exception e) {
+                log.error("알림 아웃박스 임대 실패: {}", e.getMessage(), e);
+                return;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                fcmTaskExecutor.execute(() -> send(batch));
+            } catch (TaskRejectedException e) {
+                notificationOutboxService.release(outboxIds(batch));
+                log.warn("FCM 실행기 포화로 알림 발송 보류: count = {}", batch.size());
+                return;
+            }
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    void send(List<PendingNotification> batch) {
+        List<Long> sent = new ArrayList<>(batch.size());
+        List<Long> failed = new ArrayList<>();
+        for (PendingNotification notification : batch) {
+            try {
+                if (fcmService.deliverLetterArrivalNotification(
+                        notification.getReceiverId(), notification.getSenderName())) {
+                    sent.add(notification.getOutboxId());
+                } else {
+                    failed.add(notification.getOutboxId());
+                }
+            } catch (Exception e) {
+                log.warn("알림 발송 실패: outboxId = {}, error = {}", notification.getOutboxId(), e.getMessage());
+                failed.add(notification.getOutboxId());
+            }
+        }
+        notificationOutboxService.complete(sent);
+        if (!failed.isEmpty()) {
+            notificationOutboxService.retryLater(failed);
+            log.warn("알림 일시 실패, 재시도 대기: count = {}", failed.size());
+        }
+    }
+
+    private static List<Long> outboxIds(List<PendingNotification> batch) {
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (PendingNotification notification : batch) {
+            ids.add(notification.getOutboxId());
+        }
+        return ids;
+    }
+}
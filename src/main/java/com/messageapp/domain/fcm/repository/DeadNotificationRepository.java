@@ -0,0 +1,36 @@
+package com.messageapp.domain.fcm.repository;
+
+import com.messageapp.domain.fcm.entity.DeadNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 발송 포기 알림 저장소
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see DeadNotification
+ */
+public interface DeadNotificationRepository extends JpaRepository<DeadNotification, Long> {
+
+    /**
+     * 아웃박스 행을 발송 포기 테이블로 복사합니다.
+     *
+     * <p>같은 트랜잭션에서 아웃박스 행을 잠근 뒤 호출하고, 이후 아웃박스 행을 삭제해야 합니다.</p>
+     *
+     * @param outboxIds 잠긴 아웃박스 ID 목록
+     * @param deadAt 발송 포기 시각
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_outbox_dead (outbox_id, receiver_id, sender_name, attempts, " +
+            "created_at, dead_at) " +
+            "SELECT outbox_id, receiver_id, sender_name, attempts, created_at, :deadAt " +
+            "FROM notification_outbox WHERE outbox_id IN (:outboxIds)", nativeQuery = true)
+    int copyFromOutbox(@Param("outboxIds") Collection<Long> outboxIds, @Param("deadAt") LocalDateTime deadAt);
+}
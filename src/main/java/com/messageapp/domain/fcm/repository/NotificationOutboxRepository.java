@@ -0,0 +1,66 @@
+package com.messageapp.domain.fcm.repository;
+
+import com.messageapp.domain.fcm.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 가져갈 수 있는 아웃박스 행을 오래된 순으로 잠그고 조회합니다 (SKIP LOCKED).
+     *
+     * @param now 기준 시각
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 잠긴 아웃박스 행 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.availableAt <= :now ORDER BY o.availableAt")
+    List<NotificationOutbox> findAvailableForUpdateSkipLocked(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 아웃박스 행을 다시 가져갈 수 있는 시각을 변경합니다.
+     *
+     * @param ids 아웃박스 ID 목록
+     * @param availableAt 다시 가져갈 수 있는 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.availableAt = :availableAt WHERE o.id IN :ids")
+    int rescheduleByIdIn(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 실행기 포화로 발송하지 못한 아웃박스 행을 돌려놓습니다.
+     *
+     * <p>임대 시 늘린 시도 횟수를 되돌리므로 발송을 시도하지 않은 임대는 시도 횟수에 포함되지 않습니다.</p>
+     *
+     * @param ids 아웃박스 ID 목록
+     * @param availableAt 다시 가져갈 수 있는 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.attempts = o.attempts - 1, o.availableAt = :availableAt " +
+            "WHERE o.id IN :ids AND o.attempts > 0")
+    int releaseByIdIn(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 아웃박스 행을 삭제합니다.
+     *
+     * @param ids 아웃박스 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -11,4 +11,17 @@ public interface FcmService {
     void sendNotification(Long receiverId, String title, String body);
 
     void sendLetterArrivalNotification(Long receiverId, String senderName);
+
+    /**
+     * 편지 도착 알림을 호출 스레드에서 즉시 발송합니다.
+     *
+     * <p>알림 아웃박스 릴레이가 발송 완료 후 아웃박스 행을 지우기 위해 사용합니다.
+     * 일시적인 FCM 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED 등)가 난 디바이스가 있으면
+     * false를 반환하며, 다시 발송하면 이미 받은 디바이스에도 중복 발송될 수 있습니다 (at-least-once).</p>
+     *
+     * @param receiverId 수신자 ID
+     * @param senderName 발신자 닉네임
+     * @return 발송이 끝났으면 true (토큰 없음/무효 토큰 포함), 다시 시도해야 하면 false
+     */
+    boolean deliverLetterArrivalNotification(Long receiverId, String senderName);
 }
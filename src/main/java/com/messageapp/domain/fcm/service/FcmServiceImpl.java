@@ -4,6 +4,7 @@ import com.google.firebase.messaging.*;
 import com.messageapp.domain.fcm.dto.DeviceTokenRequest;
 import com.messageapp.domain.fcm.entity.DeviceToken;
 import com.messageapp.domain.fcm.repository.DeviceTokenRepository;
+import com.messageapp.domain.letter.service.UnreadCountService;
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.domain.member.repository.MemberRepository;
 import com.messageapp.global.exception.business.member.MemberNotFoundException;
@@ -14,7 +15,9 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -22,9 +25,16 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class FcmServiceImpl implements FcmService {
 
+    /** 다시 발송하면 성공할 수 있는 FCM 오류 */
+    private static final Set<MessagingErrorCode> TRANSIENT_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED);
+
     private final DeviceTokenRepository deviceTokenRepository;
     private final MemberRepository memberRepository;
     private final FirebaseMessaging firebaseMessaging;
+    private final UnreadCountService unreadCountService;
 
     @Override
     @Transactional
@@ -83,18 +93,45 @@ public class FcmServiceImpl implements FcmService {
     @Override
     @Async("fcmTaskExecutor")
     public void sendNotification(Long receiverId, String title, String body) {
+        deliver(receiverId, title, body);
+    }
+
+    @Override
+    @Async("fcmTaskExecutor")
+    public void sendLetterArrivalNotification(Long receiverId, String senderName) {
+        deliverLetterArrivalNotification(receiverId, senderName);
+    }
+
+    @Override
+    public boolean deliverLetterArrivalNotification(Long receiverId, String senderName) {
+        String title = "새 편지가 도착했어요!";
+        String body = senderName + "님이 보낸 편지가 도착했습니다.";
+        // 내부 호출이므로 @Async 프록시를 거치지 않고 호출 스레드에서 발송
+        return deliver(receiverId, title, body);
+    }
+
+    /**
+     * 수신자의 모든 디바이스에 알림을 발송합니다.
+     *
+     * @return 일시적인 오류로 실패한 디바이스가 없으면 true
+     */
+    private boolean deliver(Long receiverId, String title, String body) {
         if (firebaseMessaging == null) {
             log.warn("FirebaseMessaging이 초기화되지 않아 푸시 알림을 발송할 수 없습니다.");
-            return;
+            return true;
         }
 
         List<DeviceToken> deviceTokens = deviceTokenRepository.findByMemberId(receiverId);
 
         if (deviceTokens.isEmpty()) {
             log.debug("수신자의 등록된 디바이스 토큰이 없습니다: receiverId = {}", receiverId);
-            return;
+            return true;
         }
 
+        // 앱 아이콘 배지에 실제 미읽음 편지 수 표시
+        int badge = unreadCountService.getUnreadCount(receiverId);
+
+        boolean completed = true;
         for (DeviceToken deviceToken : deviceTokens) {
             try {
                 Message message = Message.builder()
@@ -106,7 +143,7 @@ public class FcmServiceImpl implements FcmService {
                         .setApnsConfig(ApnsConfig.builder()
                                 .setAps(Aps.builder()
                                         .setSound("default")
-                                        .setBadge(1)
+                                        .setBadge(badge)
                                         .build())
                                 .build())
                         .setAndroidConfig(AndroidConfig.builder()
@@ -120,29 +157,34 @@ public class FcmServiceImpl implements FcmService {
                 log.info("FCM 발송 성공: receiverId = {}, messageId = {}", receiverId, response);
 
             } catch (FirebaseMessagingException e) {
-                handleFcmException(deviceToken, e);
+                if (!handleFcmException(deviceToken, e)) {
+                    completed = false;
+                }
             }
         }
+        return completed;
     }
 
-    @Override
-    @Async("fcmTaskExecutor")
-    public void sendLetterArrivalNotification(Long receiverId, String senderName) {
-        String title = "새 편지가 도착했어요!";
-        String body = senderName + "님이 보낸 편지가 도착했습니다.";
-        sendNotification(receiverId, title, body);
-    }
-
-    private void handleFcmException(DeviceToken deviceToken, FirebaseMessagingException e) {
+    /**
+     * FCM 오류를 처리합니다.
+     *
+     * @return 다시 발송해도 소용없으면 true, 일시적인 오류라 다시 발송해야 하면 false
+     */
+    private boolean handleFcmException(DeviceToken deviceToken, FirebaseMessagingException e) {
         MessagingErrorCode errorCode = e.getMessagingErrorCode();
 
         if (errorCode == MessagingErrorCode.UNREGISTERED ||
             errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
             log.warn("유효하지 않은 FCM 토큰 삭제: token = {}", deviceToken.getFcmToken());
             deviceTokenRepository.delete(deviceToken);
-        } else {
-            log.error("FCM 발송 실패: token = {}, error = {}",
-                    deviceToken.getFcmToken(), e.getMessage());
+            return true;
+        }
+        if (TRANSIENT_ERRORS.contains(errorCode)) {
+            log.warn("FCM 일시 오류: token = {}, errorCode = {}", deviceToken.getFcmToken(), errorCode);
+            return false;
         }
+        log.error("FCM 발송 실패: token = {}, error = {}",
+                deviceToken.getFcmToken(), e.getMessage());
+        return true;
     }
 }
@@ -0,0 +1,134 @@
+package com.messageapp.domain.fcm.service;
+
+import com.messageapp.domain.fcm.dto.PendingNotification;
+import com.messageapp.domain.fcm.entity.NotificationOutbox;
+import com.messageapp.domain.fcm.event.NotificationEnqueuedEvent;
+import com.messageapp.domain.fcm.repository.DeadNotificationRepository;
+import com.messageapp.domain.fcm.repository.NotificationOutboxRepository;
+import com.messageapp.global.config.NotificationOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 서비스
+ *
+ * <p>편지 발송 트랜잭션 안에서 알림 요청을 적재하고, 릴레이에 임대/완료/재시도 연산을 제공합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.fcm.outbox.NotificationOutboxRelay
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final DeadNotificationRepository deadNotificationRepository;
+    private final NotificationOutboxProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 편지 도착 알림을 적재합니다.
+     *
+     * <p>호출자의 트랜잭션에 참여하므로 편지와 함께 커밋되거나 롤백됩니다.</p>
+     *
+     * @param receiverId 알림 수신자 ID
+     * @param senderName 발신자 닉네임
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueLetterArrival(Long receiverId, String senderName) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .senderName(senderName)
+                .build());
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent());
+    }
+
+    /**
+     * 발송할 알림을 임대합니다.
+     *
+     * <p>다른 인스턴스가 잠근 행은 건너뛰며, 최대 시도 횟수에 도달한 행은 발송을 포기하고
+     * notification_outbox_dead 테이블로 옮깁니다.</p>
+     *
+     * @param batchSize 최대 임대 수
+     * @return 임대한 알림 목록
+     */
+    @Transactional
+    public List<PendingNotification> lease(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> rows = notificationOutboxRepository.findAvailableForUpdateSkipLocked(
+                now, PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseUntil = now.plus(properties.getLease());
+        List<PendingNotification> leased = new ArrayList<>(rows.size());
+        List<Long> abandoned = new ArrayList<>();
+        for (NotificationOutbox row : rows) {
+            if (row.getAttempts() >= properties.getMaxAttempts()) {
+                abandoned.add(row.getId());
+                continue;
+            }
+            row.lease(leaseUntil);
+            leased.add(new PendingNotification(row.getId(), row.getReceiverId(), row.getSenderName()));
+        }
+
+        if (!abandoned.isEmpty()) {
+            deadNotificationRepository.copyFromOutbox(abandoned, now);
+            notificationOutboxRepository.deleteByIdIn(abandoned);
+            log.error("알림 발송 포기 (최대 시도 횟수 초과): count = {}, outboxIds = {}", abandoned.size(), abandoned);
+        }
+        return leased;
+    }
+
+    /**
+     * 발송이 끝난 알림을 삭제합니다.
+     *
+     * @param outboxIds 아웃박스 ID 목록
+     */
+    @Transactional
+    public void complete(Collection<Long> outboxIds) {
+        if (!outboxIds.isEmpty()) {
+            notificationOutboxRepository.deleteByIdIn(outboxIds);
+        }
+    }
+
+    /**
+     * 발송에 실패한 알림을 재시도 대기 후 다시 가져갈 수 있게 합니다.
+     *
+     * <p>임대 시 늘린 시도 횟수는 유지되므로 실패가 반복되면 결국 발송을 포기합니다.</p>
+     *
+     * @param outboxIds 아웃박스 ID 목록
+     */
+    @Transactional
+    public void retryLater(Collection<Long> outboxIds) {
+        if (!outboxIds.isEmpty()) {
+            notificationOutboxRepository.rescheduleByIdIn(
+                    outboxIds, LocalDateTime.now().plus(properties.getRetryBackoff()));
+        }
+    }
+
+    /**
+     * 발송을 시도하지 못한 알림(FCM 실행기 포화)을 재시도 대기 후 다시 가져갈 수 있게 합니다.
+     *
+     * <p>시도 횟수를 되돌리므로 실행기 포화가 길어져도 알림이 포기되지 않습니다.</p>
+     *
+     * @param outboxIds 아웃박스 ID 목록
+     */
+    @Transactional
+    public void release(Collection<Long> outboxIds) {
+        if (!outboxIds.isEmpty()) {
+            notificationOutboxRepository.releaseByIdIn(
+                    outboxIds, LocalDateTime.now().plus(properties.getRetryBackoff()));
+        }
+    }
+}
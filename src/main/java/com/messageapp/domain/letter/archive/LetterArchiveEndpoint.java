@@ -0,0 +1,30 @@
+package com.messageapp.domain.letter.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 편지 보관 작업 조회용 actuator 엔드포인트
+ *
+ * <p>{@code GET /actuator/archive}로 현재(또는 마지막) 보관 작업의 커서 위치와
+ * 처리한 편지 수를 확인할 수 있습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "archive")
+@RequiredArgsConstructor
+public class LetterArchiveEndpoint {
+
+    private final LetterArchiver letterArchiver;
+
+    @ReadOperation
+    public Map<String, Object> archive() {
+        return letterArchiver.stats();
+    }
+}
@@ -0,0 +1,46 @@
+package com.messageapp.domain.letter.archive;
+
+import com.messageapp.domain.letter.repository.ArchivedLetterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 편지 보관 청크 처리기
+ *
+ * <p>청크 하나를 짧은 트랜잭션 하나로 잠금 → 복사 → 제거 기록 → 삭제합니다.
+ * 제거 기록({@code letter_removals})은 수신함 동기화가 삭제된 편지를 클라이언트에 알리는 데 사용됩니다.
+ * 복사와 삭제가 함께 커밋되거나 롤백되므로 작업이 어느 시점에 중단되어도
+ * 편지가 양쪽에 모두 있거나 어디에도 없는 상태가 생기지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+class LetterArchiveWriter {
+
+    private final ArchivedLetterRepository archivedLetterRepository;
+
+    /**
+     * 후보 편지 중 보관 가능한 편지를 보관 테이블로 옮깁니다.
+     *
+     * @param candidateIds 후보 편지 ID 목록
+     * @return 옮긴 편지 수
+     */
+    @Transactional
+    public int archive(Collection<Long> candidateIds) {
+        List<Long> locked = archivedLetterRepository.lockArchivable(candidateIds);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        archivedLetterRepository.copyToArchive(locked, now);
+        archivedLetterRepository.recordRemovals(locked, now);
+        return archivedLetterRepository.deleteLetters(locked);
+    }
+}
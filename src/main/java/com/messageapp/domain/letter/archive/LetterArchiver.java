@@ -0,0 +1,245 @@
+package com.messageapp.domain.letter.archive;
+
+import com.messageapp.domain.letter.dto.ArchiveCandidate;
+import com.messageapp.domain.letter.repository.LetterRepository;
+import com.messageapp.global.config.LetterArchiveProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 읽은 편지 보관 작업
+ *
+ * <p>읽은 지 {@code retention}이 지났고 보관함에 담기거나 신고되지 않은 READ 편지를
+ * {@code letters_archive} 테이블로 옮깁니다. letters에는 배달/미읽음 편지 위주의 작은 행 집합만 남아
+ * 수신함 조회가 읽는 B-tree가 커지지 않습니다.</p>
+ *
+ * <h3>처리 방식:</h3>
+ * <ul>
+ *   <li>{@code (read_at, letter_id)} keyset 순서로 {@code chunk-size}개씩 후보를 읽음 (OFFSET 없음)</li>
+ *   <li>청크마다 짧은 트랜잭션 하나로 잠금 → 복사 → 삭제 ({@link LetterArchiveWriter})</li>
+ *   <li>청크 처리 시간 × {@code throttle-ratio}만큼 쉬어 포그라운드 쿼리와 DB를 나눠 씀</li>
+ *   <li>{@code max-run-duration}을 넘기면 멈추고 다음 실행에서 이어서 처리</li>
+ * </ul>
+ *
+ * <p>스케줄러는 실행을 시작만 하고, 작업 자체는 전용 실행기({@code letterArchiveExecutor})에서 돌기 때문에
+ * 청크 사이 휴식이 공유 스케줄러 스레드를 붙잡지 않습니다.</p>
+ *
+ * <p>옮긴 편지는 letters에서 사라지므로 커서를 따로 저장하지 않아도
+ * 서버가 중간에 내려간 뒤 다음 실행이 처음부터 다시 훑으면 남은 편지부터 이어집니다.
+ * 진행 상황은 {@code letter.archive.*} 메트릭과 {@code GET /actuator/archive}로 확인할 수 있습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see LetterArchiveProperties
+ */
+@Slf4j
+@Component
+public class LetterArchiver {
+
+    /** keyset 커서 시작값 */
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LetterRepository letterRepository;
+    private final LetterArchiveWriter letterArchiveWriter;
+    private final LetterArchiveProperties properties;
+    private final Executor letterArchiveExecutor;
+
+    private final Counter archivedCounter;
+    private final Counter skippedCounter;
+    private final Counter failureCounter;
+    private final Timer chunkTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /** 현재(또는 마지막) 실행 진행 상황 */
+    private volatile RunProgress progress = new RunProgress(null);
+
+    public LetterArchiver(LetterRepository letterRepository,
+                          LetterArchiveWriter letterArchiveWriter,
+                          LetterArchiveProperties properties,
+                          MeterRegistry meterRegistry,
+                          @Qualifier("letterArchiveExecutor") Executor letterArchiveExecutor) {
+        this.letterRepository = letterRepository;
+        this.letterArchiveWriter = letterArchiveWriter;
+        this.properties = properties;
+        this.letterArchiveExecutor = letterArchiveExecutor;
+        this.archivedCounter = Counter.builder("letter.archive.archived")
+                .description("보관 테이블로 옮긴 편지 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("letter.archive.skipped")
+                .description("보관함/신고/잠금으로 건너뛴 후보 편지 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("letter.archive.failures")
+                .description("실패한 보관 청크 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("letter.archive.chunk")
+                .description("보관 청크 트랜잭션 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("letter.archive.running", running, r -> r.get() ? 1 : 0)
+                .description("보관 작업 실행 중 여부")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보관 작업을 전용 실행기에서 시작합니다.
+     *
+     * <p>이전 실행이 아직 진행 중이면 건너뜁니다.</p>
+     */
+    @Scheduled(cron = "${letter.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            letterArchiveExecutor.execute(() -> {
+                try {
+                    run();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("편지 보관 시작 실패 (실행기 거절): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 상황을 반환합니다.
+     *
+     * @return 통계 정보 (actuator 노출용)
+     */
+    public Map<String, Object> stats() {
+        RunProgress current = progress;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("running", running.get());
+        stats.put("startedAt", current.startedAt);
+        stats.put("finishedAt", current.finishedAt);
+        stats.put("cursorReadAt", current.cursorReadAt);
+        stats.put("cursorLetterId", current.cursorLetterId);
+        stats.put("chunks", current.chunks);
+        stats.put("archived", current.archived);
+        stats.put("skipped", current.skipped);
+        stats.put("lastError", current.lastError);
+        stats.put("archivedTotal", (long) archivedCounter.count());
+        return stats;
+    }
+
+    private void run() {
+        RunProgress run = new RunProgress(LocalDateTime.now());
+        progress = run;
+
+        LocalDateTime cutoff = run.startedAt.minus(properties.getRetention());
+        long deadline = System.nanoTime() + properties.getMaxRunDuration().toNanos();
+        LocalDateTime lastReadAt = CURSOR_START;
+        long lastId = 0L;
+
+        log.info("편지 보관 시작: cutoff = {}, chunkSize = {}", cutoff, properties.getChunkSize());
+        try {
+            while (System.nanoTime() < deadline) {
+                List<ArchiveCandidate> chunk = letterRepository.findArchiveCandidates(
+                        cutoff, lastReadAt, lastId, PageRequest.of(0, properties.getChunkSize()));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                long chunkNanos = archiveChunk(chunk, run);
+
+                ArchiveCandidate last = chunk.get(chunk.size() - 1);
+                lastReadAt = last.getReadAt();
+                lastId = last.getLetterId();
+                run.cursorReadAt = lastReadAt;
+                run.cursorLetterId = lastId;
+
+                if (chunk.size() < properties.getChunkSize()) {
+                    break;
+                }
+                pause(chunkNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("편지 보관 중단 (인터럽트): archived = {}", run.archived);
+        } catch (Exception e) {
+            run.lastError = e.getMessage();
+            log.error("편지 보관 실패, 다음 실행에서 이어서 처리: archived = {}, error = {}", run.archived, e.getMessage(), e);
+        } finally {
+            run.finishedAt = LocalDateTime.now();
+        }
+        log.info("편지 보관 종료: chunks = {}, archived = {}, skipped = {}", run.chunks, run.archived, run.skipped);
+    }
+
+    /**
+     * 청크 하나를 보관하고 처리 시간을 반환합니다.
+     *
+     * <p>실패한 청크는 건너뛰고 다음 청크로 진행하며, 다음 실행에서 다시 시도됩니다.</p>
+     */
+    private long archiveChunk(List<ArchiveCandidate> chunk, RunProgress run) {
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (ArchiveCandidate candidate : chunk) {
+            ids.add(candidate.getLetterId());
+        }
+
+        long start = System.nanoTime();
+        int archived;
+        try {
+            archived = letterArchiveWriter.archive(ids);
+        } catch (Exception e) {
+            failureCounter.increment();
+            run.lastError = e.getMessage();
+            log.warn("편지 보관 청크 실패, 다음 실행에서 재시도: firstId = {}, error = {}", ids.get(0), e.getMessage());
+            archived = 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        archivedCounter.increment(archived);
+        skippedCounter.increment(ids.size() - archived);
+        run.chunks++;
+        run.archived += archived;
+        run.skipped += ids.size() - archived;
+        return elapsed;
+    }
+
+    private void pause(long chunkNanos) throws InterruptedException {
+        long pauseNanos = Math.max(properties.getMinPause().toNanos(),
+                (long) (chunkNanos * properties.getThrottleRatio()));
+        TimeUnit.NANOSECONDS.sleep(pauseNanos);
+    }
+
+    /**
+     * 실행 한 번의 진행 상황 (보관 작업 스레드만 갱신)
+     */
+    private static final class RunProgress {
+
+        private final LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile LocalDateTime cursorReadAt;
+        private volatile Long cursorLetterId;
+        private volatile long chunks;
+        private volatile long archived;
+        private volatile long skipped;
+        private volatile String lastError;
+
+        private RunProgress(LocalDateTime startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.messageapp.domain.letter.delivery;
+
+import com.messageapp.domain.fcm.service.FcmService;
+import com.messageapp.domain.letter.dto.MatchedLetter;
+import com.messageapp.domain.letter.dto.ScheduledLetter;
+import com.messageapp.domain.letter.event.LetterScheduledEvent;
+import com.messageapp.domain.letter.repository.LetterRepository;
+import com.messageapp.domain.letter.service.ScheduledDeliveryService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 배달 스케줄러
+ *
+ * <p>SCHEDULED 편지 ID를 배달 예정 시각과 함께 {@link HierarchicalTimingWheel}에 보관하고,
+ * 1초마다 tick을 진행하여 만기된 편지를 배달 처리한 뒤 FCM 알림을 보냅니다.
+ * letters 테이블을 주기적으로 조회하지 않으며, DB 접근은 만기된 편지가 있을 때만 발생합니다.</p>
+ *
+ * <p>휠은 메모리에만 있으므로 시작 시 SCHEDULED 편지를 keyset 페이징으로 읽어 재구성합니다.
+ * 중지된 동안 만기된 편지는 첫 tick에서 바로 배달됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see QuietHoursPolicy
+ */
+@Slf4j
+@Component
+public class DeferredDeliveryScheduler {
+
+    private static final long TICK_MILLIS = 1_000L;
+
+    /** 한 트랜잭션에서 배달 처리하는 최대 편지 수 */
+    private static final int DELIVERY_BATCH_SIZE = 500;
+
+    /** 시작 시 예약 편지를 읽어오는 청크 크기 */
+    private static final int REBUILD_BATCH_SIZE = 10_000;
+
+    /** 배달 실패 시 재시도 지연 (밀리초) */
+    private static final long RETRY_DELAY_MILLIS = 30_000L;
+
+    private final LetterRepository letterRepository;
+    private final ScheduledDeliveryService scheduledDeliveryService;
+    private final FcmService fcmService;
+    private final HierarchicalTimingWheel wheel;
+
+    public DeferredDeliveryScheduler(LetterRepository letterRepository,
+                                     ScheduledDeliveryService scheduledDeliveryService,
+                                     FcmService fcmService) {
+        this.letterRepository = letterRepository;
+        this.scheduledDeliveryService = scheduledDeliveryService;
+        this.fcmService = fcmService;
+        this.wheel = new HierarchicalTimingWheel(TICK_MILLIS, System.currentTimeMillis());
+    }
+
+    /**
+     * DB의 SCHEDULED 편지로 타이밍 휠을 재구성합니다.
+     */
+    @PostConstruct
+    public void rebuild() {
+        long lastId = 0L;
+        while (true) {
+            List<ScheduledLetter> chunk = letterRepository.findScheduledAfter(
+                    lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (ScheduledLetter letter : chunk) {
+                wheel.add(letter.getLetterId(), toEpochMillis(letter.getDeliverAt()));
+            }
+            if (chunk.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).getLetterId();
+        }
+        log.info("예약 배달 휠 재구성 완료: pending = {}", wheel.size());
+    }
+
+    /**
+     * 배달 예약을 커밋 이후 휠에 추가합니다.
+     *
+     * @param event 편지 배달 예약 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLetterScheduled(LetterScheduledEvent event) {
+        wheel.add(event.getLetterId(), toEpochMillis(event.getDeliverAt()));
+    }
+
+    /**
+     * tick을 진행하고 만기된 편지를 배달합니다.
+     */
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void tick() {
+        List<Long> due = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), due::add);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < due.size(); from += DELIVERY_BATCH_SIZE) {
+            List<Long> batch = due.subList(from, Math.min(from + DELIVERY_BATCH_SIZE, due.size()));
+            try {
+                List<MatchedLetter> delivered = scheduledDeliveryService.deliver(batch);
+                for (MatchedLetter letter : delivered) {
+                    fcmService.sendLetterArrivalNotification(letter.getReceiverId(), letter.getSenderName());
+                }
+            } catch (Exception e) {
+                log.error("예약 편지 배달 실패, {}ms 후 재시도: count = {}, error = {}",
+                        RETRY_DELAY_MILLIS, batch.size(), e.getMessage());
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+                for (Long letterId : batch) {
+                    wheel.add(letterId, retryAt);
+                }
+            }
+        }
+    }
+
+    /**
+     * 휠 크기와 메모리 사용량을 반환합니다.
+     *
+     * @return 통계 정보 (actuator 노출용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", wheel.size());
+        stats.put("memoryBytes", wheel.estimatedBytes());
+        return stats;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,206 @@
+package com.messageapp.domain.letter.delivery;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * <p>(ID, 만기 시각) 쌍을 보관하다가 만기가 되면 꺼내 줍니다.
+ * 슬롯 64개짜리 휠 {@value #LEVELS}단을 두고, 만기까지 남은 tick 수에 따라 단을 정합니다.
+ * 상위 단의 슬롯 차례가 오면 그 슬롯의 엔트리를 하위 단으로 내려보내므로(cascade)
+ * 추가/만기 처리 모두 엔트리 수와 무관하게 상수 시간에 가깝게 동작합니다.</p>
+ *
+ * <h3>메모리:</h3>
+ * <p>슬롯마다 엔트리 객체 대신 {@code long[]} 두 개(ID, 만기 시각)를 두므로
+ * 엔트리당 약 16바이트(+배열 여유분)만 사용합니다. 수십만 건도 수 MB 수준입니다.</p>
+ *
+ * <h3>범위:</h3>
+ * <p>tick이 1초일 때 각 단은 64초, 약 68분, 약 73시간, 약 194일을 담당합니다.
+ * 최상위 단을 넘는 만기는 최상위 단 마지막 위치에 넣고, 꺼낼 때 만기 전이면 다시 넣습니다.</p>
+ *
+ * <p>모든 메서드는 동기화되어 있습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public class HierarchicalTimingWheel {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final Bucket[][] wheels = new Bucket[LEVELS][SLOTS];
+
+    /** 마지막으로 처리한 tick */
+    private long currentTick;
+
+    private int size;
+
+    /**
+     * @param tickMillis tick 간격 (밀리초)
+     * @param startMillis 시작 시각 (epoch millis)
+     */
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+    }
+
+    /**
+     * 엔트리를 추가합니다.
+     *
+     * <p>이미 지난 만기는 다음 {@link #advance} 호출에서 바로 만기 처리됩니다.</p>
+     *
+     * @param id 엔트리 ID
+     * @param dueMillis 만기 시각 (epoch millis)
+     */
+    public synchronized void add(long id, long dueMillis) {
+        place(id, dueMillis, currentTick + 1);
+        size++;
+    }
+
+    /**
+     * 현재 시각까지 tick을 진행하며 만기된 엔트리 ID를 전달합니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param expired 만기된 엔트리 ID를 받을 콜백
+     * @return 만기 처리된 엔트리 수
+     */
+    public synchronized int advance(long nowMillis, LongConsumer expired) {
+        long targetTick = nowMillis / tickMillis;
+        int fired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(currentTick);
+
+            Bucket bucket = wheels[0][(int) (currentTick & SLOT_MASK)];
+            int count = bucket.size;
+            if (count == 0) {
+                continue;
+            }
+            long[] ids = Arrays.copyOf(bucket.ids, count);
+            long[] dues = Arrays.copyOf(bucket.dues, count);
+            bucket.clear();
+
+            for (int i = 0; i < count; i++) {
+                if (toTick(dues[i]) > currentTick) {
+                    place(ids[i], dues[i], currentTick + 1);
+                    continue;
+                }
+                size--;
+                fired++;
+                expired.accept(ids[i]);
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * 보관 중인 엔트리 수를 반환합니다.
+     *
+     * @return 엔트리 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 슬롯 배열이 차지하는 메모리(추정)를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public synchronized long estimatedBytes() {
+        long bytes = 0;
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                bytes += 16L * bucket.ids.length + 48;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 상위 단 슬롯의 차례가 되면 엔트리를 하위 단으로 내려보냅니다.
+     */
+    private void cascade(long tick) {
+        for (int level = 1; level < LEVELS; level++) {
+            long unit = 1L << (SLOT_BITS * level);
+            if ((tick & (unit - 1)) != 0) {
+                return;
+            }
+            Bucket bucket = wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            int count = bucket.size;
+            if (count == 0) {
+                continue;
+            }
+            long[] ids = Arrays.copyOf(bucket.ids, count);
+            long[] dues = Arrays.copyOf(bucket.dues, count);
+            bucket.clear();
+            for (int i = 0; i < count; i++) {
+                place(ids[i], dues[i], tick);
+            }
+        }
+    }
+
+    /**
+     * 만기까지 남은 tick 수에 맞는 단과 슬롯에 엔트리를 넣습니다.
+     *
+     * @param earliestTick 배치 가능한 가장 이른 tick (cascade 중에는 현재 tick의 슬롯도 아직 처리 전)
+     */
+    private void place(long id, long dueMillis, long earliestTick) {
+        long dueTick = Math.max(toTick(dueMillis), earliestTick);
+        long delta = dueTick - currentTick;
+
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (SLOT_BITS * (level + 1)))) {
+                wheels[level][(int) ((dueTick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(id, dueMillis);
+                return;
+            }
+        }
+
+        // 최상위 단 범위를 넘는 만기: 최상위 단에서 가장 늦게 돌아오는 슬롯에 넣고 꺼낼 때 재배치
+        int top = LEVELS - 1;
+        long farTick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        wheels[top][(int) ((farTick >>> (SLOT_BITS * top)) & SLOT_MASK)].add(id, dueMillis);
+    }
+
+    /** 만기 시각을 tick으로 올림 변환 (만기 전에 꺼내지지 않도록) */
+    private long toTick(long millis) {
+        return (millis + tickMillis - 1) / tickMillis;
+    }
+
+    /**
+     * 슬롯 하나에 담긴 엔트리 (primitive 배열)
+     */
+    private static final class Bucket {
+        private static final long[] EMPTY = new long[0];
+
+        private long[] ids = EMPTY;
+        private long[] dues = EMPTY;
+        private int size;
+
+        private void add(long id, long due) {
+            if (size == ids.length) {
+                int capacity = Math.max(8, ids.length + (ids.length >> 1));
+                ids = Arrays.copyOf(ids, capacity);
+                dues = Arrays.copyOf(dues, capacity);
+            }
+            ids[size] = id;
+            dues[size] = due;
+            size++;
+        }
+
+        private void clear() {
+            ids = EMPTY;
+            dues = EMPTY;
+            size = 0;
+        }
+    }
+}
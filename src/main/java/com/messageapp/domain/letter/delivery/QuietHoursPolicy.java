@@ -0,0 +1,74 @@
+package com.messageapp.domain.letter.delivery;
+
+import com.messageapp.global.config.MatchingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 방해 금지 시간 정책
+ *
+ * <p>방해 금지 시간대에 배정된 편지는 바로 배달하지 않고 종료 시각 이후로 미룹니다.
+ * 종료 시각에 알림이 한꺼번에 몰리지 않도록 {@code spread} 범위 안에서 무작위로 분산합니다.</p>
+ *
+ * <p>회원별 시간대 정보가 없으므로 {@code matching.quiet-hours.zone}(기본값 Asia/Seoul)을 기준으로
+ * 판단합니다. 입력과 반환 시각은 다른 배정 시각과 같이 서버(JVM) 기본 시간대의 로컬 시각이며,
+ * 서버 시간대가 설정 시간대와 달라도 방해 금지 구간은 설정 시간대 기준으로 계산됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see DeferredDeliveryScheduler
+ */
+@Component
+@RequiredArgsConstructor
+public class QuietHoursPolicy {
+
+    private final MatchingProperties matchingProperties;
+
+    /**
+     * 방해 금지 시간대이면 배달 예정 시각을 반환합니다.
+     *
+     * @param now 현재 시각 (서버 기본 시간대)
+     * @return 배달 예정 시각 (서버 기본 시간대), 바로 배달해도 되면 null
+     */
+    public LocalDateTime deferUntil(LocalDateTime now) {
+        MatchingProperties.QuietHoursProperties quietHours = matchingProperties.getQuietHours();
+        if (!quietHours.isEnabled()) {
+            return null;
+        }
+
+        ZoneId serverZone = ZoneId.systemDefault();
+        LocalDateTime local = now.atZone(serverZone).withZoneSameInstant(quietHours.getZone()).toLocalDateTime();
+        LocalTime start = quietHours.getStart();
+        LocalTime end = quietHours.getEnd();
+        LocalTime time = local.toLocalTime();
+
+        LocalDateTime endAt;
+        if (start.isBefore(end)) {
+            // 예: 01:00 ~ 07:00 (같은 날)
+            if (time.isBefore(start) || !time.isBefore(end)) {
+                return null;
+            }
+            endAt = local.toLocalDate().atTime(end);
+        } else {
+            // 예: 23:00 ~ 08:00 (자정을 넘김)
+            if (!time.isBefore(start)) {
+                endAt = local.toLocalDate().plusDays(1).atTime(end);
+            } else if (time.isBefore(end)) {
+                endAt = local.toLocalDate().atTime(end);
+            } else {
+                return null;
+            }
+        }
+
+        long spreadSeconds = quietHours.getSpread().toSeconds();
+        long offset = spreadSeconds > 0 ? ThreadLocalRandom.current().nextLong(spreadSeconds) : 0;
+        ZonedDateTime deliverAt = endAt.plusSeconds(offset).atZone(quietHours.getZone());
+        return deliverAt.withZoneSameInstant(serverZone).toLocalDateTime();
+    }
+}
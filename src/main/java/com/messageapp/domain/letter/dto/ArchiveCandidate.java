@@ -0,0 +1,20 @@
+package com.messageapp.domain.letter.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 대상 편지 조회용 프로젝션
+ *
+ * <p>보관 작업의 keyset 커서 {@code (read_at, letter_id)}로 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface ArchiveCandidate {
+
+    /** 편지 ID */
+    Long getLetterId();
+
+    /** 읽음 처리 시각 */
+    LocalDateTime getReadAt();
+}
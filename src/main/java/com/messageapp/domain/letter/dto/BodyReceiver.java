@@ -0,0 +1,18 @@
+package com.messageapp.domain.letter.dto;
+
+/**
+ * 편지 본문을 받은 수신자 프로젝션
+ *
+ * <p>만료 재배정 시 같은 본문(body_id)을 이미 받은 수신자를 후보에서 제외하기 위해 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface BodyReceiver {
+
+    /** 조회 기준 편지 ID */
+    Long getLetterId();
+
+    /** 같은 본문을 받은 수신자 ID */
+    Long getReceiverId();
+}
@@ -0,0 +1,75 @@
+package com.messageapp.domain.letter.dto;
+
+import com.messageapp.global.exception.validation.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 수신함 페이지 커서
+ *
+ * <p>이전 페이지 마지막 편지의 {@code (created_at, letter_id)}를 담습니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 전달되므로 내부 형식은 노출되지 않으며,
+ * 해석할 수 없는 값이 들어오면 {@link InvalidCursorException}이 발생합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class InboxCursor {
+
+    private static final char SEPARATOR = ',';
+
+    /** 마지막 편지의 생성 시각 */
+    private final LocalDateTime createdAt;
+
+    /** 마지막 편지 ID (생성 시각이 같은 편지 사이의 순서) */
+    private final Long letterId;
+
+    /**
+     * 페이지의 마지막 편지로 다음 페이지 커서를 만듭니다.
+     *
+     * @param last 페이지의 마지막 편지
+     * @return 다음 페이지 커서
+     */
+    public static InboxCursor after(InboxLetter last) {
+        return new InboxCursor(last.getCreatedAt(), last.getLetterId());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param token 클라이언트가 보낸 커서 문자열
+     * @return 커서
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static InboxCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            return new InboxCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * 클라이언트에 전달할 커서 문자열을 만듭니다.
+     *
+     * @return Base64(URL-safe, 패딩 없음) 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + letterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신함 목록 조회 결과
+ *
+ * <p>목록 한 줄에 필요한 편지와 발신자 컬럼만 조인 쿼리로 읽은 결과입니다.
+ * 편지 내용(TEXT)은 읽지 않으며, 엔티티를 영속성 컨텍스트에 올리지 않으므로
+ * 지연 로딩과 변경 감지가 일어나지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class InboxLetter {
+
+    /** 편지 ID */
+    private final Long letterId;
+
+    /** 편지 작성 시각 (페이지 커서 기준) */
+    private final LocalDateTime createdAt;
+
+    /** 발신자 닉네임 */
+    private final String senderName;
+
+    /** 발신자 섬 이름 */
+    private final String senderIslandName;
+
+    /** 발신자 프로필 이미지 인덱스 */
+    private final Integer senderProfileImageIndex;
+}
@@ -0,0 +1,45 @@
+package com.messageapp.domain.letter.dto;
+
+import com.messageapp.domain.letter.entity.LetterStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신함 변경 조회 결과
+ *
+ * <p>동기화 토큰 이후 배달되었거나 상태가 바뀐 편지를 발신자 정보와 함께 읽은 결과입니다.
+ * 편지 내용(TEXT)은 읽지 않으며, 엔티티를 영속성 컨텍스트에 올리지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class LetterChange {
+
+    /** 편지 ID */
+    private final Long letterId;
+
+    /** 편지 상태 (DELIVERED, READ) */
+    private final LetterStatus status;
+
+    /** 발신자 닉네임 */
+    private final String senderName;
+
+    /** 발신자 섬 이름 */
+    private final String senderIslandName;
+
+    /** 발신자 프로필 이미지 인덱스 */
+    private final Integer senderProfileImageIndex;
+
+    /** 편지 작성 시각 */
+    private final LocalDateTime createdAt;
+
+    /** 읽음 처리 시각 */
+    private final LocalDateTime readAt;
+
+    /** 마지막 변경 시각 (동기화 토큰 기준) */
+    private final LocalDateTime lastModifiedAt;
+}
@@ -0,0 +1,51 @@
+package com.messageapp.domain.letter.dto;
+
+import com.messageapp.domain.letter.entity.LetterStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 편지 상세 조회 결과
+ *
+ * <p>편지, 본문, 내용, 발신자를 한 번의 조인 쿼리로 읽은 결과입니다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 지연 로딩과 변경 감지가 일어나지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class LetterDetail {
+
+    /** 편지 ID */
+    private final Long letterId;
+
+    /** 수신자 ID (배정 전에는 null) */
+    private final Long receiverId;
+
+    /** 편지 내용 */
+    private final String content;
+
+    /** 발신자 닉네임 */
+    private final String senderName;
+
+    /** 발신자 섬 이름 */
+    private final String senderIslandName;
+
+    /** 발신자 프로필 이미지 인덱스 */
+    private final Integer senderProfileImageIndex;
+
+    /** 편지 상태 */
+    private final LetterStatus status;
+
+    /** 편지 작성 시각 */
+    private final LocalDateTime createdAt;
+
+    /** 수신자 배정 시각 */
+    private final LocalDateTime matchedAt;
+
+    /** 읽음 처리 시각 */
+    private final LocalDateTime readAt;
+}
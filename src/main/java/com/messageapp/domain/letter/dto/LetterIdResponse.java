@@ -1,14 +1,16 @@
 package com.messageapp.domain.letter.dto;
 
-import com.messageapp.domain.letter.entity.Letter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 /**
  * 편지 ID 응답 DTO
  *
  * <p>수신 편지 목록 조회 시 반환되는 간략한 편지 정보입니다.
- * 상세 정보는 개별 조회 API를 통해 확인합니다.</p>
+ * 목록 표시에 필요한 발신자 정보만 포함하며, 내용은 개별 조회 API를 통해 확인합니다
+ * (개별 조회 시 읽음 처리됩니다).</p>
  *
  * @author MessageApp Team
  * @since 1.0
@@ -20,13 +22,26 @@ public class LetterIdResponse {
     /** 편지 ID */
     private Long letterId;
 
+    /** 발신자 닉네임 */
+    private String senderName;
+
+    /** 발신자 섬 이름 */
+    private String senderIslandName;
+
+    /** 발신자 프로필 이미지 인덱스 */
+    private Integer senderProfileImageIndex;
+
+    /** 편지 작성 시각 */
+    private LocalDateTime createdAt;
+
     /**
-     * Letter 엔티티로부터 LetterIdResponse를 생성합니다.
+     * 수신함 목록 조회 결과로부터 LetterIdResponse를 생성합니다.
      *
-     * @param letter 편지 엔티티
+     * @param letter 수신함 목록 조회 결과
      * @return 편지 ID 응답 DTO
      */
-    public static LetterIdResponse from(Letter letter) {
-        return new LetterIdResponse(letter.getId());
+    public static LetterIdResponse from(InboxLetter letter) {
+        return new LetterIdResponse(letter.getLetterId(), letter.getSenderName(),
+                letter.getSenderIslandName(), letter.getSenderProfileImageIndex(), letter.getCreatedAt());
     }
 }
@@ -0,0 +1,30 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 수신 편지 목록 페이지 응답 DTO
+ *
+ * <p>다음 페이지는 {@code nextCursor}를 {@code cursor} 파라미터로 넘겨 조회합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterPageResponse {
+
+    /** 편지 목록 (최신순) */
+    private List<LetterIdResponse> letters;
+
+    /** 다음 페이지 커서 (마지막 페이지이면 null) */
+    private String nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.messageapp.domain.letter.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class LetterReadRequest {
+
+    @NotEmpty(message = "읽음 처리할 편지 ID를 입력해주세요.")
+    @Size(max = 100, message = "한 번에 최대 100통까지 읽음 처리할 수 있습니다.")
+    private List<@NotNull Long> letterIds;
+}
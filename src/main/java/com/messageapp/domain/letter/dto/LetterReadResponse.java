@@ -0,0 +1,20 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 편지 일괄 읽음 처리 응답 DTO
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterReadResponse {
+
+    /** 새로 읽음 처리된 편지 수 (이미 읽었거나 본인 편지가 아닌 ID는 제외) */
+    private int readCount;
+}
@@ -70,6 +70,26 @@ public class LetterResponse {
                 .build();
     }
 
+    /**
+     * 편지 상세 조회 결과로부터 LetterResponse를 생성합니다.
+     *
+     * @param detail 편지 상세 조회 결과
+     * @return 편지 응답 DTO
+     */
+    public static LetterResponse from(LetterDetail detail) {
+        return LetterResponse.builder()
+                .letterId(detail.getLetterId())
+                .content(detail.getContent())
+                .senderName(detail.getSenderName())
+                .senderIslandName(detail.getSenderIslandName())
+                .senderProfileImageIndex(detail.getSenderProfileImageIndex())
+                .status(detail.getStatus())
+                .createdAt(detail.getCreatedAt())
+                .matchedAt(detail.getMatchedAt())
+                .readAt(detail.getReadAt())
+                .build();
+    }
+
     /**
      * 쉐도우 밴 처리된 편지 응답을 생성합니다.
      *
@@ -93,4 +113,27 @@ public class LetterResponse {
                 .readAt(null)
                 .build();
     }
+
+    /**
+     * 일괄 매칭 모드에서 쉐도우 밴 처리된 편지 응답을 생성합니다.
+     *
+     * <p>일괄 매칭 모드의 정상 발송 응답과 구분되지 않도록 WAITING 상태로 반환합니다.</p>
+     *
+     * @param sender 발신자 정보
+     * @param content 편지 내용
+     * @return 가짜 편지 응답 DTO
+     */
+    public static LetterResponse shadowBannedWaiting(com.messageapp.domain.member.entity.Member sender, String content) {
+        return LetterResponse.builder()
+                .letterId(-1L)
+                .content(content)
+                .senderName(sender.getName())
+                .senderIslandName(sender.getIslandName())
+                .senderProfileImageIndex(sender.getProfileImageIndex())
+                .status(LetterStatus.WAITING)
+                .createdAt(java.time.LocalDateTime.now())
+                .matchedAt(null)
+                .readAt(null)
+                .build();
+    }
 }
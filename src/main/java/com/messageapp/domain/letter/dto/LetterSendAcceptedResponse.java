@@ -0,0 +1,27 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 편지 발송 접수 응답 DTO
+ *
+ * <p>비동기 발송 모드에서 요청이 큐에 들어가면 202 Accepted와 함께 반환됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterSendAcceptedResponse {
+
+    /** 추적 ID */
+    private String trackingId;
+
+    /** 접수 시각 */
+    private LocalDateTime acceptedAt;
+}
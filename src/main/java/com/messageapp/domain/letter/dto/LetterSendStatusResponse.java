@@ -0,0 +1,47 @@
+package com.messageapp.domain.letter.dto;
+
+import com.messageapp.domain.letter.entity.QueuedLetterSend;
+import com.messageapp.domain.letter.entity.QueuedLetterSendStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 발송 요청 상태 응답 DTO
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterSendStatusResponse {
+
+    /** 추적 ID */
+    private String trackingId;
+
+    /** 요청 상태 (PENDING, SENT, FAILED) */
+    private QueuedLetterSendStatus status;
+
+    /** 발송된 편지 ID (SENT 상태에서만 존재) */
+    private Long letterId;
+
+    /** 접수 시각 */
+    private LocalDateTime acceptedAt;
+
+    /** 발송 완료 또는 포기 시각 */
+    private LocalDateTime completedAt;
+
+    /**
+     * 발송 대기 요청으로 응답을 생성합니다.
+     *
+     * @param row 발송 대기 요청
+     * @return 상태 응답
+     */
+    public static LetterSendStatusResponse from(QueuedLetterSend row) {
+        return new LetterSendStatusResponse(row.getTrackingId(), row.getStatus(), row.getLetterId(),
+                row.getCreatedAt(), row.getCompletedAt());
+    }
+}
@@ -0,0 +1,39 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 수신함 동기화 응답 DTO
+ *
+ * <p>다음 동기화는 {@code nextToken}을 {@code since} 파라미터로 넘겨 요청합니다.
+ * 같은 편지가 다시 전달될 수 있으므로 클라이언트는 편지 ID 기준으로 덮어쓰고,
+ * {@code removedLetterIds}의 편지는 삭제합니다. 한 응답 안에서 같은 편지는 마지막 변경만 포함되므로
+ * 두 목록에 동시에 나오지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterSyncResponse {
+
+    /** 변경된 편지 목록 (변경 시각 오름차순) */
+    private List<LetterChange> letters;
+
+    /** 수신함에서 빠진 편지 ID 목록 (재배정, 보관) */
+    private List<Long> removedLetterIds;
+
+    /** 다음 동기화 토큰 */
+    private String nextToken;
+
+    /** 남은 변경 존재 여부 (true면 nextToken으로 바로 이어서 요청) */
+    private boolean hasMore;
+
+    /** 처음부터 다시 동기화했는지 여부 (true면 클라이언트는 로컬 수신함을 비우고 이 응답부터 반영) */
+    private boolean reset;
+}
@@ -0,0 +1,30 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 매칭 결과
+ *
+ * <p>백그라운드 매처가 수신자를 배정했거나 예약 배달이 완료된 편지 한 건을 나타내며,
+ * 커밋 이후 FCM 알림 발송에 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class MatchedLetter {
+
+    /** 편지 ID */
+    private final Long letterId;
+
+    /** 수신자 ID */
+    private final Long receiverId;
+
+    /** 발신자 닉네임 */
+    private final String senderName;
+
+    /** 방해 금지 시간으로 배달이 예약되었는지 여부 (true면 지금 알림을 보내지 않음) */
+    private final boolean deferred;
+}
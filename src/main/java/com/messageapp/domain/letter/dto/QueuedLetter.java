@@ -0,0 +1,30 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발송 큐의 요청 한 건
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class QueuedLetter {
+
+    /** 테이블 대기 요청 ID */
+    private final Long queueId;
+
+    /** 추적 ID */
+    private final String trackingId;
+
+    /** 발신자 ID */
+    private final Long senderId;
+
+    /** Idempotency-Key (없으면 null) */
+    private final String idempotencyKey;
+
+    /** 편지 내용 */
+    private final String content;
+}
@@ -0,0 +1,18 @@
+package com.messageapp.domain.letter.dto;
+
+/**
+ * 수신자별 편지 수 프로젝션
+ *
+ * <p>수신자별 집계 쿼리 결과를 엔티티 로딩 없이 받기 위해 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface ReceiverLetterCount {
+
+    /** 수신자 ID */
+    Long getReceiverId();
+
+    /** 편지 수 */
+    Long getLetterCount();
+}
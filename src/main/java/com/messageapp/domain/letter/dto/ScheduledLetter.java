@@ -0,0 +1,20 @@
+package com.messageapp.domain.letter.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 예약 편지 조회용 프로젝션
+ *
+ * <p>시작 시 타이밍 휠 재구성에 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface ScheduledLetter {
+
+    /** 편지 ID */
+    Long getLetterId();
+
+    /** 배달 예정 시각 */
+    LocalDateTime getDeliverAt();
+}
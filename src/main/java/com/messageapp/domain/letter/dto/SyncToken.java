@@ -0,0 +1,121 @@
+package com.messageapp.domain.letter.dto;
+
+import com.messageapp.global.exception.validation.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 수신함 동기화 토큰
+ *
+ * <p>클라이언트가 마지막으로 받은 변경의 {@code (last_modified_at, letter_id)}를 담습니다.
+ * 제거 기록({@code letter_removals})도 {@code (removed_at, letter_id)}로 같은 순서에 섞여 전달됩니다.
+ * {@link InboxCursor}와 같이 Base64(URL-safe) 문자열로만 전달되며,
+ * 해석할 수 없는 값이 들어오면 {@link InvalidCursorException}이 발생합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SyncToken {
+
+    private static final char SEPARATOR = ',';
+
+    /** 토큰이 없을 때의 시작 위치 (수신함 전체) */
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** 마지막으로 받은 변경 시각 */
+    private final LocalDateTime lastModifiedAt;
+
+    /** 마지막으로 받은 편지 ID (변경 시각이 같은 편지 사이의 순서) */
+    private final Long letterId;
+
+    /**
+     * 수신함 전체를 받기 위한 시작 토큰을 만듭니다.
+     *
+     * @return 시작 토큰
+     */
+    public static SyncToken beginning() {
+        return new SyncToken(BEGINNING, 0L);
+    }
+
+    /**
+     * 마지막으로 전달한 변경으로 다음 토큰을 만듭니다.
+     *
+     * @param last 마지막으로 전달한 변경
+     * @return 다음 토큰
+     */
+    public static SyncToken after(LetterChange last) {
+        return of(last.getLastModifiedAt(), last.getLetterId());
+    }
+
+    /**
+     * 마지막으로 전달한 변경 위치로 다음 토큰을 만듭니다.
+     *
+     * @param lastModifiedAt 마지막으로 전달한 변경(또는 제거) 시각
+     * @param letterId 마지막으로 전달한 편지 ID
+     * @return 다음 토큰
+     */
+    public static SyncToken of(LocalDateTime lastModifiedAt, Long letterId) {
+        return new SyncToken(lastModifiedAt, letterId);
+    }
+
+    /**
+     * 모든 변경을 받은 클라이언트의 다음 토큰을 만듭니다.
+     *
+     * <p>지정한 시각의 모든 편지부터 다시 읽도록 편지 ID를 0으로 둡니다. 마지막 변경 위치와 관계없이
+     * 이 시각으로 전진하므로, 오래 변경이 없던 수신함도 토큰이 제거 기록 보관 기간 밖으로 밀려나지 않습니다.</p>
+     *
+     * @param horizon 이 시각 이전에 기록된 변경은 모두 커밋되어 전달되었다고 볼 수 있는 시각
+     * @return 다음 토큰
+     */
+    public static SyncToken caughtUpTo(LocalDateTime horizon) {
+        return new SyncToken(horizon, 0L);
+    }
+
+    /**
+     * 토큰 문자열을 해석합니다.
+     *
+     * @param token 클라이언트가 보낸 토큰 문자열
+     * @return 토큰
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            return new SyncToken(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * 처음부터 동기화하는 토큰인지 확인합니다.
+     *
+     * @return 시작 토큰이면 true
+     */
+    public boolean isBeginning() {
+        return lastModifiedAt.equals(BEGINNING) && letterId == 0L;
+    }
+
+    /**
+     * 클라이언트에 전달할 토큰 문자열을 만듭니다.
+     *
+     * @return Base64(URL-safe, 패딩 없음) 토큰 문자열
+     */
+    public String encode() {
+        String raw = lastModifiedAt.toString() + SEPARATOR + letterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미읽음 편지 수 응답 DTO
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountResponse {
+
+    /** 미읽음(DELIVERED) 편지 수 */
+    private int unreadCount;
+}
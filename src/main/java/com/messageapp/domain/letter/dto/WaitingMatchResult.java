@@ -0,0 +1,26 @@
+package com.messageapp.domain.letter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * WAITING 편지 일괄 매칭 배치 결과
+ *
+ * <p>배정된 편지 수는 수신자 부족으로 잠근 편지 수보다 적을 수 있으므로,
+ * 백그라운드 매처는 잠근 편지 수로 대기열이 남았는지 판단합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class WaitingMatchResult {
+
+    /** 이번 배치에서 잠근 WAITING 편지 수 */
+    private final int claimed;
+
+    /** 수신자가 배정된 편지 목록 */
+    private final List<MatchedLetter> matched;
+}
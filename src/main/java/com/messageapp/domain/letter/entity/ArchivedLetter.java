@@ -0,0 +1,70 @@
+package com.messageapp.domain.letter.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 편지 엔티티
+ *
+ * <p>보관 기간이 지난 READ 편지를 letters 테이블에서 옮겨 둔 행입니다.
+ * letters의 컬럼을 그대로 복사하고 보관 시각만 추가하며, 행은
+ * {@link com.messageapp.domain.letter.archive.LetterArchiveWriter}가
+ * {@code INSERT ... SELECT}로만 만듭니다. 본문({@code body_id})은 옮기지 않고 그대로 참조합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.archive.LetterArchiver
+ */
+@Entity
+@Table(name = "letters_archive",
+        indexes = @Index(name = "idx_letters_archive_receiver_id", columnList = "receiver_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedLetter {
+
+    /** 편지 고유 식별자 (letters의 letter_id 그대로) */
+    @Id
+    @Column(name = "letter_id")
+    private Long id;
+
+    /** 편지 본문 ID */
+    @Column(name = "body_id", nullable = false)
+    private Long bodyId;
+
+    /** 수신자 ID */
+    @Column(name = "receiver_id")
+    private Long receiverId;
+
+    /** 편지 상태 (READ) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private LetterStatus status;
+
+    /** 수신자 배정 시각 */
+    @Column(name = "matched_at")
+    private LocalDateTime matchedAt;
+
+    /** 배달 예정 시각 */
+    @Column(name = "deliver_at")
+    private LocalDateTime deliverAt;
+
+    /** 읽음 처리 시각 */
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    /** 편지 작성 시각 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 편지 최종 수정 시각 */
+    @Column(name = "last_modified_at", nullable = false)
+    private LocalDateTime lastModifiedAt;
+
+    /** 보관 시각 */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,114 @@
+package com.messageapp.domain.letter.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 편지 내용 압축 저장 변환기
+ *
+ * <p>UTF-8 기준 {@value #COMPRESSION_THRESHOLD}바이트 이상인 내용은 Deflate로 압축하고,
+ * 짧은 내용은 압축 헤더가 오히려 손해이므로 그대로 저장합니다.
+ * 첫 바이트에 저장 형식 버전을 기록하므로 이후 알고리즘을 바꿔도 기존 행을 그대로 읽을 수 있습니다.</p>
+ *
+ * <h3>저장 형식:</h3>
+ * <ul>
+ *   <li>{@code 0x00} + UTF-8 바이트: 원문</li>
+ *   <li>{@code 0x01} + Deflate(UTF-8 바이트): 압축</li>
+ * </ul>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see LetterContent
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    /** 압축을 시도하는 최소 크기 (바이트) */
+    static final int COMPRESSION_THRESHOLD = 256;
+
+    static final byte VERSION_RAW = 0x00;
+    static final byte VERSION_DEFLATE = 0x01;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = deflate(raw);
+            if (compressed.length < raw.length) {
+                return withVersion(VERSION_DEFLATE, compressed);
+            }
+        }
+        return withVersion(VERSION_RAW, raw);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0) {
+            return "";
+        }
+
+        return switch (data[0]) {
+            case VERSION_RAW -> new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+            case VERSION_DEFLATE -> new String(inflate(data), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("지원하지 않는 편지 내용 저장 형식: " + data[0]);
+        };
+    }
+
+    private static byte[] withVersion(byte version, byte[] payload) {
+        byte[] data = new byte[payload.length + 1];
+        data[0] = version;
+        System.arraycopy(payload, 0, data, 1, payload.length);
+        return data;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 편지 내용이 손상되었습니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 편지 내용이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.messageapp.domain.letter.entity;
+
+import com.messageapp.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 요청 기록 엔티티
+ *
+ * <p>{@code Idempotency-Key} 헤더로 들어온 편지 발송 요청의 처리 상태와 최초 응답을 보관합니다.
+ * 키는 회원별로 구분되며({@code memberId:key}), 만료 시각이 지나면 정리됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.service.IdempotentLetterSendService
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord extends BaseEntity implements Persistable<String> {
+
+    /** 회원 ID와 Idempotency-Key를 합친 키 (PK) */
+    @Id
+    @Column(name = "scope_key", length = 150)
+    private String scopeKey;
+
+    /** 요청 본문 해시 (같은 키로 다른 내용을 보내는 경우 감지) */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    /** 처리 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private IdempotencyStatus status;
+
+    /** 최초 응답 (JSON) */
+    @Column(name = "response", columnDefinition = "TEXT")
+    private String response;
+
+    /** 만료 시각 */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private IdempotencyRecord(String scopeKey, String requestHash, LocalDateTime expiresAt) {
+        this.scopeKey = scopeKey;
+        this.requestHash = requestHash;
+        this.status = IdempotencyStatus.IN_PROGRESS;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 처리 중 상태의 기록을 생성합니다 (키 선점).
+     *
+     * @param scopeKey 회원 ID와 Idempotency-Key를 합친 키
+     * @param requestHash 요청 본문 해시
+     * @param expiresAt 만료 시각
+     * @return 처리 중 기록
+     */
+    public static IdempotencyRecord inProgress(String scopeKey, String requestHash, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(scopeKey, requestHash, expiresAt);
+    }
+
+    /**
+     * 처리 완료로 변경하고 응답을 저장합니다.
+     *
+     * @param response 최초 응답 (JSON)
+     */
+    public void complete(String response) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.response = response;
+    }
+
+    /**
+     * 처리 완료 여부를 확인합니다.
+     *
+     * @return COMPLETED 상태이면 true
+     */
+    public boolean isCompleted() {
+        return this.status == IdempotencyStatus.COMPLETED;
+    }
+
+    @Override
+    public String getId() {
+        return scopeKey;
+    }
+
+    /**
+     * 키를 직접 지정하므로 생성 시각으로 신규 여부를 판단합니다 (save 시 불필요한 SELECT 방지).
+     */
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
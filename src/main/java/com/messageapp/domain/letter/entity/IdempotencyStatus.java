@@ -0,0 +1,17 @@
+package com.messageapp.domain.letter.entity;
+
+/**
+ * 멱등 요청 처리 상태
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see IdempotencyRecord
+ */
+public enum IdempotencyStatus {
+
+    /** 처리 중 (최초 요청이 키를 선점함) */
+    IN_PROGRESS,
+
+    /** 처리 완료 (응답 저장됨) */
+    COMPLETED
+}
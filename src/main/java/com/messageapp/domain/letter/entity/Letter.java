@@ -2,6 +2,7 @@ package com.messageapp.domain.letter.entity;
 
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,11 +14,15 @@ import java.time.LocalDateTime;
 /**
  * 편지 엔티티
  *
- * <p>사용자 간 익명 편지를 관리하는 핵심 도메인 엔티티입니다.</p>
+ * <p>사용자 간 익명 편지를 관리하는 핵심 도메인 엔티티입니다.
+ * 수신자별 배달 상태만 이 행(letters)에 두고, 발신자와 내용은 같은 발송의 편지들이
+ * 공유하는 {@link LetterBody}(letter_bodies)에 한 번만 저장합니다.
+ * 수신함 조회가 읽는 행에 TEXT 컬럼이 없으므로 행과 인덱스 페이지가 작게 유지됩니다.</p>
  *
  * <h3>편지 상태 (LetterStatus):</h3>
  * <ul>
  *   <li>WAITING: 대기 중 (수신자 미배정)</li>
+ *   <li>SCHEDULED: 배달 예약 (수신자 배정됨, 방해 금지 시간 종료 후 배달)</li>
  *   <li>DELIVERED: 배달 완료 (수신자 배정됨, 미읽음)</li>
  *   <li>READ: 읽음</li>
  * </ul>
@@ -34,31 +39,40 @@ import java.time.LocalDateTime;
  * @see LetterStatus
  */
 @Entity
-@Table(name = "letters")
+@Table(name = "letters",
+        indexes = {
+                @Index(name = "idx_letters_status_read_at", columnList = "status, read_at"),
+                @Index(name = "idx_letters_status_matched_at", columnList = "status, matched_at"),
+                @Index(name = "idx_letters_status_next_attempt_at",
+                        columnList = "status, next_attempt_at, letter_id"),
+                @Index(name = "idx_letters_receiver_status_created_at",
+                        columnList = "receiver_id, status, created_at, letter_id"),
+                @Index(name = "idx_letters_receiver_last_modified_at",
+                        columnList = "receiver_id, last_modified_at, letter_id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Letter extends BaseEntity {
 
-    /** 편지 고유 식별자 (PK, Auto Increment) */
+    /** 편지 고유 식별자 (PK, id_sequences 테이블에서 pooled 할당) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "letter_id_generator")
+    @TableGenerator(name = "letter_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "letters", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "letter_id")
     private Long id;
 
-    /** 발신자 (필수) */
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "sender_id", nullable = false)
-    private Member sender;
+    /** 편지 본문 (발신자, 내용 - 같은 발송의 편지끼리 공유) */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "body_id", nullable = false, updatable = false)
+    private LetterBody body;
 
     /** 수신자 (배정 전에는 null) */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "receiver_id")
     private Member receiver;
 
-    /** 편지 내용 */
-    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
-    private String content;
-
     /** 편지 상태 (WAITING, DELIVERED, READ) */
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -68,23 +82,74 @@ public class Letter extends BaseEntity {
     @Column(name = "matched_at")
     private LocalDateTime matchedAt;
 
+    /** 배달 예정 시각 (SCHEDULED 상태에서만 사용) */
+    @Column(name = "deliver_at")
+    private LocalDateTime deliverAt;
+
     /** 읽음 처리 시각 */
     @Column(name = "read_at")
     private LocalDateTime readAt;
 
+    /** 일괄 매칭 대상이 되는 시각 (WAITING 상태에서만 사용, 매칭 실패 시 뒤로 미룸) */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /** 수신자를 찾지 못한 일괄 매칭 시도 횟수 */
+    @Column(name = "match_attempts", nullable = false)
+    private int matchAttempts;
+
     /**
      * 편지 생성자
      *
-     * <p>초기 상태는 WAITING이며, 수신자는 추후 배정됩니다.</p>
+     * <p>초기 상태는 WAITING이며, 수신자는 추후 배정됩니다.
+     * 이 편지만을 위한 본문과 내용을 새로 만듭니다 (내용 중복 제거 없음).
+     * 서비스 코드에서는 {@link #withBody(LetterBody)}를 사용합니다.</p>
      *
      * @param sender 발신자
      * @param content 편지 내용
      */
     @Builder
     public Letter(Member sender, String content) {
-        this.sender = sender;
-        this.content = content;
+        this(LetterBody.builder()
+                .sender(sender)
+                .content(LetterContent.of(content))
+                .build());
+    }
+
+    private Letter(LetterBody body) {
+        this.body = body;
         this.status = LetterStatus.WAITING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 기존 본문을 공유하는 편지를 생성합니다.
+     *
+     * <p>한 번의 발송으로 여러 수신자에게 보낼 때 사용하며, 초기 상태는 WAITING입니다.</p>
+     *
+     * @param body 공유할 편지 본문
+     * @return 생성된 편지
+     */
+    public static Letter withBody(LetterBody body) {
+        return new Letter(body);
+    }
+
+    /**
+     * 발신자를 반환합니다.
+     *
+     * @return 발신자
+     */
+    public Member getSender() {
+        return body.getSender();
+    }
+
+    /**
+     * 편지 내용을 반환합니다.
+     *
+     * @return 편지 내용
+     */
+    public String getContent() {
+        return body.getContent();
     }
 
     // ==================== 비즈니스 메서드 ====================
@@ -102,6 +167,32 @@ public class Letter extends BaseEntity {
         this.matchedAt = LocalDateTime.now();
     }
 
+    /**
+     * 수신자를 배정하고 배달을 예약합니다.
+     *
+     * <p>상태를 SCHEDULED로 변경하며, 예약 시각에 {@link #deliver()}로 배달됩니다.</p>
+     *
+     * @param receiver 배정할 수신자
+     * @param deliverAt 배달 예정 시각
+     */
+    public void scheduleDelivery(Member receiver, LocalDateTime deliverAt) {
+        this.receiver = receiver;
+        this.status = LetterStatus.SCHEDULED;
+        this.matchedAt = LocalDateTime.now();
+        this.deliverAt = deliverAt;
+    }
+
+    /**
+     * 예약된 편지를 배달합니다.
+     *
+     * <p>SCHEDULED 상태인 경우에만 DELIVERED로 변경됩니다.</p>
+     */
+    public void deliver() {
+        if (this.status == LetterStatus.SCHEDULED) {
+            this.status = LetterStatus.DELIVERED;
+        }
+    }
+
     /**
      * 편지를 읽음 상태로 변경합니다.
      *
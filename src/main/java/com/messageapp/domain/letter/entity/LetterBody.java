@@ -0,0 +1,72 @@
+package com.messageapp.domain.letter.entity;
+
+import com.messageapp.domain.member.entity.Member;
+import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 편지 본문 엔티티
+ *
+ * <p>발송 1건의 발신자와 내용을 보관합니다. 한 번의 발송으로 생성되는 3~5개의
+ * {@link Letter}(수신자별 배달 행)가 같은 본문을 참조하므로, 내용은 발송당 한 번만 참조됩니다.
+ * 내용 자체는 {@link LetterContent}에 해시로 중복 제거되어 압축 저장됩니다.</p>
+ *
+ * <p>본문은 작성 이후 변경되지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see Letter
+ */
+@Entity
+@Table(name = "letter_bodies")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LetterBody extends BaseEntity {
+
+    /** 본문 고유 식별자 (PK, id_sequences 테이블에서 pooled 할당) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "letter_body_id_generator")
+    @TableGenerator(name = "letter_body_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "letter_bodies", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "body_id")
+    private Long id;
+
+    /** 발신자 (필수) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sender_id", nullable = false, updatable = false)
+    private Member sender;
+
+    /** 편지 내용 (해시로 중복 제거, 압축 저장, 지연 로딩) */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "content_id", nullable = false, updatable = false)
+    private LetterContent letterContent;
+
+    /**
+     * 편지 본문 생성자
+     *
+     * @param sender 발신자
+     * @param content 편지 내용
+     */
+    @Builder
+    public LetterBody(Member sender, LetterContent content) {
+        this.sender = sender;
+        this.letterContent = content;
+    }
+
+    /**
+     * 편지 내용을 반환합니다.
+     *
+     * <p>처음 호출될 때 내용을 로딩하고 압축을 해제합니다.</p>
+     *
+     * @return 편지 내용
+     */
+    public String getContent() {
+        return letterContent.getText();
+    }
+}
@@ -0,0 +1,80 @@
+package com.messageapp.domain.letter.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 편지 내용 엔티티
+ *
+ * <p>내용의 SHA-256 해시로 중복을 제거하여 같은 텍스트(환영 편지 등)는 한 행만 저장합니다.
+ * 본문은 {@link CompressedTextConverter}로 압축 저장되며, {@link LetterBody}에서
+ * 지연 로딩되므로 내용을 반환하지 않는 목록 조회는 로딩/압축 해제 비용을 내지 않습니다.</p>
+ *
+ * <p>내용은 작성 이후 변경되지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.service.LetterContentService
+ */
+@Entity
+@Table(name = "letter_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LetterContent {
+
+    /**
+     * 내용 고유 식별자 (PK, AUTO_INCREMENT)
+     *
+     * <p>발송당 최대 한 행만 저장되어 배치 INSERT 이점이 없으므로 IDENTITY 전략을 사용합니다.</p>
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "content_id")
+    private Long id;
+
+    /** 내용의 SHA-256 해시 (16진수 64자) */
+    @Column(name = "content_hash", nullable = false, unique = true, updatable = false, length = 64)
+    private String contentHash;
+
+    /** 편지 내용 (저장 시 압축) */
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "data", nullable = false, updatable = false, columnDefinition = "MEDIUMBLOB")
+    private String text;
+
+    private LetterContent(String contentHash, String text) {
+        this.contentHash = contentHash;
+        this.text = text;
+    }
+
+    /**
+     * 편지 내용을 생성합니다.
+     *
+     * @param text 편지 내용
+     * @return 저장 전 편지 내용
+     */
+    public static LetterContent of(String text) {
+        return new LetterContent(hashOf(text), text);
+    }
+
+    /**
+     * 내용의 SHA-256 해시를 계산합니다.
+     *
+     * @param text 편지 내용
+     * @return 16진수 해시 문자열
+     */
+    public static String hashOf(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.messageapp.domain.letter.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신함 제거 기록 엔티티 (동기화 tombstone)
+ *
+ * <p>편지가 수신자의 수신함에서 빠진 시점을 기록합니다. 변경분 동기화는 letters의 현재 행만 읽으므로
+ * 다른 수신자에게 재배정되거나 보관 테이블로 옮겨진 편지는 이 기록으로만 클라이언트에 전달됩니다.</p>
+ *
+ * <h3>기록하는 경로:</h3>
+ * <ul>
+ *   <li>만료 재배정 (REDELIVER, RESCHEDULE) - 이전 수신자</li>
+ *   <li>읽은 편지 보관 작업 - 수신자</li>
+ * </ul>
+ *
+ * <p>행은 각 경로의 트랜잭션 안에서 SQL로만 만들며, {@code letter.inbox.sync.removal-retention}이 지나면 삭제됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.service.LetterService#syncLetters
+ */
+@Entity
+@Table(name = "letter_removals",
+        indexes = @Index(name = "idx_letter_removals_receiver_removed_at",
+                columnList = "receiver_id, removed_at, letter_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LetterRemoval {
+
+    /** 제거 기록 고유 식별자 */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "removal_id")
+    private Long id;
+
+    /** 편지가 빠진 수신자 ID */
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    /** 제거된 편지 ID */
+    @Column(name = "letter_id", nullable = false)
+    private Long letterId;
+
+    /** 제거 시각 (동기화 토큰 기준) */
+    @Column(name = "removed_at", nullable = false)
+    private LocalDateTime removedAt;
+}
@@ -9,6 +9,9 @@ package com.messageapp.domain.letter.entity;
  * <pre>
  * WAITING → DELIVERED → READ
  * (생성)   (수신자 배정) (읽음)
+ *
+ * WAITING → SCHEDULED → DELIVERED → READ
+ * (생성)   (방해 금지 시간대 배정) (예약 시각 도달)
  * </pre>
  *
  * @author MessageApp Team
@@ -20,6 +23,9 @@ public enum LetterStatus {
     /** 대기 중 - 수신자 배정 전 */
     WAITING,
 
+    /** 배달 예약 - 수신자에게 배정되었으나 방해 금지 시간이 끝난 뒤 배달 */
+    SCHEDULED,
+
     /** 배달 완료 - 수신자에게 배정됨, 아직 읽지 않음 */
     DELIVERED,
 
@@ -0,0 +1,130 @@
+package com.messageapp.domain.letter.entity;
+
+import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 요청 엔티티
+ *
+ * <p>비동기 발송 모드에서 접수된 모든 발송 요청을 보관합니다. 접수 시 행을 먼저 저장하므로
+ * 인메모리 큐에만 있던 요청도 서버가 내려가면 임대 만료 후 다른 워커가 발송합니다.</p>
+ *
+ * <p>워커는 발송 트랜잭션 안에서 행을 잠그고 PENDING인 경우에만 발송한 뒤 SENT로 바꾸므로,
+ * 같은 요청을 두 워커가 가져가도 한 번만 발송됩니다. 완료된 행은 추적 ID로 상태를 조회할 수 있도록
+ * {@code retention} 동안 남겨 둡니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.queue.LetterSendQueue
+ */
+@Entity
+@Table(name = "letter_send_queue",
+        indexes = {
+                @Index(name = "idx_letter_send_queue_status_available_at", columnList = "status, available_at"),
+                @Index(name = "idx_letter_send_queue_status_completed_at", columnList = "status, completed_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QueuedLetterSend extends BaseEntity {
+
+    /** 대기 요청 고유 식별자 (PK, id_sequences 테이블에서 pooled 할당) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "letter_send_queue_id_generator")
+    @TableGenerator(name = "letter_send_queue_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "letter_send_queue", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "queue_id")
+    private Long id;
+
+    /** 클라이언트에 반환한 추적 ID */
+    @Column(name = "tracking_id", nullable = false, unique = true, length = 36)
+    private String trackingId;
+
+    /** 발신자 ID */
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    /** 클라이언트가 보낸 Idempotency-Key (없으면 null) */
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    /** 편지 내용 */
+    @Column(name = "content", nullable = false, length = 1000)
+    private String content;
+
+    /** 요청 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private QueuedLetterSendStatus status;
+
+    /** 발송 시도 횟수 */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** 워커가 가져갈 수 있는 시각 (임대 중이면 임대 만료 시각) */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    /** 발송된 편지 ID (SENT 상태에서만 사용) */
+    @Column(name = "letter_id")
+    private Long letterId;
+
+    /** 발송 완료 또는 포기 시각 */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 발송 대기 요청 생성자
+     *
+     * @param trackingId 추적 ID
+     * @param senderId 발신자 ID
+     * @param idempotencyKey Idempotency-Key (없으면 null)
+     * @param content 편지 내용
+     */
+    @Builder
+    public QueuedLetterSend(String trackingId, Long senderId, String idempotencyKey, String content) {
+        this.trackingId = trackingId;
+        this.senderId = senderId;
+        this.idempotencyKey = idempotencyKey;
+        this.content = content;
+        this.status = QueuedLetterSendStatus.PENDING;
+        this.attempts = 0;
+        this.availableAt = LocalDateTime.now();
+    }
+
+    /**
+     * 워커가 요청을 임대합니다.
+     *
+     * @param leaseUntil 임대 만료 시각
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * 발송 완료로 표시합니다.
+     *
+     * @param letterId 발송된 편지 ID
+     */
+    public void markSent(Long letterId) {
+        this.status = QueuedLetterSendStatus.SENT;
+        this.letterId = letterId;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 발송 포기로 표시합니다.
+     */
+    public void markFailed() {
+        this.status = QueuedLetterSendStatus.FAILED;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,20 @@
+package com.messageapp.domain.letter.entity;
+
+/**
+ * 발송 대기 요청 상태
+ *
+ * <ul>
+ *   <li>PENDING: 접수됨 (발송 전 또는 재시도 대기)</li>
+ *   <li>SENT: 발송 완료</li>
+ *   <li>FAILED: 발송 포기 (업무 예외 또는 최대 시도 횟수 초과)</li>
+ * </ul>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see QueuedLetterSend
+ */
+public enum QueuedLetterSendStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
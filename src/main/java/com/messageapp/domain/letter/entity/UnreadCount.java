@@ -0,0 +1,36 @@
+package com.messageapp.domain.letter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 미읽음 편지 수 엔티티
+ *
+ * <p>회원 ID와 DELIVERED 편지 수만 담는 좁은 테이블입니다.
+ * 편지가 배달되거나 읽힐 때 같은 트랜잭션에서 증감되며,
+ * 행은 {@link com.messageapp.domain.letter.service.UnreadCountService}가 조건부 UPDATE로 증감하며,
+ * 행이 없는 회원은 letters 테이블의 DELIVERED 편지 수로 새로 만듭니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Entity
+@Table(name = "unread_counts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnreadCount {
+
+    /** 회원 ID (PK) */
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    /** 미읽음(DELIVERED) 편지 수 */
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+}
@@ -0,0 +1,21 @@
+package com.messageapp.domain.letter.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 편지 배달 이벤트
+ *
+ * <p>편지에 수신자가 배정되어 DELIVERED 상태가 되었을 때 발행됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.entity.Letter#assignReceiver
+ */
+@Getter
+@AllArgsConstructor
+public class LetterDeliveredEvent {
+
+    /** 수신자 ID */
+    private final Long receiverId;
+}
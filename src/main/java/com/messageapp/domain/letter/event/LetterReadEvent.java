@@ -0,0 +1,24 @@
+package com.messageapp.domain.letter.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 편지 읽음 이벤트
+ *
+ * <p>DELIVERED 상태의 편지가 READ로 변경되었을 때 발행됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.entity.Letter#markAsRead
+ */
+@Getter
+@AllArgsConstructor
+public class LetterReadEvent {
+
+    /** 수신자 ID */
+    private final Long receiverId;
+
+    /** 읽음 처리된 편지 수 */
+    private final int count;
+}
@@ -0,0 +1,25 @@
+package com.messageapp.domain.letter.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 편지 회수 이벤트
+ *
+ * <p>읽히지 않은 DELIVERED 편지가 만료되어 다른 수신자에게 재배정되면서
+ * 이전 수신자의 수신함에서 빠졌을 때 발행됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.matching.ExpiredLetterRematcher
+ */
+@Getter
+@AllArgsConstructor
+public class LetterRecalledEvent {
+
+    /** 이전 수신자 ID */
+    private final Long receiverId;
+
+    /** 회수된 편지 수 */
+    private final int count;
+}
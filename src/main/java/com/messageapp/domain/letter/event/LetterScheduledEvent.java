@@ -0,0 +1,26 @@
+package com.messageapp.domain.letter.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 편지 배달 예약 이벤트
+ *
+ * <p>방해 금지 시간대에 수신자가 배정되어 SCHEDULED 상태가 되었을 때 발행됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.entity.Letter#scheduleDelivery
+ */
+@Getter
+@AllArgsConstructor
+public class LetterScheduledEvent {
+
+    /** 편지 ID */
+    private final Long letterId;
+
+    /** 배달 예정 시각 */
+    private final LocalDateTime deliverAt;
+}
@@ -0,0 +1,217 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.member.event.MemberStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 회원 인메모리 인덱스
+ *
+ * <p>ACTIVE 상태 회원 ID를 오름차순으로 정렬된 primitive {@code long[]}에 보관합니다.
+ * 편지 발송 시 DB 조회 없이 O(k)로 서로 다른 수신자 k명을 뽑기 위해 사용됩니다.</p>
+ *
+ * <h3>동기화:</h3>
+ * <ul>
+ *   <li>애플리케이션 시작 시 {@link #rebuild(long[], int)}로 전체 적재</li>
+ *   <li>가입/탈퇴/차단 시 {@link MemberStatusChangedEvent}를 커밋 이후 반영</li>
+ * </ul>
+ *
+ * <p>회원 ID는 Auto Increment이므로 신규 가입은 대부분 배열 끝에 추가됩니다.
+ * 탈퇴/차단으로 인한 삭제는 드물기 때문에 배열 이동 비용을 감수합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ActiveMemberIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 정렬된 활성 회원 ID (0 ~ size-1 구간만 유효) */
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    /** 유효한 회원 수 */
+    private int size;
+
+    /**
+     * 인덱스 전체를 교체합니다.
+     *
+     * @param sortedIds 오름차순 정렬된 활성 회원 ID
+     * @param length 유효한 ID 개수
+     */
+    public void rebuild(long[] sortedIds, int length) {
+        long[] copy = Arrays.copyOf(sortedIds, Math.max(length, INITIAL_CAPACITY));
+        lock.writeLock().lock();
+        try {
+            this.ids = copy;
+            this.size = length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("활성 회원 인덱스 적재 완료: size = {}", length);
+    }
+
+    /**
+     * 활성 회원을 추가합니다. 이미 존재하면 무시합니다.
+     *
+     * @param memberId 회원 ID
+     */
+    public void add(long memberId) {
+        lock.writeLock().lock();
+        try {
+            int position = Arrays.binarySearch(ids, 0, size, memberId);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -(position + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1));
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = memberId;
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 회원을 제거합니다. 존재하지 않으면 무시합니다.
+     *
+     * @param memberId 회원 ID
+     */
+    public void remove(long memberId) {
+        lock.writeLock().lock();
+        try {
+            int position = Arrays.binarySearch(ids, 0, size, memberId);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 회원인지 확인합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 인덱스에 존재하면 true
+     */
+    public boolean contains(long memberId) {
+        lock.readLock().lock();
+        try {
+            return Arrays.binarySearch(ids, 0, size, memberId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 활성 회원 수를 반환합니다.
+     *
+     * @return 활성 회원 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제외 대상을 뺀 서로 다른 활성 회원을 무작위로 선택합니다.
+     *
+     * <p>후보가 요청 수보다 충분히 많으면 무작위 위치를 뽑고 중복/제외 대상만
+     * 다시 뽑으므로 기대 비용은 O(count)입니다. 후보가 요청 수 이하이면
+     * 제외 대상을 뺀 전체를 섞어서 반환합니다.</p>
+     *
+     * @param excludedId 제외할 회원 ID (발신자)
+     * @param count 선택할 회원 수
+     * @return 선택된 회원 ID (최대 count개)
+     */
+    public long[] sample(long excludedId, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        lock.readLock().lock();
+        try {
+            boolean excludedPresent = Arrays.binarySearch(ids, 0, size, excludedId) >= 0;
+            int available = excludedPresent ? size - 1 : size;
+            if (available <= 0 || count <= 0) {
+                return new long[0];
+            }
+
+            if (count >= available) {
+                long[] all = new long[available];
+                int n = 0;
+                for (int i = 0; i < size; i++) {
+                    if (ids[i] != excludedId) {
+                        all[n++] = ids[i];
+                    }
+                }
+                shuffle(all, random);
+                return all;
+            }
+
+            long[] picked = new long[count];
+            int n = 0;
+            while (n < count) {
+                long candidate = ids[random.nextInt(size)];
+                if (candidate == excludedId || containsPicked(picked, n, candidate)) {
+                    continue;
+                }
+                picked[n++] = candidate;
+            }
+            return picked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 상태 변경을 커밋 이후 인덱스에 반영합니다.
+     *
+     * @param event 회원 상태 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        if (event.getMemberId() == null) {
+            return;
+        }
+        if (event.isActive()) {
+            add(event.getMemberId());
+        } else {
+            remove(event.getMemberId());
+        }
+    }
+
+    private static boolean containsPicked(long[] picked, int length, long candidate) {
+        for (int i = 0; i < length; i++) {
+            if (picked[i] == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void shuffle(long[] values, ThreadLocalRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.global.config.MatchingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 수신자별 일일 배달 한도
+ *
+ * <p>활동적인 발신자가 많을 때 특정 회원의 수신함에 하루 수백 통이 쌓이지 않도록
+ * 회원 한 명이 하루에 받을 수 있는 편지 수를 제한합니다. 한도에 도달한 회원은
+ * 매칭 후보에서 제외됩니다.</p>
+ *
+ * <h3>카운터 구조:</h3>
+ * <p>letters 테이블을 세지 않고, 날짜별 {@link ConcurrentHashMap}(내부적으로 bin 단위 잠금)에
+ * 회원별 {@link AtomicInteger}를 두어 CAS로 증가시킵니다. 날짜가 바뀌면 새 테이블로 교체하므로
+ * 별도의 초기화 작업이 필요 없습니다.</p>
+ *
+ * <p>기록({@link #onMatched})은 발송 트랜잭션이 커밋된 뒤에 호출되므로 롤백된 발송은 한도를
+ * 소모하지 않습니다. 대신 후보 검사({@link #accept})와 커밋 사이에 다른 발송이 끼어들 수 있고,
+ * 일괄 매칭 한 배치 안의 매칭도 서로 보이지 않으므로 동시 발송 수(또는 배치 크기)만큼
+ * 한도를 조금 넘을 수 있습니다(soft limit). 카운터는 메모리에만 있으므로
+ * 재시작 시 당일 카운트가 초기화됩니다.</p>
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ *   <li>{@code matching.daily_quota.checks}: 한도 검사 횟수</li>
+ *   <li>{@code matching.daily_quota.cap_hits}: 한도 도달로 거절된 횟수</li>
+ *   <li>{@code matching.daily_quota.receivers}: 오늘 편지를 받은 회원 수</li>
+ *   <li>{@code matching.daily_quota.memory}: 카운터 테이블 추정 메모리 (bytes)</li>
+ * </ul>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+public class DailyDeliveryQuota implements ReceiverFilter {
+
+    /** 카운터 엔트리 1개의 추정 메모리 (Node + Long 키 + AtomicInteger + 테이블 슬롯) */
+    private static final long BYTES_PER_ENTRY = 32 + 16 + 16 + 8;
+
+    private final MatchingProperties.DailyQuotaProperties properties;
+    private final Counter checkCounter;
+    private final Counter capHitCounter;
+
+    /** 오늘 날짜 (epoch day) */
+    private final LongSupplier epochDayClock;
+
+    /** 오늘 날짜의 카운터 테이블 */
+    private volatile DayCounters today;
+
+    @Autowired
+    public DailyDeliveryQuota(MatchingProperties matchingProperties, MeterRegistry meterRegistry) {
+        this(matchingProperties, meterRegistry, () -> LocalDate.now().toEpochDay());
+    }
+
+    DailyDeliveryQuota(MatchingProperties matchingProperties, MeterRegistry meterRegistry,
+                       LongSupplier epochDayClock) {
+        this.properties = matchingProperties.getDailyQuota();
+        this.epochDayClock = epochDayClock;
+        this.today = new DayCounters(epochDayClock.getAsLong());
+        this.checkCounter = Counter.builder("matching.daily_quota.checks")
+                .description("수신자 일일 한도 검사 횟수")
+                .register(meterRegistry);
+        this.capHitCounter = Counter.builder("matching.daily_quota.cap_hits")
+                .description("일일 한도 도달로 제외된 후보 수")
+                .register(meterRegistry);
+        Gauge.builder("matching.daily_quota.receivers", this, quota -> quota.current().counts.size())
+                .description("오늘 편지를 받은 회원 수")
+                .register(meterRegistry);
+        Gauge.builder("matching.daily_quota.memory", this, DailyDeliveryQuota::estimatedBytes)
+                .description("일일 한도 카운터 추정 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>오늘 받은 편지 수가 한도 이상이면 거절합니다.</p>
+     */
+    @Override
+    public boolean accept(long senderId, long candidateId) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        checkCounter.increment();
+        AtomicInteger count = current().counts.get(candidateId);
+        if (count != null && count.get() >= properties.getMaxLettersPerReceiver()) {
+            capHitCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>수신자의 오늘 받은 편지 수를 1 증가시킵니다.</p>
+     */
+    @Override
+    public void onMatched(long senderId, long receiverId) {
+        if (properties.isEnabled()) {
+            current().counts.computeIfAbsent(receiverId, id -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * 회원이 오늘 받은 편지 수를 반환합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 오늘 받은 편지 수
+     */
+    public int getTodayCount(long memberId) {
+        AtomicInteger count = current().counts.get(memberId);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * 한도 설정과 카운터 크기를 반환합니다.
+     *
+     * @return 통계 정보 (actuator 노출용)
+     */
+    public Map<String, Object> stats() {
+        DayCounters counters = current();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("maxLettersPerReceiver", properties.getMaxLettersPerReceiver());
+        stats.put("day", LocalDate.ofEpochDay(counters.epochDay).toString());
+        stats.put("receivers", counters.counts.size());
+        stats.put("memoryBytes", estimatedBytes());
+        stats.put("checks", (long) checkCounter.count());
+        stats.put("capHits", (long) capHitCounter.count());
+        return stats;
+    }
+
+    private double estimatedBytes() {
+        return (double) current().counts.size() * BYTES_PER_ENTRY;
+    }
+
+    /**
+     * 오늘 날짜의 카운터 테이블을 반환하며, 날짜가 바뀌었으면 새 테이블로 교체합니다.
+     */
+    private DayCounters current() {
+        DayCounters counters = today;
+        long epochDay = epochDayClock.getAsLong();
+        if (counters.epochDay == epochDay) {
+            return counters;
+        }
+        synchronized (this) {
+            if (today.epochDay != epochDay) {
+                today = new DayCounters(epochDay);
+            }
+            return today;
+        }
+    }
+
+    /**
+     * 하루치 회원별 카운터
+     */
+    private static final class DayCounters {
+        private final long epochDay;
+        private final ConcurrentHashMap<Long, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        private DayCounters(long epochDay) {
+            this.epochDay = epochDay;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.report.event.LetterReportedEvent;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매칭 제외 대상 압축 비트맵
+ *
+ * <p>매 발송마다 {@code NOT IN} 서브쿼리로 제외 대상을 거르지 않고,
+ * 제외 대상 회원 ID를 Roaring 비트맵으로 메모리에 유지하여 후보 집합과 AND-NOT 연산합니다.</p>
+ *
+ * <h3>유지하는 비트맵:</h3>
+ * <ul>
+ *   <li>사유별 전역 비트맵 ({@link ExclusionReason}) 및 이들의 합집합</li>
+ *   <li>발신자별 비트맵: 해당 발신자의 편지를 신고한 회원</li>
+ * </ul>
+ *
+ * <p>탈퇴/차단된 회원은 {@link ActiveMemberIndex}에 없고 모든 선택 전략이 활성 회원만
+ * 후보로 뽑으므로, 회원 상태는 이 비트맵에 중복으로 유지하지 않습니다.</p>
+ *
+ * <h3>동시성:</h3>
+ * <p>{@link Roaring64Bitmap}은 읽기와 쓰기가 동시에 일어나면 안전하지 않으므로
+ * 전역 비트맵은 읽기/쓰기 잠금 아래에서 제자리 갱신합니다. 회원 한 명의 추가/제거는
+ * 해당 사유 비트맵과 합집합에 한 번씩만 반영되므로 전체 크기와 무관합니다.
+ * 발신자별 비트맵은 작으므로 변경된 발신자의 비트맵만 복제해 교체합니다(copy-on-write).</p>
+ *
+ * <p>신고 접수는 이벤트로 전달받아 커밋 이후 반영합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see ExclusionReason
+ */
+@Component
+public class ExclusionBitmaps implements ReceiverFilter {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 사유별 제외 회원 비트맵 */
+    private final EnumMap<ExclusionReason, Roaring64Bitmap> bitmaps = new EnumMap<>(ExclusionReason.class);
+
+    /** 사유별 비트맵의 합집합 */
+    private final Roaring64Bitmap combined = new Roaring64Bitmap();
+
+    /** 발신자 ID → 해당 발신자를 신고한 회원 비트맵 */
+    private final Map<Long, Roaring64Bitmap> reportersBySender = new ConcurrentHashMap<>();
+
+    /**
+     * 회원을 제외 사유에 추가합니다.
+     *
+     * @param reason 제외 사유
+     * @param memberId 회원 ID
+     */
+    public void exclude(ExclusionReason reason, long memberId) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.computeIfAbsent(reason, key -> new Roaring64Bitmap()).addLong(memberId);
+            combined.addLong(memberId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 회원을 제외 사유에서 제거합니다.
+     *
+     * <p>다른 사유로도 제외된 회원은 합집합에 남습니다.</p>
+     *
+     * @param reason 제외 사유
+     * @param memberId 회원 ID
+     */
+    public void include(ExclusionReason reason, long memberId) {
+        lock.writeLock().lock();
+        try {
+            Roaring64Bitmap bitmap = bitmaps.get(reason);
+            if (bitmap == null || !bitmap.contains(memberId)) {
+                return;
+            }
+            bitmap.removeLong(memberId);
+            for (Roaring64Bitmap other : bitmaps.values()) {
+                if (other.contains(memberId)) {
+                    return;
+                }
+            }
+            combined.removeLong(memberId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 신고자를 발신자의 제외 목록에 추가합니다.
+     *
+     * @param senderId 신고된 편지의 발신자 ID
+     * @param reporterId 신고자 ID
+     */
+    public void addReporter(long senderId, long reporterId) {
+        reportersBySender.compute(senderId, (key, current) -> {
+            Roaring64Bitmap updated = current == null ? new Roaring64Bitmap() : current.clone();
+            updated.addLong(reporterId);
+            return updated;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean accept(long senderId, long candidateId) {
+        lock.readLock().lock();
+        try {
+            if (combined.contains(candidateId)) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Roaring64Bitmap reporters = reportersBySender.get(senderId);
+        return reporters == null || !reporters.contains(candidateId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>후보 집합을 비트맵으로 만들어 전역 합집합과 발신자별 비트맵을 차례로 AND-NOT 합니다.
+     * 결과는 회원 ID 오름차순이며 후보의 원래 순서는 유지되지 않습니다.</p>
+     */
+    @Override
+    public long[] filter(long senderId, long[] candidates) {
+        if (candidates.length == 0) {
+            return candidates;
+        }
+        Roaring64Bitmap remaining = Roaring64Bitmap.bitmapOf(candidates);
+        lock.readLock().lock();
+        try {
+            remaining.andNot(combined);
+        } finally {
+            lock.readLock().unlock();
+        }
+        Roaring64Bitmap reporters = reportersBySender.get(senderId);
+        if (reporters != null) {
+            remaining.andNot(reporters);
+        }
+        return remaining.toArray();
+    }
+
+    /**
+     * 신고 접수를 커밋 이후 반영합니다.
+     *
+     * @param event 편지 신고 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLetterReported(LetterReportedEvent event) {
+        addReporter(event.getSenderId(), event.getReporterId());
+    }
+
+    /**
+     * 비트맵 크기와 메모리 사용량을 반환합니다.
+     *
+     * @return 통계 정보 (actuator 노출용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> reasons = new LinkedHashMap<>();
+        long excludedTotal;
+        long totalBytes;
+        lock.readLock().lock();
+        try {
+            excludedTotal = combined.getLongCardinality();
+            totalBytes = combined.getLongSizeInBytes();
+            for (Map.Entry<ExclusionReason, Roaring64Bitmap> entry : bitmaps.entrySet()) {
+                reasons.put(entry.getKey().name(), entry.getValue().getLongCardinality());
+                totalBytes += entry.getValue().getLongSizeInBytes();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Collection<Roaring64Bitmap> senderBitmaps = reportersBySender.values();
+        long reporterEntries = 0;
+        for (Roaring64Bitmap bitmap : senderBitmaps) {
+            reporterEntries += bitmap.getLongCardinality();
+            totalBytes += bitmap.getLongSizeInBytes();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("excludedByReason", reasons);
+        stats.put("excludedTotal", excludedTotal);
+        stats.put("reportedSenders", senderBitmaps.size());
+        stats.put("reporterEntries", reporterEntries);
+        stats.put("memoryBytes", totalBytes);
+        return stats;
+    }
+}
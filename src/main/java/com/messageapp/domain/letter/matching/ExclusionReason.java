@@ -0,0 +1,17 @@
+package com.messageapp.domain.letter.matching;
+
+/**
+ * 매칭 제외 사유
+ *
+ * <p>사유별로 {@link ExclusionBitmaps}에 별도의 비트맵이 유지됩니다.
+ * 탈퇴/차단 등 회원 상태에 따른 제외는 {@link ActiveMemberIndex}가 담당하므로
+ * 회원 상태와 무관한 사유만 정의합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public enum ExclusionReason {
+
+    /** 차단 목록에 등록된 회원 (차단 기능 도입 시 사용) */
+    BLOCKED
+}
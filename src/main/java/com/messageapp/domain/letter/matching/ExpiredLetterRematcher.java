@@ -0,0 +1,66 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.letter.dto.MatchedLetter;
+import com.messageapp.domain.letter.service.MatchingService;
+import com.messageapp.global.config.MatchingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미읽음 편지 만료 재매칭 작업
+ *
+ * <p>접속하지 않는 회원에게 배달된 편지는 영원히 읽히지 않고 letters의
+ * {@code (receiver_id, status)} 범위에 쌓입니다. 이 작업은 배정 후 {@code matching.unread-ttl.ttl}이
+ * 지나도록 읽히지 않은 DELIVERED 편지를 주기적으로 찾아 매칭 경로로 다른 수신자에게 재배정합니다.</p>
+ *
+ * <p>만료 편지는 {@code (status, matched_at)} 인덱스 범위에서 배치 단위로 가져오며,
+ * 배치가 가득 찬 경우 만료 편지가 없거나 한 주기 최대 배치 수에 도달할 때까지 연속으로 처리합니다.
+ * 새 수신자에게 보낼 FCM 알림은 재배정 트랜잭션 안에서 알림 아웃박스에 적재되므로
+ * 재배정이 롤백되면 알림도 남지 않고, 커밋된 재배정의 알림은 릴레이가 재시도합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see MatchingService#rematchExpiredLetters(LocalDateTime, int)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredLetterRematcher {
+
+    /** 한 주기에 연속 처리하는 최대 배치 수 */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final MatchingService matchingService;
+    private final MatchingProperties matchingProperties;
+
+    /**
+     * 만료된 미읽음 편지를 배치 단위로 재배정합니다.
+     */
+    @Scheduled(fixedDelayString = "${matching.unread-ttl.sweep-interval-ms:60000}")
+    public void rematchExpiredLetters() {
+        MatchingProperties.UnreadTtlProperties properties = matchingProperties.getUnreadTtl();
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getTtl());
+        int batchSize = properties.getBatchSize();
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<MatchedLetter> matched;
+            try {
+                matched = matchingService.rematchExpiredLetters(cutoff, batchSize);
+            } catch (Exception e) {
+                log.error("만료 편지 재배정 실패: {}", e.getMessage(), e);
+                return;
+            }
+            if (matched.isEmpty()) {
+                return;
+            }
+        }
+    }
+}
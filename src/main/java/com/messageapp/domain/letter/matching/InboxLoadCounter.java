@@ -0,0 +1,125 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.event.LetterReadEvent;
+import com.messageapp.domain.letter.event.LetterRecalledEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 회원별 미읽음 편지 수 인메모리 카운터
+ *
+ * <p>수신함 부하를 고려한 매칭에서 후보 간 부하 비교에 사용됩니다.
+ * 회원 ID를 해시하여 고정 개수의 stripe로 나누고 stripe 단위로만 잠그므로
+ * 서로 다른 회원에 대한 갱신은 거의 경합하지 않습니다.</p>
+ *
+ * <p>편지 배달/읽음 이벤트를 커밋 이후 반영하며, 매칭 판단용 근사값이므로
+ * 0 미만으로 내려가지 않도록만 보정합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.strategy.LoadAwareSelectionStrategy
+ */
+@Component
+public class InboxLoadCounter {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    public InboxLoadCounter() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 회원의 미읽음 편지 수를 반환합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 미읽음 편지 수 (기록이 없으면 0)
+     */
+    public int get(long memberId) {
+        Stripe stripe = stripeOf(memberId);
+        synchronized (stripe) {
+            return stripe.counts.getOrDefault(memberId, 0);
+        }
+    }
+
+    /**
+     * 회원의 미읽음 편지 수를 변경합니다.
+     *
+     * @param memberId 회원 ID
+     * @param delta 변경량 (음수면 감소)
+     */
+    public void add(long memberId, int delta) {
+        Stripe stripe = stripeOf(memberId);
+        synchronized (stripe) {
+            int updated = Math.max(0, stripe.counts.getOrDefault(memberId, 0) + delta);
+            if (updated == 0) {
+                stripe.counts.remove(memberId);
+            } else {
+                stripe.counts.put(memberId, updated);
+            }
+        }
+    }
+
+    /**
+     * 회원의 미읽음 편지 수를 설정합니다 (초기 적재용).
+     *
+     * @param memberId 회원 ID
+     * @param count 미읽음 편지 수
+     */
+    public void set(long memberId, int count) {
+        Stripe stripe = stripeOf(memberId);
+        synchronized (stripe) {
+            if (count <= 0) {
+                stripe.counts.remove(memberId);
+            } else {
+                stripe.counts.put(memberId, count);
+            }
+        }
+    }
+
+    /**
+     * 편지 배달을 커밋 이후 반영합니다.
+     *
+     * @param event 편지 배달 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLetterDelivered(LetterDeliveredEvent event) {
+        add(event.getReceiverId(), 1);
+    }
+
+    /**
+     * 편지 읽음을 커밋 이후 반영합니다.
+     *
+     * @param event 편지 읽음 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLetterRead(LetterReadEvent event) {
+        add(event.getReceiverId(), -event.getCount());
+    }
+
+    /**
+     * 만료 편지 회수를 커밋 이후 반영합니다.
+     *
+     * @param event 편지 회수 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLetterRecalled(LetterRecalledEvent event) {
+        add(event.getReceiverId(), -event.getCount());
+    }
+
+    private Stripe stripeOf(long memberId) {
+        int hash = Long.hashCode(memberId * 0x9E3779B97F4A7C15L);
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private static final class Stripe {
+        private final Map<Long, Integer> counts = new HashMap<>();
+    }
+}
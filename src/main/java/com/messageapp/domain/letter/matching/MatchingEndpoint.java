@@ -0,0 +1,42 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.letter.delivery.DeferredDeliveryScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 매칭 인메모리 구조 조회용 actuator 엔드포인트
+ *
+ * <p>{@code GET /actuator/matching}으로 매칭 경로가 사용하는 인메모리 구조의
+ * 크기와 메모리 사용량을 확인할 수 있습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "matching")
+@RequiredArgsConstructor
+public class MatchingEndpoint {
+
+    private final ActiveMemberIndex activeMemberIndex;
+    private final RecentPairFilter recentPairFilter;
+    private final ExclusionBitmaps exclusionBitmaps;
+    private final DailyDeliveryQuota dailyDeliveryQuota;
+    private final DeferredDeliveryScheduler deferredDeliveryScheduler;
+
+    @ReadOperation
+    public Map<String, Object> matching() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("activeMembers", activeMemberIndex.size());
+        result.put("recentPairFilter", recentPairFilter.stats());
+        result.put("exclusionBitmaps", exclusionBitmaps.stats());
+        result.put("dailyQuota", dailyDeliveryQuota.stats());
+        result.put("deferredDelivery", deferredDeliveryScheduler.stats());
+        return result;
+    }
+}
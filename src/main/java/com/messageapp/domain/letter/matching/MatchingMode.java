@@ -0,0 +1,17 @@
+package com.messageapp.domain.letter.matching;
+
+/**
+ * 수신자 매칭 시점
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see WaitingLetterMatcher
+ */
+public enum MatchingMode {
+
+    /** 발송 요청 안에서 수신자를 배정 (기본값) */
+    SYNC,
+
+    /** 발송 요청은 WAITING 편지만 저장하고, 백그라운드 매처가 일괄 배정 */
+    ASYNC_BATCH
+}
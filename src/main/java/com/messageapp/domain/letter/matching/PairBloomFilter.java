@@ -0,0 +1,91 @@
+package com.messageapp.domain.letter.matching;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (발신자, 수신자) 쌍 전용 Bloom filter
+ *
+ * <p>비트 배열을 {@link AtomicLongArray}로 두어 여러 발송 스레드가 락 없이
+ * 동시에 기록/조회할 수 있습니다. 해시 함수는 64비트 해시 하나를 두 개로 나눠
+ * {@code h1 + i * h2} 형태로 k개를 만들어 사용합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see RecentPairFilter
+ */
+class PairBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    /**
+     * 예상 삽입 수와 목표 오탐률로 비트 수와 해시 함수 수를 계산합니다.
+     *
+     * @param expectedInsertions 예상 삽입 수
+     * @param falsePositiveRate 목표 오탐률 (0 < p < 1)
+     */
+    PairBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(long senderId, long receiverId) {
+        long hash = hash(senderId, receiverId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(long senderId, long receiverId) {
+        long hash = hash(senderId, receiverId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    int insertions() {
+        return insertions.get();
+    }
+
+    long sizeInBytes() {
+        return bitCount >>> 3;
+    }
+
+    /** 두 ID를 섞는 64비트 해시 (SplitMix64 finalizer) */
+    private static long hash(long senderId, long receiverId) {
+        long z = senderId * 0x9E3779B97F4A7C15L + receiverId;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
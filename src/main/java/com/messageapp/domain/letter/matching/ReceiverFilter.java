@@ -0,0 +1,60 @@
+package com.messageapp.domain.letter.matching;
+
+import java.util.Arrays;
+
+/**
+ * 수신자 후보 필터
+ *
+ * <p>선택 전략이 뽑은 후보를 최종 수신자로 확정하기 전에 검사합니다.
+ * 모든 구현체는 인메모리 상태만 사용하여 매칭 경로에 DB 접근을 추가하지 않아야 합니다.</p>
+ *
+ * <p>새로운 제외 조건은 이 인터페이스를 구현한 Spring Bean을 추가하면
+ * {@link com.messageapp.domain.letter.service.MatchingServiceImpl}에 자동으로 적용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface ReceiverFilter {
+
+    /**
+     * 후보를 수신자로 받아들일 수 있는지 검사합니다.
+     *
+     * @param senderId 발신자 ID
+     * @param candidateId 수신자 후보 ID
+     * @return 수신자로 사용할 수 있으면 true
+     */
+    boolean accept(long senderId, long candidateId);
+
+    /**
+     * 후보 목록에서 받아들일 수 있는 후보만 남깁니다.
+     *
+     * <p>기본 구현은 후보마다 {@link #accept(long, long)}를 호출합니다.
+     * 집합 연산으로 한 번에 거를 수 있는 필터는 재정의합니다.</p>
+     *
+     * @param senderId 발신자 ID
+     * @param candidates 수신자 후보 ID 목록
+     * @return 통과한 후보 ID 목록
+     */
+    default long[] filter(long senderId, long[] candidates) {
+        long[] accepted = new long[candidates.length];
+        int n = 0;
+        for (long candidate : candidates) {
+            if (accept(senderId, candidate)) {
+                accepted[n++] = candidate;
+            }
+        }
+        return n == candidates.length ? candidates : Arrays.copyOf(accepted, n);
+    }
+
+    /**
+     * 수신자가 확정된 후 호출됩니다.
+     *
+     * <p>매칭 이력을 기록해야 하는 필터만 구현합니다. 발송 트랜잭션 안에서 매칭된 경우
+     * 커밋 이후에 호출되며, 롤백된 발송에 대해서는 호출되지 않습니다.</p>
+     *
+     * @param senderId 발신자 ID
+     * @param receiverId 확정된 수신자 ID
+     */
+    default void onMatched(long senderId, long receiverId) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.global.config.MatchingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 수신자 티켓 풀
+ *
+ * <p>미리 섞어 둔 수신자 ID를 담는 고정 크기 lock-free 링 버퍼입니다.
+ * 백그라운드 보충 작업이 채우고({@link #offer(long)}), 편지 발송 요청 스레드들이
+ * 동시에 꺼내 갑니다({@link #poll()}).</p>
+ *
+ * <p>슬롯마다 시퀀스 번호를 두는 bounded MPMC 큐 방식으로, 생산자/소비자 모두
+ * CAS 한 번으로 슬롯을 확보하며 락을 사용하지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see ReceiverTicketPoolRefiller
+ */
+@Component
+public class ReceiverTicketPool {
+
+    /** 풀이 비어 있을 때 {@link #poll()}이 반환하는 값 (회원 ID는 1부터 시작) */
+    public static final long EMPTY = 0L;
+
+    private final int mask;
+    private final long[] tickets;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    public ReceiverTicketPool(MatchingProperties matchingProperties) {
+        int capacity = Integer.highestOneBit(Math.max(2, matchingProperties.getTicketPool().getCapacity() - 1)) << 1;
+        this.mask = capacity - 1;
+        this.tickets = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 티켓을 추가합니다.
+     *
+     * @param memberId 수신자 후보 회원 ID
+     * @return 풀이 가득 차서 추가하지 못하면 false
+     */
+    public boolean offer(long memberId) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long diff = sequences.get(slot) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    tickets[slot] = memberId;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 티켓을 하나 꺼냅니다.
+     *
+     * @return 회원 ID, 풀이 비어 있으면 {@link #EMPTY}
+     */
+    public long poll() {
+        long position = head.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long diff = sequences.get(slot) - (position + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    long memberId = tickets[slot];
+                    sequences.set(slot, position + mask + 1);
+                    return memberId;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return EMPTY;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * 현재 남아 있는 티켓 수(근사값)를 반환합니다.
+     *
+     * @return 티켓 수
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * 링 버퍼 크기를 반환합니다.
+     *
+     * @return 최대 티켓 수
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
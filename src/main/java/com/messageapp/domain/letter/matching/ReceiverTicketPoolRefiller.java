@@ -0,0 +1,93 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.letter.strategy.MatchingStrategyType;
+import com.messageapp.domain.member.entity.MemberStatus;
+import com.messageapp.domain.member.repository.MemberRepository;
+import com.messageapp.global.config.MatchingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 수신자 티켓 풀 보충 작업
+ *
+ * <p>풀이 절반 이하로 줄면 {@link MemberRepository}에서 활성 회원 ID를
+ * member_id 순서로 큰 청크 단위로 읽어 섞은 뒤 풀에 채웁니다.
+ * 청크 커서는 테이블 끝에 도달하면 처음으로 돌아가므로
+ * 시간이 지나면 모든 활성 회원이 고르게 티켓으로 발행됩니다.</p>
+ *
+ * <p>{@code matching.strategy}가 {@link MatchingStrategyType#TICKET_POOL}일 때만 동작합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see ReceiverTicketPool
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiverTicketPoolRefiller {
+
+    private final ReceiverTicketPool ticketPool;
+    private final MemberRepository memberRepository;
+    private final MatchingProperties matchingProperties;
+
+    /** 다음 청크의 시작 커서 (마지막으로 읽은 member_id) */
+    private long cursor = 0L;
+
+    /**
+     * 풀 잔량을 확인하고 부족하면 보충합니다.
+     */
+    @Scheduled(fixedDelayString = "${matching.ticket-pool.refill-interval-ms:200}")
+    public void refill() {
+        if (matchingProperties.getStrategy() != MatchingStrategyType.TICKET_POOL) {
+            return;
+        }
+
+        int batchSize = matchingProperties.getTicketPool().getRefillBatchSize();
+        while (ticketPool.size() < ticketPool.capacity() / 2) {
+            List<Long> chunk = memberRepository.findIdsByStatusAfter(
+                    MemberStatus.ACTIVE, cursor, PageRequest.of(0, batchSize));
+
+            if (chunk.size() < batchSize) {
+                cursor = 0L;
+            } else {
+                cursor = chunk.get(chunk.size() - 1);
+            }
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            long[] tickets = shuffle(chunk);
+            for (long ticket : tickets) {
+                if (!ticketPool.offer(ticket)) {
+                    break;
+                }
+            }
+            log.debug("수신자 티켓 풀 보충: added = {}, size = {}", tickets.length, ticketPool.size());
+
+            if (cursor == 0L) {
+                return;
+            }
+        }
+    }
+
+    private static long[] shuffle(List<Long> ids) {
+        long[] values = new long[ids.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ids.get(i);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,147 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.global.config.MatchingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 매칭 쌍 중복 방지 필터
+ *
+ * <p>최근 {@code window} 동안 매칭된 (발신자, 수신자) 쌍을 Bloom filter에 기록하고,
+ * 같은 쌍이 다시 후보로 나오면 거절합니다. 매 발송마다 letters 테이블을 조회하지 않고
+ * 메모리에서만 판단하므로 매칭 경로의 DB 왕복이 늘지 않습니다.</p>
+ *
+ * <h3>세대 회전:</h3>
+ * <p>윈도우를 {@code generations}개 세대로 나누어, 기록은 가장 최근 세대에만 하고
+ * 조회는 모든 세대에 대해 수행합니다. {@code window / generations}마다 가장 오래된 세대를
+ * 비운 새 필터로 교체하므로 기록은 최소 {@code window * (generations - 1) / generations},
+ * 최대 {@code window} 동안 유지됩니다.</p>
+ *
+ * <p>Bloom filter 특성상 오탐(처음 만나는 쌍을 거절)은 설정한 비율로 발생할 수 있지만
+ * 미탐은 없습니다. 오탐된 후보는 다른 후보로 대체될 뿐이므로 매칭 자체는 실패하지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see PairBloomFilter
+ * @see MatchingEndpoint
+ */
+@Slf4j
+@Component
+public class RecentPairFilter implements ReceiverFilter {
+
+    private final MatchingProperties.PairSuppressionProperties properties;
+
+    /** 세대 배열 (0번이 가장 최근 세대), 회전 시 배열 전체를 교체 */
+    private volatile PairBloomFilter[] generations;
+
+    /** 마지막 회전 시각 (epoch millis) */
+    private volatile long lastRotatedAt;
+
+    public RecentPairFilter(MatchingProperties matchingProperties) {
+        this.properties = matchingProperties.getPairSuppression();
+        PairBloomFilter[] initial = new PairBloomFilter[Math.max(2, properties.getGenerations())];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = newGeneration();
+        }
+        this.generations = initial;
+        this.lastRotatedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>어느 세대에든 기록된 쌍이면 거절합니다.</p>
+     */
+    @Override
+    public boolean accept(long senderId, long candidateId) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        for (PairBloomFilter generation : generations) {
+            if (generation.mightContain(senderId, candidateId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>확정된 쌍을 가장 최근 세대에 기록합니다.</p>
+     */
+    @Override
+    public void onMatched(long senderId, long receiverId) {
+        if (properties.isEnabled()) {
+            generations[0].put(senderId, receiverId);
+        }
+    }
+
+    /**
+     * 회전 주기가 지났으면 가장 오래된 세대를 버리고 새 세대를 추가합니다.
+     *
+     * <p>윈도우 설정이 분/시간 단위이므로 1분마다 확인하는 것으로 충분합니다.</p>
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void rotateIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastRotatedAt < rotationInterval().toMillis()) {
+            return;
+        }
+        rotate();
+        lastRotatedAt = now;
+    }
+
+    /**
+     * 세대를 한 칸 회전합니다.
+     */
+    void rotate() {
+        PairBloomFilter[] current = generations;
+        PairBloomFilter[] rotated = new PairBloomFilter[current.length];
+        rotated[0] = newGeneration();
+        System.arraycopy(current, 0, rotated, 1, current.length - 1);
+        generations = rotated;
+        log.debug("매칭 쌍 필터 세대 회전: dropped insertions = {}", current[current.length - 1].insertions());
+    }
+
+    /**
+     * 필터 구성과 메모리 사용량을 반환합니다.
+     *
+     * @return 통계 정보 (actuator 노출용)
+     */
+    public Map<String, Object> stats() {
+        PairBloomFilter[] snapshot = generations;
+        long totalBytes = 0;
+        int[] insertions = new int[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            totalBytes += snapshot[i].sizeInBytes();
+            insertions[i] = snapshot[i].insertions();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("window", properties.getWindow().toString());
+        stats.put("generations", snapshot.length);
+        stats.put("rotationInterval", rotationInterval().toString());
+        stats.put("falsePositiveRate", properties.getFalsePositiveRate());
+        stats.put("expectedInsertionsPerGeneration", properties.getExpectedInsertionsPerGeneration());
+        stats.put("bitsPerGeneration", snapshot[0].bitCount());
+        stats.put("hashFunctions", snapshot[0].hashCount());
+        stats.put("insertionsPerGeneration", insertions);
+        stats.put("memoryBytes", totalBytes);
+        return stats;
+    }
+
+    private Duration rotationInterval() {
+        return properties.getWindow().dividedBy(generations.length);
+    }
+
+    private PairBloomFilter newGeneration() {
+        return new PairBloomFilter(properties.getExpectedInsertionsPerGeneration(), properties.getFalsePositiveRate());
+    }
+}
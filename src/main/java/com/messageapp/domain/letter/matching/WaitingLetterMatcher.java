@@ -0,0 +1,73 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.fcm.service.FcmService;
+import com.messageapp.domain.letter.dto.MatchedLetter;
+import com.messageapp.domain.letter.dto.WaitingMatchResult;
+import com.messageapp.domain.letter.service.MatchingService;
+import com.messageapp.global.config.MatchingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * WAITING 편지 백그라운드 매처
+ *
+ * <p>{@code matching.mode}가 {@link MatchingMode#ASYNC_BATCH}이면 발송 요청은 WAITING 편지만 저장하고,
+ * 이 작업이 주기적으로 WAITING 편지를 배치 단위로 가져와 수신자를 배정합니다.
+ * 발송 지연이 매칭 비용과 분리되고, 매칭 관련 DB 작업이 여러 편지에 걸쳐 분산됩니다.</p>
+ *
+ * <p>배치 크기만큼 편지를 잠근 경우 대기열이 비거나 한 주기 최대 배치 수에 도달할 때까지 연속으로 처리합니다.
+ * FCM 알림은 배치 트랜잭션이 커밋된 뒤 발송하며, 방해 금지 시간으로 예약된 편지는
+ * 예약 시각에 {@code DeferredDeliveryScheduler}가 발송합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see MatchingService#matchWaitingLetters(int)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingLetterMatcher {
+
+    /** 한 주기에 연속 처리하는 최대 배치 수 */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final MatchingService matchingService;
+    private final MatchingProperties matchingProperties;
+    private final FcmService fcmService;
+
+    /**
+     * WAITING 편지를 배치 단위로 매칭합니다.
+     */
+    @Scheduled(fixedDelayString = "${matching.async-batch.interval-ms:1000}")
+    public void matchWaitingLetters() {
+        if (matchingProperties.getMode() != MatchingMode.ASYNC_BATCH) {
+            return;
+        }
+
+        int batchSize = matchingProperties.getAsyncBatch().getBatchSize();
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            WaitingMatchResult result;
+            try {
+                result = matchingService.matchWaitingLetters(batchSize);
+            } catch (Exception e) {
+                log.error("WAITING 편지 일괄 매칭 실패: {}", e.getMessage(), e);
+                return;
+            }
+
+            for (MatchedLetter letter : result.getMatched()) {
+                if (!letter.isDeferred()) {
+                    fcmService.sendLetterArrivalNotification(letter.getReceiverId(), letter.getSenderName());
+                }
+            }
+
+            // 수신자 부족으로 일부만 배정돼도 잠근 편지가 가득 찼다면 대기열이 남아 있음
+            if (result.getClaimed() < batchSize) {
+                return;
+            }
+        }
+    }
+}
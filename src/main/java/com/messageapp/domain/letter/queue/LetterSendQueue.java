@@ -0,0 +1,200 @@
+package com.messageapp.domain.letter.queue;
+
+import com.messageapp.domain.letter.dto.LetterSendAcceptedResponse;
+import com.messageapp.domain.letter.dto.LetterSendStatusResponse;
+import com.messageapp.domain.letter.dto.QueuedLetter;
+import com.messageapp.domain.letter.entity.QueuedLetterSend;
+import com.messageapp.domain.letter.entity.QueuedLetterSendStatus;
+import com.messageapp.domain.letter.repository.QueuedLetterSendRepository;
+import com.messageapp.global.config.LetterSendQueueProperties;
+import com.messageapp.global.exception.business.letter.SendRequestNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 편지 비동기 발송 큐
+ *
+ * <p>비동기 발송 모드({@code letter.send-queue.enabled})에서 발송 요청을 접수합니다.
+ * 요청은 먼저 {@code letter_send_queue} 테이블에 임대된 상태로 저장된 뒤 크기가 제한된
+ * 인메모리 큐에 들어가므로, 서버가 비정상 종료되어도 임대 만료 후 테이블 폴링으로 발송됩니다.
+ * 클라이언트는 추적 ID로 발송 결과를 조회할 수 있습니다.</p>
+ *
+ * <h3>접수와 저장:</h3>
+ * <p>접수는 저장과 분리되어 있지 않습니다. 요청 스레드가 대기 요청 한 행을 INSERT한 뒤 202를 반환하며,
+ * 매칭과 편지 저장 등 발송 비용만 워커로 넘어갑니다. 인메모리 큐에만 넣고 워커가 모아 저장하면
+ * 접수 응답을 받은 요청이 서버 종료 시 사라지고, 저장 전에는 추적 ID로 상태를 조회할 수 없기 때문입니다.
+ * DB에 쓸 수 없으면 접수도 실패하므로 클라이언트가 같은 Idempotency-Key로 다시 보낼 수 있습니다.</p>
+ *
+ * <h3>테이블 폴링으로 발송되는 경우:</h3>
+ * <ul>
+ *   <li>인메모리 큐가 가득 찬 경우 (부하 급증) - 바로 가져갈 수 있게 임대 해제</li>
+ *   <li>발송이 일시적으로 실패한 경우 - {@code retry-backoff} 후 재시도</li>
+ *   <li>서버 종료 시 인메모리 큐에 남아 있던 요청 - 바로 가져갈 수 있게 임대 해제</li>
+ *   <li>서버 비정상 종료 - 임대 만료 후 재시도</li>
+ * </ul>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see LetterSendWorker
+ */
+@Slf4j
+@Component
+public class LetterSendQueue {
+
+    private final QueuedLetterSendRepository queuedLetterSendRepository;
+    private final QueuedLetterSender queuedLetterSender;
+    private final LetterSendQueueProperties properties;
+    private final BlockingQueue<QueuedLetter> queue;
+
+    public LetterSendQueue(QueuedLetterSendRepository queuedLetterSendRepository,
+                           QueuedLetterSender queuedLetterSender,
+                           LetterSendQueueProperties properties) {
+        this.queuedLetterSendRepository = queuedLetterSendRepository;
+        this.queuedLetterSender = queuedLetterSender;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+    }
+
+    /**
+     * 비동기 발송 모드인지 확인합니다.
+     *
+     * @return 비동기 발송 모드이면 true
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 발송 요청을 접수합니다.
+     *
+     * <p>요청을 임대된 상태로 저장하여 이 인스턴스의 워커가 발송하는 동안 다른 인스턴스가 가져가지 않게 합니다.
+     * 저장은 호출 스레드에서 동기로 수행되며 (INSERT 한 번), 저장이 끝나야 접수 응답을 반환합니다.</p>
+     *
+     * @param senderId 발신자 ID
+     * @param idempotencyKey Idempotency-Key (없으면 null)
+     * @param content 편지 내용
+     * @return 추적 ID가 담긴 접수 응답
+     */
+    public LetterSendAcceptedResponse accept(Long senderId, String idempotencyKey, String content) {
+        QueuedLetterSend row = QueuedLetterSend.builder()
+                .trackingId(UUID.randomUUID().toString())
+                .senderId(senderId)
+                .idempotencyKey(idempotencyKey)
+                .content(content)
+                .build();
+        row.lease(LocalDateTime.now().plus(properties.getLease()));
+        queuedLetterSendRepository.save(row);
+
+        QueuedLetter letter = toQueuedLetter(row);
+        if (!queue.offer(letter)) {
+            queuedLetterSender.release(List.of(letter.getQueueId()));
+            log.info("발송 큐 포화, 테이블 폴링으로 발송: trackingId = {}, senderId = {}",
+                    letter.getTrackingId(), senderId);
+        }
+        return new LetterSendAcceptedResponse(letter.getTrackingId(), row.getCreatedAt());
+    }
+
+    /**
+     * 발신자의 발송 요청 상태를 조회합니다.
+     *
+     * @param senderId 발신자 ID
+     * @param trackingId 접수 시 받은 추적 ID
+     * @return 발송 요청 상태
+     * @throws SendRequestNotFoundException 요청이 없거나 보관 기간이 지난 경우
+     */
+    @Transactional(readOnly = true)
+    public LetterSendStatusResponse getStatus(Long senderId, String trackingId) {
+        return queuedLetterSendRepository.findByTrackingIdAndSenderId(trackingId, senderId)
+                .map(LetterSendStatusResponse::from)
+                .orElseThrow(SendRequestNotFoundException::new);
+    }
+
+    /**
+     * 인메모리 큐에서 요청을 꺼냅니다.
+     *
+     * <p>첫 요청이 들어올 때까지 최대 {@code timeoutMillis} 동안 기다리고,
+     * 이후 이미 쌓여 있는 요청을 {@code maxSize}개까지 함께 꺼냅니다.</p>
+     *
+     * @param maxSize 최대 요청 수
+     * @param timeoutMillis 대기 시간 (밀리초)
+     * @return 꺼낸 요청 목록 (시간 안에 요청이 없으면 빈 목록)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    List<QueuedLetter> take(int maxSize, long timeoutMillis) throws InterruptedException {
+        QueuedLetter first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<QueuedLetter> batch = new ArrayList<>(maxSize);
+        batch.add(first);
+        queue.drainTo(batch, maxSize - 1);
+        return batch;
+    }
+
+    /**
+     * 인메모리 큐에 남은 요청을 모두 임대 해제하여 테이블 폴링으로 넘깁니다.
+     *
+     * @return 넘긴 요청 수
+     */
+    int releaseRemaining() {
+        List<QueuedLetter> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            queuedLetterSender.release(remaining.stream().map(QueuedLetter::getQueueId).toList());
+        }
+        return remaining.size();
+    }
+
+    /**
+     * 테이블에서 가져갈 수 있는 요청을 임대합니다.
+     *
+     * <p>다른 인스턴스가 잠근 행은 건너뛰며, 최대 시도 횟수를 넘긴 행은 포기(FAILED)로 표시합니다.</p>
+     *
+     * @param batchSize 최대 임대 수
+     * @return 임대한 요청 목록
+     */
+    @Transactional
+    public List<QueuedLetter> leaseAvailable(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<QueuedLetterSend> rows = queuedLetterSendRepository.findAvailableForUpdateSkipLocked(
+                QueuedLetterSendStatus.PENDING, now, PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseUntil = now.plus(properties.getLease());
+        List<QueuedLetter> leased = new ArrayList<>(rows.size());
+        for (QueuedLetterSend row : rows) {
+            if (row.getAttempts() >= properties.getMaxAttempts()) {
+                row.markFailed();
+                log.error("편지 발송 포기 (최대 시도 횟수 초과): trackingId = {}, senderId = {}",
+                        row.getTrackingId(), row.getSenderId());
+                continue;
+            }
+            row.lease(leaseUntil);
+            leased.add(toQueuedLetter(row));
+        }
+        return leased;
+    }
+
+    /**
+     * 인메모리 큐에 쌓인 요청 수를 반환합니다.
+     *
+     * @return 대기 요청 수
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private QueuedLetter toQueuedLetter(QueuedLetterSend row) {
+        return new QueuedLetter(row.getId(), row.getTrackingId(), row.getSenderId(),
+                row.getIdempotencyKey(), row.getContent());
+    }
+}
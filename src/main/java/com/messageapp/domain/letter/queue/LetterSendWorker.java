@@ -0,0 +1,186 @@
+package com.messageapp.domain.letter.queue;
+
+import com.messageapp.domain.letter.dto.QueuedLetter;
+import com.messageapp.global.config.LetterSendQueueProperties;
+import com.messageapp.global.error.AppException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 편지 비동기 발송 워커
+ *
+ * <p>{@link LetterSendQueue}에서 요청을 배치로 꺼내 한 건씩 각자의 트랜잭션으로 발송합니다
+ * ({@link QueuedLetterSender#send}). 배치는 꺼내는 단위일 뿐이며, 한 요청의 실패가
+ * 같은 배치의 다른 요청을 롤백하거나 다시 발송하게 만들지 않습니다.</p>
+ *
+ * <h3>실패 처리:</h3>
+ * <ul>
+ *   <li>업무 예외 ({@link AppException} - 발신자 없음, 수신 가능 회원 없음 등) - 다시 시도해도 같으므로 FAILED로 표시</li>
+ *   <li>그 외 예외 (DB 장애 등) - {@code retry-backoff} 후 테이블 폴링으로 재시도.
+ *       재시도 예약마저 실패하면 임대 만료 후 재시도</li>
+ * </ul>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see LetterSendQueue
+ */
+@Slf4j
+@Component
+public class LetterSendWorker {
+
+    /** 인메모리 큐 대기 시간 (밀리초) - 종료 신호 확인 주기 */
+    private static final long TAKE_TIMEOUT_MILLIS = 500L;
+
+    /** 한 번 폴링에 연속 처리하는 최대 배치 수 */
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    /** 완료 요청 정리 시 한 번에 삭제하는 최대 행 수 */
+    private static final int PURGE_BATCH_SIZE = 1_000;
+
+    private final LetterSendQueue letterSendQueue;
+    private final QueuedLetterSender queuedLetterSender;
+    private final LetterSendQueueProperties properties;
+    private final Executor letterSendExecutor;
+
+    private volatile boolean running;
+
+    public LetterSendWorker(LetterSendQueue letterSendQueue,
+                            QueuedLetterSender queuedLetterSender,
+                            LetterSendQueueProperties properties,
+                            @Qualifier("letterSendExecutor") Executor letterSendExecutor) {
+        this.letterSendQueue = letterSendQueue;
+        this.queuedLetterSender = queuedLetterSender;
+        this.properties = properties;
+        this.letterSendExecutor = letterSendExecutor;
+    }
+
+    /**
+     * 비동기 발송 모드이면 워커 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            letterSendExecutor.execute(this::run);
+        }
+        log.info("편지 발송 워커 시작: workers = {}, capacity = {}", properties.getWorkers(), properties.getCapacity());
+    }
+
+    /**
+     * 워커를 멈추고 인메모리 큐에 남은 요청을 테이블 폴링으로 넘깁니다.
+     *
+     * <p>넘기지 못한 요청도 테이블에 저장되어 있으므로 임대 만료 후 발송됩니다.</p>
+     */
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            int released = letterSendQueue.releaseRemaining();
+            log.info("편지 발송 워커 종료: released = {}", released);
+        } catch (RuntimeException e) {
+            log.warn("편지 발송 워커 종료 중 임대 해제 실패, 임대 만료 후 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 테이블에서 가져갈 수 있는 요청을 주기적으로 발송합니다.
+     *
+     * <p>비동기 발송 모드를 끈 뒤에도 남은 요청이 발송되도록 모드와 관계없이 실행합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${letter.send-queue.poll-interval-ms:1000}")
+    public void pollAvailable() {
+        int batchSize = properties.getBatchSize();
+        for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+            List<QueuedLetter> batch;
+            try {
+                batch = letterSendQueue.leaseAvailable(batchSize);
+            } catch (Exception e) {
+                log.error("발송 대기 요청 임대 실패: {}", e.getMessage(), e);
+                return;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            process(batch);
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료 요청을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${letter.send-queue.purge-interval-ms:600000}")
+    public void purgeCompleted() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int deleted;
+        do {
+            deleted = queuedLetterSender.purgeCompleted(cutoff, PURGE_BATCH_SIZE);
+        } while (deleted == PURGE_BATCH_SIZE);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<QueuedLetter> batch = letterSendQueue.take(properties.getBatchSize(), TAKE_TIMEOUT_MILLIS);
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("편지 발송 워커 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 배치의 요청을 한 건씩 발송합니다.
+     */
+    void process(List<QueuedLetter> batch) {
+        for (QueuedLetter letter : batch) {
+            sendOne(letter);
+        }
+    }
+
+    private void sendOne(QueuedLetter letter) {
+        try {
+            queuedLetterSender.send(letter);
+        } catch (AppException e) {
+            log.warn("비동기 편지 발송 실패 (재시도 안 함): trackingId = {}, senderId = {}, error = {}",
+                    letter.getTrackingId(), letter.getSenderId(), e.getErrorCode());
+            try {
+                queuedLetterSender.fail(letter.getQueueId());
+            } catch (RuntimeException failError) {
+                log.error("발송 실패 기록 실패, 임대 만료 후 재시도: trackingId = {}", letter.getTrackingId(), failError);
+            }
+        } catch (RuntimeException e) {
+            log.warn("비동기 편지 발송 실패, 재시도 예정: trackingId = {}, senderId = {}, error = {}",
+                    letter.getTrackingId(), letter.getSenderId(), e.getMessage());
+            try {
+                queuedLetterSender.reschedule(List.of(letter.getQueueId()),
+                        LocalDateTime.now().plus(properties.getRetryBackoff()));
+            } catch (RuntimeException rescheduleError) {
+                log.error("재시도 예약 실패, 임대 만료 후 재시도: trackingId = {}", letter.getTrackingId(), rescheduleError);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.messageapp.domain.letter.queue;
+
+import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.dto.QueuedLetter;
+import com.messageapp.domain.letter.entity.QueuedLetterSend;
+import com.messageapp.domain.letter.entity.QueuedLetterSendStatus;
+import com.messageapp.domain.letter.repository.QueuedLetterSendRepository;
+import com.messageapp.domain.letter.service.IdempotentLetterSendService;
+import com.messageapp.domain.letter.service.LetterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 큐에서 꺼낸 발송 요청을 요청 한 건당 한 트랜잭션으로 발송합니다.
+ *
+ * <p>{@link LetterService#sendLetter}와 멱등 키 기록은 이 트랜잭션에 참여하므로
+ * 편지 저장, 멱등 키 기록, 대기 요청의 SENT 표시가 함께 커밋되거나 롤백됩니다.
+ * 요청마다 트랜잭션이 분리되어 있어 한 요청의 실패가 다른 요청의 발송(일일 한도 차감,
+ * 알림 등 트랜잭션 밖의 부수 효과 포함)을 되돌리거나 다시 실행하게 만들지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+class QueuedLetterSender {
+
+    /** 보관 기간이 지나면 삭제하는 완료 상태 */
+    private static final List<QueuedLetterSendStatus> COMPLETED_STATUSES =
+            List.of(QueuedLetterSendStatus.SENT, QueuedLetterSendStatus.FAILED);
+
+    private final LetterService letterService;
+    private final IdempotentLetterSendService idempotentLetterSendService;
+    private final QueuedLetterSendRepository queuedLetterSendRepository;
+
+    /**
+     * 요청 한 건을 발송합니다.
+     *
+     * <p>대기 요청 행을 잠그고 PENDING인 경우에만 발송하므로, 임대가 만료되어
+     * 다른 워커가 같은 요청을 가져가도 한 번만 발송됩니다.</p>
+     *
+     * @param letter 발송할 요청
+     * @return 발송했으면 true, 이미 처리된 요청이면 false
+     */
+    @Transactional
+    public boolean send(QueuedLetter letter) {
+        Optional<QueuedLetterSend> row = queuedLetterSendRepository.findByIdAndStatusForUpdate(
+                letter.getQueueId(), QueuedLetterSendStatus.PENDING);
+        if (row.isEmpty()) {
+            return false;
+        }
+
+        LetterResponse response = letter.getIdempotencyKey() == null
+                ? letterService.sendLetter(letter.getSenderId(), letter.getContent())
+                : idempotentLetterSendService.sendLetter(
+                        letter.getSenderId(), letter.getIdempotencyKey(), letter.getContent());
+        row.get().markSent(response.getLetterId());
+        return true;
+    }
+
+    /**
+     * 다시 시도해도 실패할 요청을 포기(FAILED)로 표시합니다.
+     *
+     * @param queueId 대기 요청 ID
+     */
+    @Transactional
+    public void fail(Long queueId) {
+        queuedLetterSendRepository.findByIdAndStatusForUpdate(queueId, QueuedLetterSendStatus.PENDING)
+                .ifPresent(QueuedLetterSend::markFailed);
+    }
+
+    /**
+     * 요청의 임대를 해제하여 바로 다시 가져갈 수 있게 합니다.
+     *
+     * @param queueIds 대기 요청 ID 목록
+     */
+    @Transactional
+    public void release(Collection<Long> queueIds) {
+        reschedule(queueIds, LocalDateTime.now());
+    }
+
+    /**
+     * 요청을 지정한 시각 이후에 다시 가져갈 수 있게 합니다.
+     *
+     * @param queueIds 대기 요청 ID 목록
+     * @param availableAt 다시 가져갈 수 있는 시각
+     */
+    @Transactional
+    public void reschedule(Collection<Long> queueIds, LocalDateTime availableAt) {
+        queuedLetterSendRepository.rescheduleByIdIn(queueIds, QueuedLetterSendStatus.PENDING, availableAt);
+    }
+
+    /**
+     * 보관 기간이 지난 완료 요청을 삭제합니다.
+     *
+     * <p>DB 고유 문법({@code DELETE ... LIMIT})을 쓰지 않도록 ID를 한 페이지 조회한 뒤
+     * {@code IN} 조건으로 삭제합니다. 완료된 행은 다시 바뀌지 않으므로 조회와 삭제 사이의 경합은 없습니다.</p>
+     *
+     * @param cutoff 이 시각 이전에 완료된 요청 삭제
+     * @param limit 최대 삭제 수
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeCompleted(LocalDateTime cutoff, int limit) {
+        List<Long> ids = queuedLetterSendRepository.findCompletedIdsBefore(
+                COMPLETED_STATUSES, cutoff, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return queuedLetterSendRepository.deleteByIdIn(ids);
+    }
+}
@@ -0,0 +1,79 @@
+package com.messageapp.domain.letter.repository;
+
+import com.messageapp.domain.letter.entity.ArchivedLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 보관된 편지 저장소
+ *
+ * <p>letters → letters_archive 이동에 필요한 네이티브 쿼리를 제공합니다.
+ * 세 쿼리는 같은 트랜잭션에서 잠금 → 복사 → 삭제 순서로 실행되어야 합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see ArchivedLetter
+ */
+public interface ArchivedLetterRepository extends JpaRepository<ArchivedLetter, Long> {
+
+    /**
+     * 보관 가능한 편지를 잠그고 ID를 조회합니다.
+     *
+     * <p>READ 상태이고 보관함에 담기거나 신고되지 않은 편지만 잠급니다.
+     * 잠긴 행에는 북마크/신고 INSERT가 외래 키 검사에서 대기하므로 보관 도중 새로 참조되지 않으며,
+     * 다른 인스턴스가 잠근 행은 건너뜁니다 (SKIP LOCKED).</p>
+     *
+     * @param letterIds 후보 편지 ID 목록
+     * @return 잠긴 편지 ID 목록
+     */
+    @Query(value = "SELECT l.letter_id FROM letters l " +
+            "WHERE l.letter_id IN (:letterIds) AND l.status = 'READ' " +
+            "AND NOT EXISTS (SELECT 1 FROM bookmarks b WHERE b.letter_id = l.letter_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM reports r WHERE r.letter_id = l.letter_id) " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivable(@Param("letterIds") Collection<Long> letterIds);
+
+    /**
+     * 편지를 보관 테이블로 복사합니다.
+     *
+     * @param letterIds 잠긴 편지 ID 목록
+     * @param archivedAt 보관 시각
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO letters_archive (letter_id, body_id, receiver_id, status, matched_at, " +
+            "deliver_at, read_at, created_at, last_modified_at, archived_at) " +
+            "SELECT letter_id, body_id, receiver_id, status, matched_at, deliver_at, read_at, " +
+            "created_at, last_modified_at, :archivedAt FROM letters WHERE letter_id IN (:letterIds)",
+            nativeQuery = true)
+    int copyToArchive(@Param("letterIds") Collection<Long> letterIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 보관할 편지의 수신함 제거 기록을 남깁니다 (동기화 tombstone).
+     *
+     * @param letterIds 잠긴 편지 ID 목록
+     * @param removedAt 제거 시각
+     * @return 기록된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO letter_removals (receiver_id, letter_id, removed_at) " +
+            "SELECT receiver_id, letter_id, :removedAt FROM letters " +
+            "WHERE letter_id IN (:letterIds) AND receiver_id IS NOT NULL", nativeQuery = true)
+    int recordRemovals(@Param("letterIds") Collection<Long> letterIds, @Param("removedAt") LocalDateTime removedAt);
+
+    /**
+     * 보관한 편지를 letters에서 삭제합니다.
+     *
+     * @param letterIds 잠긴 편지 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM letters WHERE letter_id IN (:letterIds)", nativeQuery = true)
+    int deleteLetters(@Param("letterIds") Collection<Long> letterIds);
+}
@@ -0,0 +1,76 @@
+package com.messageapp.domain.letter.repository;
+
+import com.messageapp.domain.letter.entity.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 멱등 요청 기록 저장소
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see IdempotencyRecord
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 키를 삭제합니다.
+     *
+     * @param scopeKey 회원 ID와 Idempotency-Key를 합친 키
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scopeKey = :scopeKey")
+    int deleteByScopeKey(@Param("scopeKey") String scopeKey);
+
+    /**
+     * 만료되었거나 처리 중인 채로 오래 방치된 키를 삭제합니다.
+     *
+     * <p>처리 중 상태가 오래 유지되는 경우는 최초 요청을 처리하던 서버가 내려간 경우이므로
+     * 키를 다시 선점할 수 있게 합니다.</p>
+     *
+     * @param scopeKey 회원 ID와 Idempotency-Key를 합친 키
+     * @param now 현재 시각
+     * @param staleBefore 이 시각 이전에 선점된 처리 중 키는 방치된 것으로 간주
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scopeKey = :scopeKey AND (r.expiresAt < :now " +
+            "OR (r.status = com.messageapp.domain.letter.entity.IdempotencyStatus.IN_PROGRESS " +
+            "AND r.lastModifiedAt < :staleBefore))")
+    int deleteIfExpiredOrStale(@Param("scopeKey") String scopeKey,
+                               @Param("now") LocalDateTime now,
+                               @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 만료된 키를 {@code expires_at} 인덱스 범위에서 한 페이지 조회합니다.
+     *
+     * @param now 현재 시각
+     * @param pageable 조회할 최대 개수
+     * @return 만료된 키 목록
+     */
+    @Query("SELECT r.scopeKey FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    List<String> findExpiredScopeKeys(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 주어진 키 중 만료된 키를 삭제합니다.
+     *
+     * <p>조회 이후 다시 선점된 키는 만료 시각이 갱신되었으므로 삭제하지 않습니다.</p>
+     *
+     * @param scopeKeys 삭제할 키 목록
+     * @param now 현재 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scopeKey IN :scopeKeys AND r.expiresAt < :now")
+    int deleteExpired(@Param("scopeKeys") Collection<String> scopeKeys, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,31 @@
+package com.messageapp.domain.letter.repository;
+
+import com.messageapp.domain.letter.entity.LetterContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 편지 내용 저장소
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see LetterContent
+ */
+@Repository
+public interface LetterContentRepository extends JpaRepository<LetterContent, Long> {
+
+    /**
+     * 해시로 편지 내용 ID를 조회합니다.
+     *
+     * <p>내용 컬럼을 읽지 않으므로 압축 해제가 발생하지 않습니다.</p>
+     *
+     * @param contentHash 내용의 SHA-256 해시
+     * @return 편지 내용 ID
+     */
+    @Query("SELECT c.id FROM LetterContent c WHERE c.contentHash = :contentHash")
+    Optional<Long> findIdByContentHash(@Param("contentHash") String contentHash);
+}
@@ -0,0 +1,64 @@
+package com.messageapp.domain.letter.repository;
+
+import com.messageapp.domain.letter.entity.LetterRemoval;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 수신함 제거 기록 저장소
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see LetterRemoval
+ */
+public interface LetterRemovalRepository extends JpaRepository<LetterRemoval, Long> {
+
+    /**
+     * 동기화 토큰 이후 수신자의 수신함에서 빠진 편지를 조회합니다.
+     *
+     * <p>{@link LetterRepository#findChangesAfter}와 같은 {@code (시각, letter_id)} keyset을 사용하며
+     * {@code idx_letter_removals_receiver_removed_at} 인덱스 범위만 읽습니다.</p>
+     *
+     * @param receiverId 수신자 ID
+     * @param since 토큰의 마지막 변경 시각
+     * @param letterId 토큰의 마지막 편지 ID
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 제거 기록 목록 (제거 시각 오름차순)
+     */
+    @Query("SELECT r FROM LetterRemoval r WHERE r.receiverId = :receiverId AND r.removedAt >= :since " +
+            "AND (r.removedAt > :since OR r.letterId > :letterId) ORDER BY r.removedAt, r.letterId")
+    List<LetterRemoval> findRemovalsAfter(@Param("receiverId") Long receiverId,
+                                          @Param("since") LocalDateTime since,
+                                          @Param("letterId") Long letterId,
+                                          Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 제거 기록 ID를 한 페이지 조회합니다.
+     *
+     * <p>기록은 제거 시각 순으로 쌓이므로 PK 순서로 앞에서부터 읽으면 오래된 기록을 먼저 만나고,
+     * 제거 시각만으로 찾는 별도 인덱스가 필요하지 않습니다.</p>
+     *
+     * @param cutoff 이 시각 이전의 기록
+     * @param pageable 조회할 최대 개수
+     * @return 제거 기록 ID 목록 (오름차순)
+     */
+    @Query("SELECT r.id FROM LetterRemoval r WHERE r.removedAt < :cutoff ORDER BY r.id")
+    List<Long> findIdsRemovedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 제거 기록을 ID로 일괄 삭제합니다.
+     *
+     * @param ids 제거 기록 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM LetterRemoval r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,11 +1,29 @@
 package com.messageapp.domain.letter.repository;
 
+import com.messageapp.domain.letter.dto.ArchiveCandidate;
+import com.messageapp.domain.letter.dto.BodyReceiver;
+import com.messageapp.domain.letter.dto.InboxLetter;
+import com.messageapp.domain.letter.dto.LetterChange;
+import com.messageapp.domain.letter.dto.LetterDetail;
+import com.messageapp.domain.letter.dto.ReceiverLetterCount;
+import com.messageapp.domain.letter.dto.ScheduledLetter;
 import com.messageapp.domain.letter.entity.Letter;
 import com.messageapp.domain.letter.entity.LetterStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 편지 저장소
@@ -28,13 +46,236 @@ public interface LetterRepository extends JpaRepository<Letter, Long> {
     List<Letter> findByReceiverIdOrderByCreatedAtDesc(Long receiverId);
 
     /**
-     * 특정 수신자가 받은 특정 상태의 편지 목록을 최신순으로 조회합니다.
+     * 특정 수신자가 받은 특정 상태의 편지 첫 페이지를 최신순으로 조회합니다.
      *
-     * <p>주로 DELIVERED 상태(배달 완료, 미읽음) 편지를 조회하는 데 사용됩니다.</p>
+     * <p>{@code (receiver_id, status, created_at, letter_id)} 인덱스를 역순으로 읽고
+     * 페이지 크기만큼에서 멈춥니다. 목록을 List로 받으므로 COUNT 쿼리는 실행되지 않습니다.
+     * 발신자 정보는 본문과 회원을 PK로 조인해 필요한 컬럼만 읽습니다.</p>
      *
      * @param receiverId 수신자 ID
+     * @param status 편지 상태 (주로 DELIVERED)
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 수신함 목록 조회 결과 (최신순)
+     */
+    @Query("SELECT new com.messageapp.domain.letter.dto.InboxLetter(" +
+            "l.id, l.createdAt, s.name, s.islandName, s.profileImageIndex) " +
+            "FROM Letter l JOIN l.body b JOIN b.sender s " +
+            "WHERE l.receiver.id = :receiverId AND l.status = :status " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<InboxLetter> findInboxFirstPage(@Param("receiverId") Long receiverId,
+                                    @Param("status") LetterStatus status,
+                                    Pageable pageable);
+
+    /**
+     * 커서 이후(더 오래된) 편지 페이지를 최신순으로 조회합니다 (keyset 페이징).
+     *
+     * <p>OFFSET 없이 커서 위치부터 인덱스를 읽으므로 수신함이 깊어져도 페이지 비용이 일정합니다.
+     * {@code createdAt <= :createdAt} 조건은 중복이지만 OR 조건에서도 인덱스 범위 스캔이
+     * 선택되도록 범위의 상한을 명시합니다.</p>
+     *
+     * @param receiverId 수신자 ID
+     * @param status 편지 상태 (주로 DELIVERED)
+     * @param createdAt 이전 페이지 마지막 편지의 생성 시각
+     * @param letterId 이전 페이지 마지막 편지 ID
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 수신함 목록 조회 결과 (최신순)
+     */
+    @Query("SELECT new com.messageapp.domain.letter.dto.InboxLetter(" +
+            "l.id, l.createdAt, s.name, s.islandName, s.profileImageIndex) " +
+            "FROM Letter l JOIN l.body b JOIN b.sender s " +
+            "WHERE l.receiver.id = :receiverId AND l.status = :status " +
+            "AND l.createdAt <= :createdAt " +
+            "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :letterId)) " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<InboxLetter> findInboxPageBefore(@Param("receiverId") Long receiverId,
+                                     @Param("status") LetterStatus status,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("letterId") Long letterId,
+                                     Pageable pageable);
+
+    /**
+     * 동기화 토큰 이후 변경된 수신 편지를 변경 순서대로 조회합니다.
+     *
+     * <p>{@code (receiver_id, last_modified_at, letter_id)} 인덱스를 토큰 위치부터 읽습니다.
+     * 변경이 없으면 인덱스 범위 탐색 한 번으로 끝납니다.
+     * {@code lastModifiedAt >= :since} 조건은 중복이지만 OR 조건에서도 인덱스 범위 스캔이
+     * 선택되도록 범위의 하한을 명시합니다.</p>
+     *
+     * @param receiverId 수신자 ID
+     * @param since 토큰의 마지막 변경 시각
+     * @param letterId 토큰의 마지막 편지 ID
+     * @param statuses 수신자에게 보이는 상태 (DELIVERED, READ)
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 변경된 편지 목록 (변경 시각 오름차순)
+     */
+    @Query("SELECT new com.messageapp.domain.letter.dto.LetterChange(" +
+            "l.id, l.status, s.name, s.islandName, s.profileImageIndex, l.createdAt, l.readAt, l.lastModifiedAt) " +
+            "FROM Letter l JOIN l.body b JOIN b.sender s " +
+            "WHERE l.receiver.id = :receiverId AND l.lastModifiedAt >= :since " +
+            "AND (l.lastModifiedAt > :since OR l.id > :letterId) AND l.status IN :statuses " +
+            "ORDER BY l.lastModifiedAt, l.id")
+    List<LetterChange> findChangesAfter(@Param("receiverId") Long receiverId,
+                                        @Param("since") LocalDateTime since,
+                                        @Param("letterId") Long letterId,
+                                        @Param("statuses") Collection<LetterStatus> statuses,
+                                        Pageable pageable);
+
+    /**
+     * 특정 상태의 편지 수를 수신자별로 집계합니다.
+     *
+     * <p>인메모리 수신함 부하 카운터 초기화에 사용됩니다.</p>
+     *
      * @param status 편지 상태
-     * @return 편지 목록 (최신순)
+     * @return 수신자별 편지 수
+     */
+    @Query("SELECT l.receiver.id AS receiverId, COUNT(l) AS letterCount FROM Letter l " +
+            "WHERE l.status = :status AND l.receiver IS NOT NULL GROUP BY l.receiver.id")
+    List<ReceiverLetterCount> countByStatusGroupByReceiver(@Param("status") LetterStatus status);
+
+    /**
+     * 매칭 시도 시각이 지난 특정 상태의 편지를 시도 시각 순으로 잠그고 조회합니다.
+     *
+     * <p>lock timeout {@code -2}는 Hibernate의 SKIP LOCKED를 의미하며,
+     * 여러 인스턴스의 매처가 동시에 실행되어도 서로 다른 편지를 가져갑니다.
+     * 수신자를 찾지 못한 편지는 {@code next_attempt_at}이 뒤로 밀리므로
+     * 같은 편지가 매 배치의 앞자리를 차지해 새 편지를 굶기지 않습니다.</p>
+     *
+     * @param status 편지 상태 (주로 WAITING)
+     * @param now 기준 시각
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 잠긴 편지 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT l FROM Letter l WHERE l.status = :status AND l.nextAttemptAt <= :now " +
+            "ORDER BY l.nextAttemptAt, l.id")
+    List<Letter> findDueByStatusForUpdateSkipLocked(@Param("status") LetterStatus status,
+                                                    @Param("now") LocalDateTime now,
+                                                    Pageable pageable);
+
+    /**
+     * 지정한 ID 중 특정 상태인 편지를 잠그고 조회합니다 (SKIP LOCKED).
+     *
+     * <p>예약 배달 시 다른 인스턴스가 같은 편지를 동시에 배달하지 않도록 사용합니다.</p>
+     *
+     * @param ids 편지 ID 목록
+     * @param status 편지 상태 (주로 SCHEDULED)
+     * @return 잠긴 편지 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT l FROM Letter l WHERE l.id IN :ids AND l.status = :status")
+    List<Letter> findByIdInAndStatusForUpdateSkipLocked(@Param("ids") Collection<Long> ids,
+                                                        @Param("status") LetterStatus status);
+
+    /**
+     * 배달 예약 편지를 letter_id 오름차순으로 조회합니다 (keyset 페이징).
+     *
+     * @param lastId 이전 청크의 마지막 편지 ID (첫 청크는 0)
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 편지 ID와 배달 예정 시각 목록
+     */
+    @Query("SELECT l.id AS letterId, l.deliverAt AS deliverAt FROM Letter l " +
+            "WHERE l.status = com.messageapp.domain.letter.entity.LetterStatus.SCHEDULED AND l.id > :lastId ORDER BY l.id")
+    List<ScheduledLetter> findScheduledAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 배달된(DELIVERED 또는 READ) 편지의 상세 정보를 본문, 내용, 발신자와 함께 한 번의 쿼리로 조회합니다.
+     *
+     * <p>방해 금지 시간으로 예약(SCHEDULED)되었거나 아직 배정되지 않은 편지는 조회되지 않으므로
+     * 배달 전에 내용이 노출되지 않습니다.</p>
+     *
+     * @param letterId 편지 ID
+     * @return 편지 상세 조회 결과 (배달 전이면 빈 값)
+     */
+    @Query("SELECT new com.messageapp.domain.letter.dto.LetterDetail(" +
+            "l.id, l.receiver.id, c.text, s.name, s.islandName, s.profileImageIndex, " +
+            "l.status, l.createdAt, l.matchedAt, l.readAt) " +
+            "FROM Letter l JOIN l.body b JOIN b.letterContent c JOIN b.sender s WHERE l.id = :letterId " +
+            "AND l.status IN (com.messageapp.domain.letter.entity.LetterStatus.DELIVERED, " +
+            "com.messageapp.domain.letter.entity.LetterStatus.READ)")
+    Optional<LetterDetail> findDeliveredDetailById(@Param("letterId") Long letterId);
+
+    /**
+     * 수신자의 배달 완료(DELIVERED) 편지를 읽음 상태로 변경합니다.
+     *
+     * <p>조회 없이 UPDATE 한 번으로 처리하며, 수신자가 다르거나 이미 읽은 편지는 변경하지 않습니다.</p>
+     *
+     * @param letterId 편지 ID
+     * @param receiverId 수신자 ID
+     * @param readAt 읽음 처리 시각
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE Letter l SET l.status = com.messageapp.domain.letter.entity.LetterStatus.READ, " +
+            "l.readAt = :readAt, l.lastModifiedAt = :readAt " +
+            "WHERE l.id = :letterId AND l.receiver.id = :receiverId " +
+            "AND l.status = com.messageapp.domain.letter.entity.LetterStatus.DELIVERED")
+    int markAsRead(@Param("letterId") Long letterId, @Param("receiverId") Long receiverId,
+                   @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * 수신자의 배달 완료(DELIVERED) 편지 여러 통을 한 번에 읽음 상태로 변경합니다.
+     *
+     * @param letterIds 편지 ID 목록
+     * @param receiverId 수신자 ID
+     * @param readAt 읽음 처리 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Letter l SET l.status = com.messageapp.domain.letter.entity.LetterStatus.READ, " +
+            "l.readAt = :readAt, l.lastModifiedAt = :readAt " +
+            "WHERE l.id IN :letterIds AND l.receiver.id = :receiverId " +
+            "AND l.status = com.messageapp.domain.letter.entity.LetterStatus.DELIVERED")
+    int markAllAsRead(@Param("letterIds") Collection<Long> letterIds, @Param("receiverId") Long receiverId,
+                      @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * 보관 기간이 지난 READ 편지를 (read_at, letter_id) 순으로 조회합니다 (keyset 페이징).
+     *
+     * <p>{@code idx_letters_status_read_at} 인덱스 범위만 읽습니다.
+     * 보관함/신고 여부는 보관 시 잠금 쿼리에서 확인합니다.</p>
+     *
+     * @param cutoff 이 시각 이전에 읽은 편지만 조회
+     * @param lastReadAt 이전 청크 마지막 편지의 읽음 처리 시각
+     * @param lastId 이전 청크 마지막 편지 ID
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 보관 대상 편지 목록
+     */
+    @Query("SELECT l.id AS letterId, l.readAt AS readAt FROM Letter l " +
+            "WHERE l.status = com.messageapp.domain.letter.entity.LetterStatus.READ AND l.readAt < :cutoff " +
+            "AND (l.readAt > :lastReadAt OR (l.readAt = :lastReadAt AND l.id > :lastId)) " +
+            "ORDER BY l.readAt, l.id")
+    List<ArchiveCandidate> findArchiveCandidates(@Param("cutoff") LocalDateTime cutoff,
+                                                 @Param("lastReadAt") LocalDateTime lastReadAt,
+                                                 @Param("lastId") Long lastId,
+                                                 Pageable pageable);
+
+    /**
+     * 배정 후 기준 시각까지 읽히지 않은 DELIVERED 편지를 배정이 오래된 순으로 잠그고 조회합니다 (SKIP LOCKED).
+     *
+     * <p>{@code idx_letters_status_matched_at} 인덱스의 {@code (DELIVERED, ~cutoff)} 범위만 읽습니다.</p>
+     *
+     * @param cutoff 이 시각 이전에 배정된 편지만 조회
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 잠긴 편지 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT l FROM Letter l WHERE l.status = com.messageapp.domain.letter.entity.LetterStatus.DELIVERED " +
+            "AND l.matchedAt < :cutoff ORDER BY l.matchedAt")
+    List<Letter> findExpiredDeliveredForUpdateSkipLocked(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 편지와 같은 본문(body_id)을 가진 편지의 수신자를 조회합니다.
+     *
+     * <p>편지 자신의 현재 수신자도 포함됩니다. body_id 외래 키 인덱스로 조인합니다.</p>
+     *
+     * @param letterIds 기준 편지 ID 목록
+     * @return (기준 편지 ID, 수신자 ID) 목록
      */
-    List<Letter> findByReceiverIdAndStatusOrderByCreatedAtDesc(Long receiverId, LetterStatus status);
+    @Query(value = "SELECT DISTINCT l.letter_id AS letterId, o.receiver_id AS receiverId " +
+            "FROM letters l JOIN letters o ON o.body_id = l.body_id " +
+            "WHERE l.letter_id IN (:letterIds) AND o.receiver_id IS NOT NULL", nativeQuery = true)
+    List<BodyReceiver> findBodyReceivers(@Param("letterIds") Collection<Long> letterIds);
 }
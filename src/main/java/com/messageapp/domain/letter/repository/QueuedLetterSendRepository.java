@@ -0,0 +1,107 @@
+package com.messageapp.domain.letter.repository;
+
+import com.messageapp.domain.letter.entity.QueuedLetterSend;
+import com.messageapp.domain.letter.entity.QueuedLetterSendStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 편지 비동기 발송 대기 요청 저장소
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see QueuedLetterSend
+ */
+@Repository
+public interface QueuedLetterSendRepository extends JpaRepository<QueuedLetterSend, Long> {
+
+    /**
+     * 가져갈 수 있는 발송 대기 요청을 오래된 순으로 잠그고 조회합니다 (SKIP LOCKED).
+     *
+     * @param status 요청 상태 (PENDING)
+     * @param now 기준 시각
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 잠긴 발송 대기 요청 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT q FROM QueuedLetterSend q WHERE q.status = :status AND q.availableAt <= :now " +
+            "ORDER BY q.availableAt")
+    List<QueuedLetterSend> findAvailableForUpdateSkipLocked(@Param("status") QueuedLetterSendStatus status,
+                                                            @Param("now") LocalDateTime now,
+                                                            Pageable pageable);
+
+    /**
+     * 특정 상태인 발송 대기 요청을 잠그고 조회합니다.
+     *
+     * <p>다른 워커가 같은 요청을 발송 중이면 그 트랜잭션이 끝날 때까지 기다리며,
+     * 이미 처리되었으면 빈 값을 반환합니다.</p>
+     *
+     * @param id 대기 요청 ID
+     * @param status 요청 상태 (PENDING)
+     * @return 잠긴 발송 대기 요청
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM QueuedLetterSend q WHERE q.id = :id AND q.status = :status")
+    Optional<QueuedLetterSend> findByIdAndStatusForUpdate(@Param("id") Long id,
+                                                          @Param("status") QueuedLetterSendStatus status);
+
+    /**
+     * 발신자의 발송 요청을 추적 ID로 조회합니다.
+     *
+     * @param trackingId 추적 ID
+     * @param senderId 발신자 ID
+     * @return 발송 대기 요청
+     */
+    Optional<QueuedLetterSend> findByTrackingIdAndSenderId(String trackingId, Long senderId);
+
+    /**
+     * 대기 중인 요청을 다시 가져갈 수 있는 시각을 변경합니다.
+     *
+     * @param ids 대기 요청 ID 목록
+     * @param status 요청 상태 (PENDING)
+     * @param availableAt 다시 가져갈 수 있는 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE QueuedLetterSend q SET q.availableAt = :availableAt WHERE q.id IN :ids AND q.status = :status")
+    int rescheduleByIdIn(@Param("ids") Collection<Long> ids,
+                         @Param("status") QueuedLetterSendStatus status,
+                         @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 보관 기간이 지난 완료 요청 ID를 {@code (status, completed_at)} 인덱스 범위에서 한 페이지 조회합니다.
+     *
+     * @param statuses 완료 상태 (SENT, FAILED)
+     * @param cutoff 이 시각 이전에 완료된 요청
+     * @param pageable 조회할 최대 개수
+     * @return 완료 요청 ID 목록
+     */
+    @Query("SELECT q.id FROM QueuedLetterSend q WHERE q.status IN :statuses AND q.completedAt < :cutoff")
+    List<Long> findCompletedIdsBefore(@Param("statuses") Collection<QueuedLetterSendStatus> statuses,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      Pageable pageable);
+
+    /**
+     * 요청을 ID로 일괄 삭제합니다.
+     *
+     * @param ids 대기 요청 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM QueuedLetterSend q WHERE q.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
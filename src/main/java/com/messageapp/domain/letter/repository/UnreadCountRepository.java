@@ -0,0 +1,95 @@
+package com.messageapp.domain.letter.repository;
+
+import com.messageapp.domain.letter.entity.UnreadCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 회원별 미읽음 편지 수 저장소
+ *
+ * <p>DB 고유 upsert 문법({@code ON DUPLICATE KEY UPDATE}, {@code INSERT IGNORE}, {@code MERGE}) 없이
+ * 표준 SQL만 사용하므로 MySQL과 H2에서 같은 경로로 동작합니다. 증감은 기존 행의 UPDATE로만 반영하고,
+ * 행이 없는 회원은 letters 테이블의 DELIVERED 편지 수로 행을 만듭니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see UnreadCount
+ * @see com.messageapp.domain.letter.service.UnreadCountService
+ */
+public interface UnreadCountRepository extends JpaRepository<UnreadCount, Long> {
+
+    /**
+     * 회원의 미읽음 편지 수를 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 미읽음 편지 수 (행이 없으면 empty)
+     */
+    @Query("SELECT u.unreadCount FROM UnreadCount u WHERE u.memberId = :memberId")
+    Optional<Integer> findUnreadCountByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 회원의 미읽음 편지 수를 증감합니다 (0 미만으로 내려가지 않음).
+     *
+     * @param memberId 회원 ID
+     * @param delta 변경량 (음수면 감소)
+     * @return 변경된 행 수 (행이 없으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UnreadCount u SET u.unreadCount = " +
+            "CASE WHEN u.unreadCount + :delta < 0 THEN 0 ELSE u.unreadCount + :delta END " +
+            "WHERE u.memberId = :memberId")
+    int applyDelta(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    /**
+     * 행이 없는 회원의 미읽음 편지 수를 letters 테이블의 DELIVERED 편지 수로 새로 만듭니다.
+     *
+     * <p>호출자 트랜잭션과 분리(REQUIRES_NEW)하여 커밋 이후에도 호출할 수 있고, 다른 요청이 먼저 행을 만들어
+     * PK 중복으로 {@link org.springframework.dao.DataIntegrityViolationException}이 발생해도
+     * 호출자 트랜잭션이 rollback-only가 되지 않습니다.</p>
+     *
+     * @param memberId 회원 ID
+     * @return 생성된 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO unread_counts (member_id, unread_count) " +
+            "SELECT :memberId, COUNT(*) FROM letters WHERE receiver_id = :memberId AND status = 'DELIVERED'",
+            nativeQuery = true)
+    int insertFromLetters(@Param("memberId") Long memberId);
+
+    /**
+     * 회원의 미읽음 편지 수를 letters 테이블의 DELIVERED 편지 수로 다시 셉니다.
+     *
+     * @param memberId 회원 ID
+     * @return 변경된 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "UPDATE unread_counts SET unread_count = (SELECT COUNT(*) FROM letters " +
+            "WHERE receiver_id = :memberId AND status = 'DELIVERED') WHERE member_id = :memberId",
+            nativeQuery = true)
+    int recountFromLetters(@Param("memberId") Long memberId);
+
+    /**
+     * letters 테이블의 DELIVERED 편지 수로 미읽음 편지 수를 채웁니다 (최초 도입 시).
+     *
+     * <p>이미 행이 있는 회원은 건너뜁니다.</p>
+     *
+     * @return 생성된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO unread_counts (member_id, unread_count) " +
+            "SELECT l.receiver_id, COUNT(*) FROM letters l " +
+            "WHERE l.status = 'DELIVERED' AND l.receiver_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM unread_counts u WHERE u.member_id = l.receiver_id) " +
+            "GROUP BY l.receiver_id", nativeQuery = true)
+    int backfillFromLetters();
+}
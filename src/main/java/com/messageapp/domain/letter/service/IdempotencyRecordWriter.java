@@ -0,0 +1,118 @@
+package com.messageapp.domain.letter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.entity.IdempotencyRecord;
+import com.messageapp.domain.letter.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 요청 기록 트랜잭션 경계
+ *
+ * <p>키 선점/해제는 발송 트랜잭션과 분리(REQUIRES_NEW)하여 즉시 커밋하고,
+ * 응답 저장은 발송과 같은 트랜잭션에서 수행하여 "편지는 저장됐는데 응답 기록은 없는" 상태를 막습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see IdempotentLetterSendService
+ */
+@Component
+@RequiredArgsConstructor
+class IdempotencyRecordWriter {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 키 기록을 조회합니다.
+     *
+     * @param scopeKey 회원 ID와 Idempotency-Key를 합친 키
+     * @return 키 기록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<IdempotencyRecord> find(String scopeKey) {
+        return idempotencyRecordRepository.findById(scopeKey);
+    }
+
+    /**
+     * 키를 선점합니다.
+     *
+     * <p>만료되었거나 방치된 기존 기록은 먼저 지웁니다. 다른 요청이 이미 선점했으면
+     * PK 중복으로 {@link org.springframework.dao.DataIntegrityViolationException}이 발생합니다.</p>
+     *
+     * @param scopeKey 회원 ID와 Idempotency-Key를 합친 키
+     * @param requestHash 요청 본문 해시
+     * @param now 현재 시각
+     * @param expiresAt 만료 시각
+     * @param staleBefore 이 시각 이전에 선점된 처리 중 키는 방치된 것으로 간주
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void claim(String scopeKey, String requestHash, LocalDateTime now,
+                      LocalDateTime expiresAt, LocalDateTime staleBefore) {
+        idempotencyRecordRepository.deleteIfExpiredOrStale(scopeKey, now, staleBefore);
+        idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.inProgress(scopeKey, requestHash, expiresAt));
+    }
+
+    /**
+     * 선점한 키를 해제합니다 (발송 실패 시).
+     *
+     * @param scopeKey 회원 ID와 Idempotency-Key를 합친 키
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String scopeKey) {
+        idempotencyRecordRepository.deleteByScopeKey(scopeKey);
+    }
+
+    /**
+     * 발송을 실행하고 같은 트랜잭션에서 응답을 기록합니다.
+     *
+     * @param scopeKey 회원 ID와 Idempotency-Key를 합친 키
+     * @param action 발송 작업
+     * @return 발송 응답
+     */
+    @Transactional
+    public LetterResponse executeAndRecord(String scopeKey, Supplier<LetterResponse> action) {
+        LetterResponse response = action.get();
+        idempotencyRecordRepository.findById(scopeKey)
+                .ifPresent(record -> record.complete(toJson(response)));
+        return response;
+    }
+
+    /**
+     * 만료된 키를 정리합니다.
+     *
+     * <p>DB 고유 문법({@code DELETE ... LIMIT})을 쓰지 않도록 만료된 키를 한 페이지 조회한 뒤
+     * {@code IN} 조건으로 삭제합니다.</p>
+     *
+     * @param now 현재 시각
+     * @param limit 최대 삭제 수
+     * @return 조회된 만료 키 수 ({@code limit}과 같으면 남은 키가 있을 수 있음)
+     */
+    @Transactional
+    public int purgeExpired(LocalDateTime now, int limit) {
+        List<String> scopeKeys = idempotencyRecordRepository.findExpiredScopeKeys(now, PageRequest.of(0, limit));
+        if (scopeKeys.isEmpty()) {
+            return 0;
+        }
+        idempotencyRecordRepository.deleteExpired(scopeKeys, now);
+        return scopeKeys.size();
+    }
+
+    private String toJson(LetterResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("편지 응답 직렬화 실패", e);
+        }
+    }
+}
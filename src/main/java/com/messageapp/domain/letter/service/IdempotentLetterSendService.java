@@ -0,0 +1,287 @@
+package com.messageapp.domain.letter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.entity.IdempotencyRecord;
+import com.messageapp.domain.letter.entity.LetterContent;
+import com.messageapp.global.config.IdempotencyProperties;
+import com.messageapp.global.exception.business.letter.IdempotencyKeyReusedException;
+import com.messageapp.global.exception.business.letter.IdempotentRequestInProgressException;
+import com.messageapp.global.exception.validation.InvalidIdempotencyKeyException;
+import com.messageapp.global.ratelimit.IdempotentReplayChecker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 편지 발송 서비스
+ *
+ * <p>{@code Idempotency-Key} 헤더가 있는 발송 요청을 한 번만 처리하고,
+ * 같은 키의 재시도에는 최초 응답을 그대로 돌려줍니다.</p>
+ *
+ * <h3>저장소:</h3>
+ * <ul>
+ *   <li>인메모리 - 키별 처리 결과(Future)를 {@code local-ttl} 동안 보관.
+ *       최대 {@code max-local-entries}개로 제한하며 초과하면 DB만 사용</li>
+ *   <li>DB ({@code idempotency_keys}) - 서버 재시작, 다른 인스턴스로 간 재시도 처리</li>
+ * </ul>
+ *
+ * <h3>동시 중복 요청:</h3>
+ * <ul>
+ *   <li>같은 인스턴스 - 먼저 들어온 요청의 Future를 기다려 같은 응답 반환</li>
+ *   <li>다른 인스턴스 - DB 키 선점(PK 중복)에 실패한 쪽은 409 응답</li>
+ * </ul>
+ *
+ * <p>같은 키로 다른 내용을 보내면 {@link IdempotencyKeyReusedException}이 발생합니다.
+ * 발송이 실패하면 키를 해제하므로 같은 키로 다시 시도할 수 있습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotentLetterSendService implements IdempotentReplayChecker {
+
+    /** Idempotency-Key 최대 길이 */
+    private static final int MAX_KEY_LENGTH = 100;
+
+    /** 만료 키 정리 시 한 번에 삭제하는 최대 행 수 */
+    private static final int PURGE_BATCH_SIZE = 1_000;
+
+    private final LetterService letterService;
+    private final IdempotencyRecordWriter idempotencyRecordWriter;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /** 키별 처리 결과 (인메모리) */
+    private final Map<String, LocalEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 편지를 멱등하게 발송합니다.
+     *
+     * @param senderId 발신자 ID
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @param content 편지 내용
+     * @return 최초 발송 응답
+     * @throws InvalidIdempotencyKeyException 키가 비었거나 너무 긴 경우
+     * @throws IdempotencyKeyReusedException 같은 키로 다른 내용을 보낸 경우
+     * @throws IdempotentRequestInProgressException 같은 키의 요청이 다른 곳에서 처리 중인 경우
+     */
+    public LetterResponse sendLetter(Long senderId, String idempotencyKey, String content) {
+        validateKey(idempotencyKey);
+
+        String scopeKey = senderId + ":" + idempotencyKey;
+        String requestHash = LetterContent.hashOf(content);
+
+        LocalEntry entry = new LocalEntry(requestHash, System.currentTimeMillis() + properties.getLocalTtl().toMillis());
+        LocalEntry existing = register(scopeKey, entry);
+        if (existing != null) {
+            return await(existing, requestHash);
+        }
+
+        try {
+            LetterResponse response = executeOnce(scopeKey, requestHash, () -> letterService.sendLetter(senderId, content));
+            entry.future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.remove(scopeKey, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Idempotency-Key 형식을 검증합니다.
+     *
+     * <p>비동기 발송 모드에서는 요청을 큐에 넣기 전에 호출하여 잘못된 키를 즉시 거절합니다.</p>
+     *
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @throws InvalidIdempotencyKeyException 키가 비었거나 너무 긴 경우
+     */
+    public void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>인메모리 항목을 먼저 확인하고, 없으면 DB 기록을 PK로 조회합니다.
+     * 요청 내용은 비교하지 않으므로 같은 키로 다른 내용을 보낸 요청도 한도 없이 서비스까지 오지만,
+     * 발송 없이 {@link IdempotencyKeyReusedException}으로 거절됩니다.</p>
+     */
+    @Override
+    public boolean isCompletedReplay(long memberId, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+
+        String scopeKey = memberId + ":" + idempotencyKey;
+        LocalEntry entry = entries.get(scopeKey);
+        if (entry != null && entry.isCompleted()) {
+            return true;
+        }
+
+        return idempotencyRecordWriter.find(scopeKey)
+                .filter(record -> record.isCompleted() && !record.getExpiresAt().isBefore(LocalDateTime.now()))
+                .isPresent();
+    }
+
+    /**
+     * 만료된 키를 정리합니다 (인메모리, DB).
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        purgeLocal(System.currentTimeMillis());
+
+        LocalDateTime now = LocalDateTime.now();
+        int purged;
+        do {
+            purged = idempotencyRecordWriter.purgeExpired(now, PURGE_BATCH_SIZE);
+        } while (purged == PURGE_BATCH_SIZE);
+    }
+
+    /**
+     * 인메모리에 키를 등록합니다.
+     *
+     * @return 이미 유효한 항목이 있으면 그 항목, 새로 등록했거나 용량 초과로 등록하지 않았으면 null
+     */
+    private LocalEntry register(String scopeKey, LocalEntry entry) {
+        long now = System.currentTimeMillis();
+        LocalEntry existing = entries.get(scopeKey);
+        if (existing != null && existing.isExpired(now)) {
+            entries.remove(scopeKey, existing);
+        }
+
+        if (entries.size() >= properties.getMaxLocalEntries()) {
+            purgeLocal(now);
+            if (entries.size() >= properties.getMaxLocalEntries()) {
+                return entries.get(scopeKey);
+            }
+        }
+        return entries.putIfAbsent(scopeKey, entry);
+    }
+
+    private LetterResponse await(LocalEntry existing, String requestHash) {
+        if (!existing.requestHash.equals(requestHash)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        try {
+            return existing.future.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotentRequestInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private LetterResponse executeOnce(String scopeKey, String requestHash,
+                                       Supplier<LetterResponse> action) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<LetterResponse> previous = completedResponse(scopeKey, requestHash, now);
+        if (previous.isPresent()) {
+            return previous.get();
+        }
+
+        try {
+            idempotencyRecordWriter.claim(scopeKey, requestHash, now,
+                    now.plus(properties.getTtl()), now.minus(properties.getInProgressTimeout()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 선점 - 이미 끝났으면 그 응답, 아니면 처리 중
+            return completedResponse(scopeKey, requestHash, now)
+                    .orElseThrow(IdempotentRequestInProgressException::new);
+        }
+
+        try {
+            return idempotencyRecordWriter.executeAndRecord(scopeKey, action);
+        } catch (RuntimeException e) {
+            idempotencyRecordWriter.release(scopeKey);
+            throw e;
+        }
+    }
+
+    /**
+     * DB에 기록된 최초 응답을 조회합니다.
+     *
+     * @return 처리 완료된 키의 응답, 기록이 없거나 만료되었으면 empty
+     * @throws IdempotencyKeyReusedException 같은 키로 다른 내용을 보낸 경우
+     * @throws IdempotentRequestInProgressException 처리 중이고 아직 방치된 것으로 볼 수 없는 경우
+     */
+    private Optional<LetterResponse> completedResponse(String scopeKey, String requestHash, LocalDateTime now) {
+        Optional<IdempotencyRecord> found = idempotencyRecordWriter.find(scopeKey);
+        if (found.isEmpty() || found.get().getExpiresAt().isBefore(now)) {
+            return Optional.empty();
+        }
+
+        IdempotencyRecord record = found.get();
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        if (record.isCompleted()) {
+            log.info("멱등 요청 재시도 - 최초 응답 반환: scopeKey = {}", scopeKey);
+            return Optional.of(fromJson(record.getResponse()));
+        }
+        if (record.getLastModifiedAt().isAfter(now.minus(properties.getInProgressTimeout()))) {
+            throw new IdempotentRequestInProgressException();
+        }
+        return Optional.empty();
+    }
+
+    private void purgeLocal(long now) {
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+    }
+
+    private LetterResponse fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, LetterResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 편지 응답 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 인메모리 키 항목
+     */
+    private static final class LocalEntry {
+
+        private final String requestHash;
+        private final long expiresAtMillis;
+        private final CompletableFuture<LetterResponse> future = new CompletableFuture<>();
+
+        private LocalEntry(String requestHash, long expiresAtMillis) {
+            this.requestHash = requestHash;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now > expiresAtMillis && future.isDone();
+        }
+
+        private boolean isCompleted() {
+            return future.isDone() && !future.isCompletedExceptionally()
+                    && System.currentTimeMillis() <= expiresAtMillis;
+        }
+    }
+}
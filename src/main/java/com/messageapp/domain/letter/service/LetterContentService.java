@@ -0,0 +1,66 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.letter.entity.LetterContent;
+import com.messageapp.domain.letter.repository.LetterContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 편지 내용 서비스
+ *
+ * <p>편지 내용을 해시로 중복 제거하여 {@link LetterContent}를 조회하거나 생성합니다.</p>
+ *
+ * <h4>처리 흐름:</h4>
+ * <ol>
+ *   <li>SHA-256 해시로 기존 내용 ID 조회 (잠금 없는 일관된 읽기)</li>
+ *   <li>없으면 {@link LetterContentWriter}가 별도 트랜잭션에서 JPA로 저장</li>
+ *   <li>다른 요청이 같은 내용을 먼저 저장해 유니크 제약 위반이 나면 새 트랜잭션에서 다시 조회</li>
+ *   <li>호출자 영속성 컨텍스트의 참조(프록시)를 반환 - 내용 컬럼은 읽지 않음</li>
+ * </ol>
+ *
+ * <p>DB 고유 문법 없이 동작하므로 MySQL과 H2에서 같은 경로를 사용합니다.
+ * 새 내용을 저장할 때만 추가 커넥션을 사용하며, 발신 트랜잭션이 롤백되어도 저장한 내용은 남아
+ * 같은 내용의 다음 발송에서 재사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LetterContentService {
+
+    private final LetterContentRepository letterContentRepository;
+    private final LetterContentWriter letterContentWriter;
+
+    /**
+     * 내용에 해당하는 편지 내용을 조회하거나 생성합니다.
+     *
+     * @param text 편지 내용
+     * @return 호출자 트랜잭션에서 사용할 편지 내용 참조
+     */
+    @Transactional
+    public LetterContent resolve(String text) {
+        String hash = LetterContent.hashOf(text);
+
+        Long contentId = letterContentRepository.findIdByContentHash(hash)
+                .orElseGet(() -> insert(hash, text));
+
+        return letterContentRepository.getReferenceById(contentId);
+    }
+
+    private Long insert(String hash, String text) {
+        try {
+            Long contentId = letterContentWriter.insert(text);
+            log.debug("편지 내용 저장: hash = {}, contentId = {}", hash, contentId);
+            return contentId;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 내용을 먼저 저장 - 커밋된 행을 다시 조회
+            return letterContentWriter.findId(hash)
+                    .orElseThrow(() -> new IllegalStateException("편지 내용 저장 충돌 후 재조회 실패: " + hash, e));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.letter.entity.LetterContent;
+import com.messageapp.domain.letter.repository.LetterContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 편지 내용 저장 트랜잭션 경계
+ *
+ * <p>새 내용 저장은 발신 트랜잭션과 분리(REQUIRES_NEW)하여 즉시 커밋합니다.
+ * 동시에 같은 내용을 저장해 유니크 제약 위반이 발생해도 발신 트랜잭션이 rollback-only가 되지 않고,
+ * 재조회도 새 트랜잭션에서 수행하므로 발신 트랜잭션의 스냅샷 이후에 커밋된 행을 찾습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see LetterContentService
+ */
+@Component
+@RequiredArgsConstructor
+class LetterContentWriter {
+
+    private final LetterContentRepository letterContentRepository;
+
+    /**
+     * 편지 내용을 저장합니다.
+     *
+     * <p>같은 해시의 내용이 이미 있으면 유니크 제약 위반으로
+     * {@link org.springframework.dao.DataIntegrityViolationException}이 발생합니다.</p>
+     *
+     * @param text 편지 내용
+     * @return 저장된 편지 내용 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long insert(String text) {
+        return letterContentRepository.saveAndFlush(LetterContent.of(text)).getId();
+    }
+
+    /**
+     * 해시로 커밋된 편지 내용 ID를 조회합니다.
+     *
+     * @param contentHash 내용의 SHA-256 해시
+     * @return 편지 내용 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<Long> findId(String contentHash) {
+        return letterContentRepository.findIdByContentHash(contentHash);
+    }
+}
@@ -0,0 +1,55 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.letter.repository.LetterRemovalRepository;
+import com.messageapp.global.config.LetterInboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수신함 제거 기록 정리 작업
+ *
+ * <p>{@code letter.inbox.sync.removal-retention}이 지난 제거 기록을 주기마다 최대
+ * {@value #PURGE_BATCH_SIZE}개씩 삭제합니다. 그보다 오래된 동기화 토큰은 처음부터 다시 동기화되므로
+ * 삭제된 기록이 필요하지 않습니다.</p>
+ *
+ * <p>DB 고유 문법({@code DELETE ... LIMIT})을 쓰지 않도록 ID를 한 페이지 조회한 뒤 {@code IN} 조건으로 삭제합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.entity.LetterRemoval
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LetterRemovalPurger {
+
+    /** 한 번에 삭제하는 최대 행 수 */
+    private static final int PURGE_BATCH_SIZE = 10_000;
+
+    private final LetterRemovalRepository letterRemovalRepository;
+    private final LetterInboxProperties letterInboxProperties;
+
+    /**
+     * 보관 기간이 지난 제거 기록을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${letter.inbox.sync.removal-purge-interval-ms:60000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(letterInboxProperties.getSync().getRemovalRetention());
+        List<Long> ids = letterRemovalRepository.findIdsRemovedBefore(cutoff, PageRequest.of(0, PURGE_BATCH_SIZE));
+        if (ids.isEmpty()) {
+            return;
+        }
+        int deleted = letterRemovalRepository.deleteByIdIn(ids);
+        if (deleted > 0) {
+            log.info("수신함 제거 기록 정리: deleted = {}", deleted);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.messageapp.domain.letter.service;
 
-import com.messageapp.domain.letter.dto.LetterIdResponse;
+import com.messageapp.domain.letter.dto.LetterPageResponse;
 import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.dto.LetterSyncResponse;
 import com.messageapp.global.exception.business.letter.LetterAccessDeniedException;
 import com.messageapp.global.exception.business.letter.LetterNotFoundException;
 import com.messageapp.global.exception.business.letter.NoAvailableReceiverException;
@@ -20,14 +21,32 @@ import java.util.List;
 public interface LetterService {
 
     /**
-     * 수신한 편지 목록을 조회합니다.
+     * 수신한 편지 목록을 한 페이지 조회합니다.
      *
      * <p>배달 완료(DELIVERED) 상태의 편지만 조회됩니다.</p>
      *
      * @param memberId 조회할 회원 ID
-     * @return 편지 ID 목록 (최신순)
+     * @param cursor 이전 페이지의 {@code nextCursor} (첫 페이지는 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대값을 넘으면 최대값으로 제한)
+     * @return 편지 ID 목록 (최신순)과 다음 페이지 커서
+     * @throws com.messageapp.global.exception.validation.InvalidCursorException 커서 형식이 올바르지 않은 경우
      */
-    List<LetterIdResponse> getReceivedLetters(Long memberId);
+    LetterPageResponse getReceivedLetters(Long memberId, String cursor, Integer size);
+
+    /**
+     * 동기화 토큰 이후 배달되었거나 상태가 바뀐 수신 편지를 조회합니다.
+     *
+     * <p>토큰이 없으면 수신함 전체를 변경 순서대로 반환합니다. 수신자에게 보이는
+     * DELIVERED, READ 상태의 편지만 포함되며, 다른 수신자에게 재배정되거나
+     * 보관 테이블로 옮겨진 편지는 {@code removedLetterIds}로 알려줍니다.
+     * 토큰이 제거 기록 보관 기간보다 오래되었으면 처음부터 다시 동기화하고 {@code reset}을 true로 반환합니다.</p>
+     *
+     * @param memberId 조회할 회원 ID
+     * @param since 이전 응답의 {@code nextToken} (처음이면 null)
+     * @return 변경된 편지 목록과 다음 동기화 토큰
+     * @throws com.messageapp.global.exception.validation.InvalidCursorException 토큰 형식이 올바르지 않은 경우
+     */
+    LetterSyncResponse syncLetters(Long memberId, String since);
 
     /**
      * 편지를 발송합니다.
@@ -55,4 +74,16 @@ public interface LetterService {
      * @throws LetterAccessDeniedException 수신자가 아닌 경우
      */
     LetterResponse getLetterDetail(Long letterId, Long memberId);
+
+    /**
+     * 여러 편지를 한 번에 읽음 처리합니다.
+     *
+     * <p>본인이 받은 배달 완료(DELIVERED) 편지만 변경되며,
+     * 이미 읽었거나 본인 편지가 아닌 ID는 무시됩니다.</p>
+     *
+     * @param memberId 수신자 ID
+     * @param letterIds 편지 ID 목록
+     * @return 새로 읽음 처리된 편지 수
+     */
+    int markAsRead(Long memberId, List<Long> letterIds);
 }
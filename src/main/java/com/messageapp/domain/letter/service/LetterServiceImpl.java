@@ -1,23 +1,48 @@
 package com.messageapp.domain.letter.service;
 
-import com.messageapp.domain.fcm.service.FcmService;
+import com.messageapp.domain.fcm.service.NotificationOutboxService;
+import com.messageapp.domain.letter.dto.InboxCursor;
+import com.messageapp.domain.letter.dto.InboxLetter;
+import com.messageapp.domain.letter.dto.LetterChange;
+import com.messageapp.domain.letter.dto.LetterDetail;
 import com.messageapp.domain.letter.dto.LetterIdResponse;
+import com.messageapp.domain.letter.delivery.QuietHoursPolicy;
+import com.messageapp.domain.letter.dto.LetterPageResponse;
 import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.dto.LetterSyncResponse;
+import com.messageapp.domain.letter.dto.SyncToken;
 import com.messageapp.domain.letter.entity.Letter;
+import com.messageapp.domain.letter.entity.LetterBody;
+import com.messageapp.domain.letter.entity.LetterRemoval;
 import com.messageapp.domain.letter.entity.LetterStatus;
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.event.LetterReadEvent;
+import com.messageapp.domain.letter.event.LetterScheduledEvent;
+import com.messageapp.domain.letter.matching.MatchingMode;
+import com.messageapp.domain.letter.repository.LetterRemovalRepository;
 import com.messageapp.domain.letter.repository.LetterRepository;
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.domain.member.repository.MemberRepository;
+import com.messageapp.global.config.LetterInboxProperties;
+import com.messageapp.global.config.MatchingProperties;
 import com.messageapp.global.exception.business.letter.LetterAccessDeniedException;
 import com.messageapp.global.exception.business.letter.LetterNotFoundException;
 import com.messageapp.global.exception.business.letter.NoAvailableReceiverException;
 import com.messageapp.global.exception.business.letter.SenderNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -28,8 +53,10 @@ import java.util.concurrent.ThreadLocalRandom;
  * <h3>주요 기능:</h3>
  * <ul>
  *   <li>수신 편지 목록 조회</li>
+ *   <li>수신함 변경분 동기화</li>
  *   <li>편지 발송 (랜덤 수신자 배정)</li>
  *   <li>편지 상세 조회 및 읽음 처리</li>
+ *   <li>편지 일괄 읽음 처리</li>
  * </ul>
  *
  * <h3>편지 발송 플로우:</h3>
@@ -46,34 +73,148 @@ import java.util.concurrent.ThreadLocalRandom;
 @Transactional(readOnly = true)
 public class LetterServiceImpl implements LetterService {
 
+    /** 동기화 대상 상태 (수신자에게 보이는 편지) */
+    private static final List<LetterStatus> SYNC_STATUSES = List.of(LetterStatus.DELIVERED, LetterStatus.READ);
+
+    /** 동기화 변경/제거 기록의 토큰 순서 */
+    private static final Comparator<SyncEvent> SYNC_ORDER =
+            Comparator.comparing(SyncEvent::at).thenComparing(SyncEvent::letterId);
+
     /** 편지 저장소 */
     private final LetterRepository letterRepository;
 
     /** 회원 저장소 */
     private final MemberRepository memberRepository;
 
-    /** FCM 푸시 알림 서비스 */
-    private final FcmService fcmService;
+    /** FCM 푸시 알림 아웃박스 서비스 */
+    private final NotificationOutboxService notificationOutboxService;
 
     /** 욕설/비속어 필터링 서비스 */
     private final ProfanityFilterService profanityFilterService;
 
+    /** 수신자 매칭 서비스 */
+    private final MatchingService matchingService;
+
+    /** 매칭 설정 프로퍼티 */
+    private final MatchingProperties matchingProperties;
+
+    /** 방해 금지 시간 정책 */
+    private final QuietHoursPolicy quietHoursPolicy;
+
+    /** 편지 배달/읽음 이벤트 발행자 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 편지 내용 중복 제거 서비스 */
+    private final LetterContentService letterContentService;
+
+    /** 수신함 목록 조회 설정 프로퍼티 */
+    private final LetterInboxProperties letterInboxProperties;
+
+    /** 수신함 제거 기록 저장소 */
+    private final LetterRemovalRepository letterRemovalRepository;
+
     /**
      * {@inheritDoc}
      *
      * <p>배달 완료(DELIVERED) 상태이고 아직 읽지 않은 편지 목록을
-     * 최신순으로 조회합니다.</p>
+     * {@code (created_at, letter_id)} 기준 최신순으로 조회합니다.
+     * 페이지 크기보다 한 건 더 읽어 다음 페이지 존재 여부를 판단하며,
+     * 커서 위치부터 인덱스를 읽으므로 페이지 비용은 수신함 깊이와 무관합니다.</p>
      */
     @Override
-    public List<LetterIdResponse> getReceivedLetters(Long memberId) {
-        List<Letter> letters = letterRepository.findByReceiverIdAndStatusOrderByCreatedAtDesc(
-                memberId, LetterStatus.DELIVERED);
+    public LetterPageResponse getReceivedLetters(Long memberId, String cursor, Integer size) {
+        int pageSize = letterInboxProperties.resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-        log.info("읽지 않은 수신 편지 목록 조회: memberId = {}, count = {}", memberId, letters.size());
+        List<InboxLetter> letters;
+        if (cursor == null || cursor.isBlank()) {
+            letters = letterRepository.findInboxFirstPage(memberId, LetterStatus.DELIVERED, limit);
+        } else {
+            InboxCursor after = InboxCursor.decode(cursor);
+            letters = letterRepository.findInboxPageBefore(memberId, LetterStatus.DELIVERED,
+                    after.getCreatedAt(), after.getLetterId(), limit);
+        }
+
+        boolean hasNext = letters.size() > pageSize;
+        List<InboxLetter> page = hasNext ? letters.subList(0, pageSize) : letters;
+        String nextCursor = hasNext ? InboxCursor.after(page.get(pageSize - 1)).encode() : null;
 
-        return letters.stream()
+        log.info("읽지 않은 수신 편지 목록 조회: memberId = {}, count = {}, hasNext = {}", memberId, page.size(), hasNext);
+
+        return new LetterPageResponse(page.stream()
                 .map(LetterIdResponse::from)
-                .toList();
+                .toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@code (last_modified_at, letter_id)} 순서로 토큰 이후의 변경과
+     * {@code (removed_at, letter_id)} 순서로 제거 기록을 각각 읽어 한 순서로 합칩니다.
+     * 남은 변경이 있으면 마지막으로 전달한 위치를 토큰으로 돌려주고,
+     * 모두 전달했으면 마지막 변경 위치와 관계없이 현재 시각 - overlap을 토큰으로 돌려줍니다.
+     * 변경 시각은 커밋보다 먼저 기록되므로 그 이후 구간은 늦게 커밋된 변경을 다음 동기화에서 다시 읽고
+     * (이 구간의 편지는 중복 전달될 수 있습니다), 그 이전 구간은 모두 읽었으므로 건너뜁니다.
+     * 변경이 오래 없던 수신함도 토큰이 계속 전진하므로 제거 기록 보관 기간을 넘겨 초기화되지 않습니다. overlap의 계산과 한계는
+     * {@link LetterInboxProperties.SyncProperties#getOverlap()}을 참고합니다.</p>
+     */
+    @Override
+    public LetterSyncResponse syncLetters(Long memberId, String since) {
+        LetterInboxProperties.SyncProperties sync = letterInboxProperties.getSync();
+        LocalDateTime now = LocalDateTime.now();
+        SyncToken from = since == null || since.isBlank() ? SyncToken.beginning() : SyncToken.decode(since);
+
+        // 제거 기록이 정리된 구간을 건너뛰는 토큰은 처음부터 다시 동기화
+        boolean reset = !from.isBeginning()
+                && from.getLastModifiedAt().isBefore(now.minus(sync.getRemovalRetention()));
+        if (reset) {
+            from = SyncToken.beginning();
+        }
+
+        int pageSize = sync.getPageSize();
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<LetterChange> changes = letterRepository.findChangesAfter(memberId, from.getLastModifiedAt(),
+                from.getLetterId(), SYNC_STATUSES, limit);
+        // 처음부터 동기화하면 클라이언트에 지울 편지가 없음
+        List<LetterRemoval> removals = from.isBeginning() ? List.of()
+                : letterRemovalRepository.findRemovalsAfter(memberId, from.getLastModifiedAt(), from.getLetterId(), limit);
+
+        List<SyncEvent> events = new ArrayList<>(changes.size() + removals.size());
+        for (LetterChange change : changes) {
+            events.add(new SyncEvent(change.getLastModifiedAt(), change.getLetterId(), change));
+        }
+        for (LetterRemoval removal : removals) {
+            events.add(new SyncEvent(removal.getRemovedAt(), removal.getLetterId(), null));
+        }
+        events.sort(SYNC_ORDER);
+
+        boolean hasMore = events.size() > pageSize;
+        List<SyncEvent> page = hasMore ? events.subList(0, pageSize) : events;
+
+        // 한 응답 안에서는 편지마다 마지막 변경만 전달
+        Map<Long, SyncEvent> latest = new LinkedHashMap<>();
+        for (SyncEvent event : page) {
+            latest.remove(event.letterId());
+            latest.put(event.letterId(), event);
+        }
+        List<LetterChange> letters = new ArrayList<>(latest.size());
+        List<Long> removedLetterIds = new ArrayList<>();
+        for (SyncEvent event : latest.values()) {
+            if (event.change() != null) {
+                letters.add(event.change());
+            } else {
+                removedLetterIds.add(event.letterId());
+            }
+        }
+
+        SyncToken next = hasMore
+                ? SyncToken.of(page.get(page.size() - 1).at(), page.get(page.size() - 1).letterId())
+                : SyncToken.caughtUpTo(now.minus(sync.getOverlap()));
+
+        log.info("수신함 동기화: memberId = {}, count = {}, removed = {}, hasMore = {}, reset = {}",
+                memberId, letters.size(), removedLetterIds.size(), hasMore, reset);
+
+        return new LetterSyncResponse(letters, removedLetterIds, next.encode(), hasMore, reset);
     }
 
     /**
@@ -82,14 +223,16 @@ public class LetterServiceImpl implements LetterService {
      * <h4>처리 흐름:</h4>
      * <ol>
      *   <li>발신자 조회</li>
-     *   <li>DB에서 랜덤 수신자 3~5명 선택 (발신자 제외, 활성 회원만)</li>
+     *   <li>매칭 서비스에서 랜덤 수신자 3~5명 선택 (발신자 제외, 활성 회원만)</li>
      *   <li>각 수신자에 대해 편지 생성 및 배정</li>
-     *   <li>편지 저장</li>
-     *   <li>각 수신자에게 FCM 푸시 알림 발송</li>
+     *   <li>편지 일괄 저장 ({@code saveAll} - JDBC 배치 INSERT 한 번)</li>
+     *   <li>각 수신자의 FCM 푸시 알림을 아웃박스에 적재 (커밋 이후 릴레이가 발송)</li>
      * </ol>
      *
-     * <p>랜덤 수신자 선택은 DB 네이티브 쿼리(ORDER BY RAND() LIMIT N)를 사용하여
-     * 메모리 사용을 최소화합니다. 동일한 content로 3~5개의 Letter가 생성됩니다.</p>
+     * <p>랜덤 수신자 선택은 {@link MatchingService}의 인메모리 인덱스에서 수행되며
+     * DB에 접근하지 않습니다. 수신자는 ID만으로 참조(프록시)하므로 추가 SELECT도
+     * 발생하지 않습니다. 본문({@link LetterBody})은 한 번만 저장되고,
+     * 이를 공유하는 3~5개의 Letter가 생성됩니다.</p>
      */
     @Override
     @Transactional
@@ -98,42 +241,71 @@ public class LetterServiceImpl implements LetterService {
         Member sender = memberRepository.findById(senderId)
                 .orElseThrow(SenderNotFoundException::new);
 
+        boolean asyncBatch = matchingProperties.getMode() == MatchingMode.ASYNC_BATCH;
+
         // 욕설 감지 시 쉐도우 밴 - 발신자에게는 성공처럼 보이지만 실제 발송 안 함
         if (profanityFilterService.containsProfanity(content)) {
             log.info("쉐도우 밴 처리: senderId = {}", senderId);
-            return LetterResponse.shadowBanned(sender, content);
+            return asyncBatch
+                    ? LetterResponse.shadowBannedWaiting(sender, content)
+                    : LetterResponse.shadowBanned(sender, content);
         }
 
         // 3~5명의 랜덤 수신자 선택
         int receiverCount = ThreadLocalRandom.current().nextInt(3, 6); // 3, 4, 5 중 랜덤
-        List<Member> receivers = memberRepository.findRandomActiveMembers(senderId, receiverCount);
 
-        if (receivers.isEmpty()) {
+        if (asyncBatch) {
+            return saveWaitingLetters(sender, content, receiverCount);
+        }
+
+        List<Long> receiverIds = matchingService.selectReceivers(senderId, receiverCount);
+
+        if (receiverIds.isEmpty()) {
             throw new NoAvailableReceiverException();
         }
 
-        Letter firstLetter = null;
+        LocalDateTime deferUntil = quietHoursPolicy.deferUntil(LocalDateTime.now());
 
-        for (Member receiver : receivers) {
-            Letter letter = Letter.builder()
-                    .sender(sender)
-                    .content(content)
-                    .build();
-            letter.assignReceiver(receiver);
-            Letter savedLetter = letterRepository.save(letter);
+        // 수신자별 편지를 만든 뒤 한 번에 저장 (ID는 미리 할당받고 INSERT는 JDBC 배치로 전송)
+        // 본문은 발송당 한 번만 저장하고 수신자별 편지가 공유
+        LetterBody body = LetterBody.builder()
+                .sender(sender)
+                .content(letterContentService.resolve(content))
+                .build();
+        List<Letter> letters = new ArrayList<>(receiverIds.size());
+        for (Long receiverId : receiverIds) {
+            Member receiver = memberRepository.getReferenceById(receiverId);
+            Letter letter = Letter.withBody(body);
 
-            if (firstLetter == null) {
-                firstLetter = savedLetter;
+            if (deferUntil != null) {
+                // 방해 금지 시간 - 배달 예약 후 알림은 예약 시각에 발송
+                letter.scheduleDelivery(receiver, deferUntil);
+            } else {
+                letter.assignReceiver(receiver);
             }
+            letters.add(letter);
+        }
+        List<Letter> savedLetters = letterRepository.saveAll(letters);
 
+        for (Letter savedLetter : savedLetters) {
+            Long receiverId = savedLetter.getReceiver().getId();
+
+            if (deferUntil != null) {
+                eventPublisher.publishEvent(new LetterScheduledEvent(savedLetter.getId(), deferUntil));
+                log.info("편지 배달 예약: senderId = {}, receiverId = {}, letterId = {}, deliverAt = {}",
+                        senderId, receiverId, savedLetter.getId(), deferUntil);
+                continue;
+            }
+
+            eventPublisher.publishEvent(new LetterDeliveredEvent(receiverId));
             log.info("편지 발송 완료: senderId = {}, receiverId = {}, letterId = {}",
-                    senderId, receiver.getId(), savedLetter.getId());
+                    senderId, receiverId, savedLetter.getId());
 
-            // FCM 푸시 알림 발송 (비동기)
-            fcmService.sendLetterArrivalNotification(receiver.getId(), sender.getName());
+            // FCM 푸시 알림은 아웃박스에 적재 - 커밋 이후 릴레이가 발송
+            notificationOutboxService.enqueueLetterArrival(receiverId, sender.getName());
         }
 
-        return LetterResponse.from(firstLetter);
+        return LetterResponse.from(savedLetters.get(0));
     }
 
     /**
@@ -141,30 +313,83 @@ public class LetterServiceImpl implements LetterService {
      *
      * <h4>처리 흐름:</h4>
      * <ol>
-     *   <li>편지 조회</li>
+     *   <li>조건부 UPDATE로 읽음 처리 (본인 편지이고 DELIVERED 상태인 경우에만 변경)</li>
+     *   <li>배달된(DELIVERED/READ) 편지만 본문, 발신자와 조인 쿼리 한 번으로 조회
+     *       (예약/대기 중인 편지는 {@link LetterNotFoundException})</li>
      *   <li>수신자 권한 확인 (본인 편지만 열람 가능)</li>
-     *   <li>편지 상태를 READ로 변경</li>
      * </ol>
      *
-     * <p>수신자가 아닌 회원이 조회를 시도하면 {@link LetterAccessDeniedException}이
-     * 발생합니다.</p>
+     * <p>엔티티를 읽은 뒤 변경 감지로 전체 컬럼을 UPDATE하지 않고, 쿼리 두 번으로 끝납니다.
+     * 수신자가 아닌 회원이 조회를 시도하면 {@link LetterAccessDeniedException}이
+     * 발생합니다 (UPDATE 조건에 수신자가 포함되어 있어 상태는 바뀌지 않습니다).</p>
      */
     @Override
     @Transactional
     public LetterResponse getLetterDetail(Long letterId, Long memberId) {
-        Letter letter = letterRepository.findById(letterId)
+        int read = letterRepository.markAsRead(letterId, memberId, LocalDateTime.now());
+
+        LetterDetail detail = letterRepository.findDeliveredDetailById(letterId)
                 .orElseThrow(LetterNotFoundException::new);
 
         // 수신자 권한 확인 (본인의 편지만 조회 가능)
-        if (letter.getReceiver() == null || !letter.getReceiver().getId().equals(memberId)) {
+        if (!memberId.equals(detail.getReceiverId())) {
             throw new LetterAccessDeniedException();
         }
 
-        // 편지를 읽음 상태로 변경
-        letter.markAsRead();
+        if (read > 0) {
+            eventPublisher.publishEvent(new LetterReadEvent(memberId, read));
+        }
 
         log.info("편지 상세 조회: letterId = {}, memberId = {}", letterId, memberId);
 
-        return LetterResponse.from(letter);
+        return LetterResponse.from(detail);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>UPDATE 한 번으로 처리합니다.</p>
+     */
+    @Override
+    @Transactional
+    public int markAsRead(Long memberId, List<Long> letterIds) {
+        int read = letterRepository.markAllAsRead(letterIds, memberId, LocalDateTime.now());
+        if (read > 0) {
+            eventPublisher.publishEvent(new LetterReadEvent(memberId, read));
+        }
+
+        log.info("편지 일괄 읽음 처리: memberId = {}, requested = {}, read = {}", memberId, letterIds.size(), read);
+
+        return read;
+    }
+
+    /**
+     * 수신자 없이 WAITING 편지만 저장합니다 (일괄 매칭 모드).
+     *
+     * @param sender 발신자
+     * @param content 편지 내용
+     * @param count 생성할 편지 수 (배정될 수신자 수)
+     * @return 첫 번째 편지 응답
+     */
+    private LetterResponse saveWaitingLetters(Member sender, String content, int count) {
+        LetterBody body = LetterBody.builder()
+                .sender(sender)
+                .content(letterContentService.resolve(content))
+                .build();
+        List<Letter> letters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            letters.add(Letter.withBody(body));
+        }
+        List<Letter> saved = letterRepository.saveAll(letters);
+
+        log.info("편지 접수 완료 (일괄 매칭 대기): senderId = {}, count = {}", sender.getId(), saved.size());
+
+        return LetterResponse.from(saved.get(0));
+    }
+
+    /**
+     * 동기화 응답에 담을 변경 한 건 (change가 null이면 제거 기록)
+     */
+    private record SyncEvent(LocalDateTime at, Long letterId, LetterChange change) {
     }
 }
@@ -1,4 +1,50 @@
 package com.messageapp.domain.letter.service;
 
+import com.messageapp.domain.letter.dto.MatchedLetter;
+import com.messageapp.domain.letter.dto.WaitingMatchResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수신자 매칭 서비스 인터페이스
+ *
+ * <p>편지를 받을 랜덤 수신자를 선택하는 기능을 정의합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
 public interface MatchingService {
+
+    /**
+     * 발신자를 제외한 활성 회원 중 서로 다른 수신자를 선택합니다.
+     *
+     * @param senderId 발신자 ID (수신자에서 제외)
+     * @param count 선택할 수신자 수
+     * @return 선택된 수신자 ID 목록 (후보가 부족하면 count보다 적을 수 있음)
+     */
+    List<Long> selectReceivers(Long senderId, int count);
+
+    /**
+     * WAITING 상태 편지를 배치 단위로 가져와 수신자를 일괄 배정합니다.
+     *
+     * <p>수신자를 찾지 못한 편지는 WAITING 상태로 남아 다음 배치에서 다시 시도됩니다.</p>
+     *
+     * @param batchSize 한 번에 처리할 최대 편지 수
+     * @return 잠근 편지 수와 수신자가 배정된 편지 목록
+     */
+    WaitingMatchResult matchWaitingLetters(int batchSize);
+
+    /**
+     * 배정 후 기준 시각까지 읽히지 않은 DELIVERED 편지를 다른 수신자에게 재배정합니다.
+     *
+     * <p>이전 수신자와 같은 본문(body_id)을 받은 다른 모든 수신자는 새 수신자에서 제외됩니다.
+     * 새 수신자를 찾지 못한 편지는 배정 시각만 갱신하여 다음 만료 시점에 다시 시도됩니다.
+     * 바로 배달한 편지의 도착 알림은 같은 트랜잭션에서 알림 아웃박스에 적재됩니다.</p>
+     *
+     * @param cutoff 이 시각 이전에 배정된 편지만 재배정
+     * @param batchSize 한 번에 처리할 최대 편지 수
+     * @return 새 수신자가 배정된 편지 목록
+     */
+    List<MatchedLetter> rematchExpiredLetters(LocalDateTime cutoff, int batchSize);
 }
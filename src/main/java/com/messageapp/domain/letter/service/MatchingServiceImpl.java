@@ -0,0 +1,626 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.fcm.service.NotificationOutboxService;
+import com.messageapp.domain.letter.delivery.QuietHoursPolicy;
+import com.messageapp.domain.letter.dto.BodyReceiver;
+import com.messageapp.domain.letter.dto.MatchedLetter;
+import com.messageapp.domain.letter.dto.ReceiverLetterCount;
+import com.messageapp.domain.letter.dto.WaitingMatchResult;
+import com.messageapp.domain.letter.entity.Letter;
+import com.messageapp.domain.letter.entity.LetterStatus;
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.event.LetterRecalledEvent;
+import com.messageapp.domain.letter.event.LetterScheduledEvent;
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import com.messageapp.domain.letter.matching.ExclusionBitmaps;
+import com.messageapp.domain.letter.matching.InboxLoadCounter;
+import com.messageapp.domain.letter.matching.ReceiverFilter;
+import com.messageapp.domain.letter.repository.LetterRepository;
+import com.messageapp.domain.letter.strategy.MatchingStrategyType;
+import com.messageapp.domain.letter.strategy.ReceiverSelectionStrategy;
+import com.messageapp.domain.member.activity.MemberActivityTracker;
+import com.messageapp.domain.member.dto.MemberLastActive;
+import com.messageapp.domain.member.entity.Member;
+import com.messageapp.domain.member.entity.MemberStatus;
+import com.messageapp.domain.member.repository.MemberRepository;
+import com.messageapp.domain.report.dto.ReportedPair;
+import com.messageapp.domain.report.repository.ReportRepository;
+import com.messageapp.global.config.MatchingProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 수신자 매칭 서비스 구현체
+ *
+ * <p>{@link ActiveMemberIndex}에서 수신자를 선택하므로 발송 시 DB 접근이 없습니다.
+ * 기존 {@code ORDER BY RAND()} 네이티브 쿼리는 활성 회원 전체를 정렬하기 때문에
+ * 회원 수에 비례해 발송 지연이 증가했습니다.</p>
+ *
+ * <h3>Strategy 패턴 적용:</h3>
+ * <p>수신자 선택 방식은 {@link ReceiverSelectionStrategy} 구현체로 분리되어 있으며,
+ * {@code matching.strategy} 설정에 해당하는 전략을 사용합니다.</p>
+ *
+ * <p>전략이 뽑은 후보는 등록된 모든 {@link ReceiverFilter}를 통과해야 수신자로 확정되며,
+ * 거절된 자리는 최대 {@value #MAX_SELECTION_ROUNDS}회까지 다시 뽑아 채웁니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see MatchingService
+ * @see ActiveMemberIndex
+ * @see ReceiverSelectionStrategy
+ * @see ReceiverFilter
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchingServiceImpl implements MatchingService {
+
+    /** 시작 시 활성 회원 ID를 읽어오는 청크 크기 */
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    /** 필터에 거절된 자리를 다시 뽑는 최대 횟수 */
+    private static final int MAX_SELECTION_ROUNDS = 3;
+
+    /** 일괄 매칭 시 WAITING 편지를 DELIVERED로 변경하는 SQL */
+    private static final String DELIVER_SQL = "UPDATE letters SET receiver_id = ?, status = 'DELIVERED', " +
+            "matched_at = ?, last_modified_at = ? WHERE letter_id = ? AND status = 'WAITING'";
+
+    /** 일괄 매칭 시 WAITING 편지를 SCHEDULED로 변경하는 SQL (방해 금지 시간) */
+    private static final String SCHEDULE_SQL = "UPDATE letters SET receiver_id = ?, status = 'SCHEDULED', " +
+            "matched_at = ?, deliver_at = ?, last_modified_at = ? WHERE letter_id = ? AND status = 'WAITING'";
+
+    /** 수신자를 찾지 못한 WAITING 편지의 다음 매칭 시각을 미루는 SQL */
+    private static final String BACKOFF_SQL = "UPDATE letters SET match_attempts = match_attempts + 1, " +
+            "next_attempt_at = ? WHERE letter_id = ? AND status = 'WAITING'";
+
+    /** 만료 편지를 새 수신자에게 재배정하는 SQL (이전 수신자가 그대로일 때만) */
+    private static final String REDELIVER_SQL = "UPDATE letters SET receiver_id = ?, matched_at = ?, " +
+            "last_modified_at = ? WHERE letter_id = ? AND status = 'DELIVERED' AND receiver_id = ?";
+
+    /** 만료 편지를 새 수신자에게 재배정하고 배달을 예약하는 SQL (방해 금지 시간) */
+    private static final String RESCHEDULE_SQL = "UPDATE letters SET receiver_id = ?, status = 'SCHEDULED', " +
+            "matched_at = ?, deliver_at = ?, last_modified_at = ? " +
+            "WHERE letter_id = ? AND status = 'DELIVERED' AND receiver_id = ?";
+
+    /** 재배정으로 이전 수신자의 수신함에서 빠진 편지를 기록하는 SQL (동기화 tombstone) */
+    private static final String REMOVAL_SQL = "INSERT INTO letter_removals (receiver_id, letter_id, removed_at) " +
+            "VALUES (?, ?, ?)";
+
+    /** 새 수신자를 찾지 못한 만료 편지의 배정 시각을 갱신하는 SQL */
+    private static final String EXTEND_SQL = "UPDATE letters SET matched_at = ?, last_modified_at = ? " +
+            "WHERE letter_id = ? AND status = 'DELIVERED'";
+
+    /** 회원 저장소 */
+    private final MemberRepository memberRepository;
+
+    /** 편지 저장소 */
+    private final LetterRepository letterRepository;
+
+    /** 신고 저장소 */
+    private final ReportRepository reportRepository;
+
+    /** 활성 회원 인메모리 인덱스 */
+    private final ActiveMemberIndex activeMemberIndex;
+
+    /** 매칭 제외 대상 비트맵 */
+    private final ExclusionBitmaps exclusionBitmaps;
+
+    /** 회원별 미읽음 편지 수 카운터 */
+    private final InboxLoadCounter inboxLoadCounter;
+
+    /** 회원 최근 활동 시각 추적기 */
+    private final MemberActivityTracker memberActivityTracker;
+
+    /** 매칭 설정 프로퍼티 */
+    private final MatchingProperties matchingProperties;
+
+    /** 방해 금지 시간 정책 */
+    private final QuietHoursPolicy quietHoursPolicy;
+
+    /** 일괄 매칭 배치 UPDATE용 */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 편지 배달 이벤트 발행자 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 알림 아웃박스 서비스 (재배정 알림을 같은 트랜잭션에 적재) */
+    private final NotificationOutboxService notificationOutboxService;
+
+    /** 수신자 선택 전략 목록 (Spring에서 자동 주입) */
+    private final List<ReceiverSelectionStrategy> selectionStrategies;
+
+    /** 수신자 후보 필터 목록 (Spring에서 자동 주입) */
+    private final List<ReceiverFilter> receiverFilters;
+
+    /** 전략 유형별 매핑 */
+    private Map<MatchingStrategyType, ReceiverSelectionStrategy> strategyMap;
+
+    /**
+     * 전략 맵을 초기화하고 활성 회원 인덱스와 매칭 제외 비트맵을 적재합니다.
+     *
+     * <p>수신함 부하 카운터는 배달/읽음/회수 이벤트로 전략과 무관하게 항상 갱신되므로
+     * 실행 중 전략을 바꿔도 값이 맞도록 항상 적재합니다. 최근 활동 시각은 조회 비용이 있으므로
+     * 해당 전략({@link MatchingStrategyType#RECENCY})일 때만 적재합니다.</p>
+     */
+    @PostConstruct
+    public void initialize() {
+        initStrategyMap();
+        seedActiveMemberIndex();
+        seedExclusionBitmaps();
+        seedInboxLoadCounter();
+        if (matchingProperties.getStrategy() == MatchingStrategyType.RECENCY) {
+            seedMemberActivity();
+        }
+    }
+
+    /**
+     * 수신자 선택 전략 맵을 초기화합니다.
+     */
+    void initStrategyMap() {
+        strategyMap = new EnumMap<>(MatchingStrategyType.class);
+        for (ReceiverSelectionStrategy strategy : selectionStrategies) {
+            strategyMap.put(strategy.getType(), strategy);
+        }
+        log.info("수신자 선택 전략: {}", matchingProperties.getStrategy());
+    }
+
+    /**
+     * 애플리케이션 시작 시 활성 회원 ID를 인덱스에 적재합니다.
+     *
+     * <p>member_id 기준 keyset 페이징으로 청크 단위 조회하므로
+     * 정렬된 배열을 그대로 인덱스에 넘길 수 있습니다.</p>
+     */
+    void seedActiveMemberIndex() {
+        long[] buffer = new long[SEED_BATCH_SIZE];
+        int count = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<Long> chunk = memberRepository.findIdsByStatusAfter(
+                    MemberStatus.ACTIVE, lastId, PageRequest.of(0, SEED_BATCH_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            if (count + chunk.size() > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + chunk.size()));
+            }
+            for (Long id : chunk) {
+                buffer[count++] = id;
+            }
+            lastId = chunk.get(chunk.size() - 1);
+            if (chunk.size() < SEED_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        activeMemberIndex.rebuild(buffer, count);
+    }
+
+    /**
+     * 신고 이력을 매칭 제외 비트맵에 적재합니다.
+     *
+     * <p>신고 ID 기준 keyset 페이징으로 청크 단위 조회합니다.</p>
+     */
+    void seedExclusionBitmaps() {
+        long lastReportId = 0L;
+        while (true) {
+            List<ReportedPair> chunk = reportRepository.findReportedPairsAfter(
+                    lastReportId, PageRequest.of(0, SEED_BATCH_SIZE));
+            for (ReportedPair pair : chunk) {
+                exclusionBitmaps.addReporter(pair.getSenderId(), pair.getReporterId());
+            }
+            if (chunk.size() < SEED_BATCH_SIZE) {
+                break;
+            }
+            lastReportId = chunk.get(chunk.size() - 1).getReportId();
+        }
+
+        log.info("매칭 제외 비트맵 적재 완료: {}", exclusionBitmaps.stats());
+    }
+
+    /**
+     * 수신자별 DELIVERED 편지 수를 집계하여 수신함 부하 카운터에 적재합니다.
+     */
+    void seedInboxLoadCounter() {
+        List<ReceiverLetterCount> counts = letterRepository.countByStatusGroupByReceiver(LetterStatus.DELIVERED);
+        for (ReceiverLetterCount count : counts) {
+            inboxLoadCounter.set(count.getReceiverId(), count.getLetterCount().intValue());
+        }
+        log.info("수신함 부하 카운터 적재 완료: receivers = {}", counts.size());
+    }
+
+    /**
+     * 활성 회원의 최근 활동 시각을 추적기에 적재합니다.
+     */
+    void seedMemberActivity() {
+        int loaded = 0;
+        long lastId = 0L;
+        while (true) {
+            List<MemberLastActive> chunk = memberRepository.findLastActiveAfter(
+                    lastId, PageRequest.of(0, SEED_BATCH_SIZE));
+            for (MemberLastActive row : chunk) {
+                memberActivityTracker.load(row.getMemberId(), Timestamp.valueOf(row.getLastActiveAt()).getTime());
+            }
+            loaded += chunk.size();
+            if (chunk.size() < SEED_BATCH_SIZE) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).getMemberId();
+        }
+        log.info("회원 최근 활동 시각 적재 완료: members = {}", loaded);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>설정된 전략으로 선택하며, 전략이 등록되지 않았으면 인메모리 인덱스
+     * 전략({@link MatchingStrategyType#INDEX})을 사용합니다.</p>
+     */
+    @Override
+    public List<Long> selectReceivers(Long senderId, int count) {
+        List<Long> receiverIds = selectCandidates(senderId, count);
+        recordMatches(senderId, receiverIds);
+        return receiverIds;
+    }
+
+    /**
+     * 설정된 전략과 필터로 수신자 후보를 선택합니다. 매칭 이력은 기록하지 않습니다.
+     *
+     * @param senderId 발신자 ID
+     * @param count 선택할 수신자 수
+     * @return 선택된 수신자 ID 목록
+     */
+    List<Long> selectCandidates(Long senderId, int count) {
+        ReceiverSelectionStrategy strategy = strategyMap.getOrDefault(
+                matchingProperties.getStrategy(), strategyMap.get(MatchingStrategyType.INDEX));
+
+        List<Long> receiverIds = new ArrayList<>(count);
+        for (int round = 0; round < MAX_SELECTION_ROUNDS && receiverIds.size() < count; round++) {
+            long[] candidates = strategy.select(senderId, count - receiverIds.size());
+            if (candidates.length == 0) {
+                break;
+            }
+            for (ReceiverFilter filter : receiverFilters) {
+                candidates = filter.filter(senderId, candidates);
+            }
+            for (long candidate : candidates) {
+                if (receiverIds.size() < count && !receiverIds.contains(candidate)) {
+                    receiverIds.add(candidate);
+                }
+            }
+        }
+
+        log.debug("수신자 매칭 완료: senderId = {}, requested = {}, matched = {}",
+                senderId, count, receiverIds.size());
+
+        return receiverIds;
+    }
+
+    /**
+     * 확정된 수신자를 필터({@link ReceiverFilter#onMatched})에 기록합니다.
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 기록하므로, 롤백된 발송은
+     * 최근 매칭 쌍이나 일일 한도를 소모하지 않습니다. 같은 트랜잭션 안에서는 아직
+     * 기록되지 않은 매칭이 후보 검사에 보이지 않으므로, 일괄 매칭 한 배치 안에서는
+     * 일일 한도를 배치 크기만큼 넘을 수 있습니다.</p>
+     *
+     * @param senderId 발신자 ID
+     * @param receiverIds 확정된 수신자 ID 목록
+     */
+    void recordMatches(Long senderId, List<Long> receiverIds) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifyMatched(senderId, receiverIds);
+            return;
+        }
+
+        PendingMatches pending = (PendingMatches) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingMatches();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.matches.addAll(senderId, receiverIds);
+    }
+
+    private void notifyMatched(Long senderId, List<Long> receiverIds) {
+        for (Long receiverId : receiverIds) {
+            for (ReceiverFilter filter : receiverFilters) {
+                filter.onMatched(senderId, receiverId);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <h4>처리 흐름:</h4>
+     * <ol>
+     *   <li>WAITING 편지를 SKIP LOCKED로 잠그며 가져옴</li>
+     *   <li>발신자별로 묶어 발신자당 한 번 {@link #selectReceivers(Long, int)} 호출</li>
+     *   <li>배정 결과를 JDBC 배치 UPDATE로 한 번에 DELIVERED 처리</li>
+     *   <li>수신자를 찾지 못한 편지는 시도 횟수에 따라 {@code next_attempt_at}을 뒤로 미룸</li>
+     *   <li>실제로 변경된 편지에 대해서만 배달(또는 예약) 이벤트 발행</li>
+     * </ol>
+     *
+     * <p>방해 금지 시간대에는 DELIVERED 대신 SCHEDULED로 변경하고 배달 예약 이벤트를 발행합니다.</p>
+     *
+     * <p>UPDATE 조건에 {@code status = 'WAITING'}을 포함하므로 다른 경로에서
+     * 이미 처리된 편지는 덮어쓰지 않습니다.</p>
+     */
+    @Override
+    @Transactional
+    public WaitingMatchResult matchWaitingLetters(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Letter> waiting = letterRepository.findDueByStatusForUpdateSkipLocked(
+                LetterStatus.WAITING, now, PageRequest.of(0, batchSize));
+        if (waiting.isEmpty()) {
+            return new WaitingMatchResult(0, List.of());
+        }
+
+        Map<Long, List<Letter>> lettersBySender = new LinkedHashMap<>();
+        for (Letter letter : waiting) {
+            lettersBySender.computeIfAbsent(letter.getSender().getId(), id -> new ArrayList<>()).add(letter);
+        }
+
+        Map<Long, String> senderNames = new HashMap<>();
+        for (Member sender : memberRepository.findAllById(lettersBySender.keySet())) {
+            senderNames.put(sender.getId(), sender.getName());
+        }
+
+        Timestamp matchedAt = Timestamp.valueOf(now);
+        boolean quiet = quietHoursPolicy.deferUntil(now) != null;
+        List<Object[]> updates = new ArrayList<>(waiting.size());
+        List<Object[]> backoffs = new ArrayList<>();
+        List<MatchedLetter> assigned = new ArrayList<>(waiting.size());
+        List<LetterScheduledEvent> scheduled = new ArrayList<>();
+
+        for (Map.Entry<Long, List<Letter>> entry : lettersBySender.entrySet()) {
+            Long senderId = entry.getKey();
+            List<Letter> letters = entry.getValue();
+            List<Long> receiverIds = selectReceivers(senderId, letters.size());
+
+            for (int i = 0; i < receiverIds.size(); i++) {
+                Long letterId = letters.get(i).getId();
+                Long receiverId = receiverIds.get(i);
+                if (quiet) {
+                    LocalDateTime deliverAt = quietHoursPolicy.deferUntil(now);
+                    updates.add(new Object[]{receiverId, matchedAt, Timestamp.valueOf(deliverAt), matchedAt, letterId});
+                    scheduled.add(new LetterScheduledEvent(letterId, deliverAt));
+                } else {
+                    updates.add(new Object[]{receiverId, matchedAt, matchedAt, letterId});
+                }
+                assigned.add(new MatchedLetter(letterId, receiverId, senderNames.get(senderId), quiet));
+            }
+            for (Letter letter : letters.subList(receiverIds.size(), letters.size())) {
+                Duration backoff = matchingProperties.getAsyncBatch().backoffFor(letter.getMatchAttempts());
+                backoffs.add(new Object[]{Timestamp.valueOf(now.plus(backoff)), letter.getId()});
+            }
+        }
+
+        List<MatchedLetter> matched = new ArrayList<>(assigned.size());
+        if (!updates.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(quiet ? SCHEDULE_SQL : DELIVER_SQL, updates);
+            for (int i = 0; i < counts.length; i++) {
+                // 0이면 잠금 이후 다른 경로에서 바뀐 편지 (SUCCESS_NO_INFO는 변경된 것으로 간주)
+                if (counts[i] == 0) {
+                    continue;
+                }
+                matched.add(assigned.get(i));
+                if (quiet) {
+                    eventPublisher.publishEvent(scheduled.get(i));
+                } else {
+                    eventPublisher.publishEvent(new LetterDeliveredEvent(assigned.get(i).getReceiverId()));
+                }
+            }
+        }
+        if (!backoffs.isEmpty()) {
+            jdbcTemplate.batchUpdate(BACKOFF_SQL, backoffs);
+        }
+
+        log.info("WAITING 편지 일괄 매칭 완료: claimed = {}, matched = {}, deferred = {}",
+                waiting.size(), matched.size(), backoffs.size());
+
+        return new WaitingMatchResult(waiting.size(), matched);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <h4>처리 흐름:</h4>
+     * <ol>
+     *   <li>만료된 DELIVERED 편지를 {@code (status, matched_at)} 인덱스 범위에서 SKIP LOCKED로 잠그며 가져옴</li>
+     *   <li>같은 본문(body_id)을 이미 받은 수신자를 한 번의 조인 쿼리로 조회</li>
+     *   <li>발신자별로 묶어 발신자당 한 번 후보를 뽑고 위 수신자를 제외
+     *       ({@link #selectCandidates(Long, int)}, 실제 배정한 수신자만 {@link #recordMatches(Long, List)})</li>
+     *   <li>재배정/배정 시각 갱신을 JDBC 배치 UPDATE로 한 번에 처리</li>
+     *   <li>재배정된 편지마다 이전 수신자의 제거 기록({@code letter_removals})을 남겨 동기화에 전달</li>
+     *   <li>이전 수신자별 {@link LetterRecalledEvent}, 새 수신자별 배달(또는 예약) 이벤트 발행</li>
+     *   <li>바로 배달한 편지의 FCM 알림은 같은 트랜잭션에서 아웃박스에 적재</li>
+     * </ol>
+     *
+     * <p>편지 행에는 현재 수신자만 남으므로 이전 재배정에서 편지를 넘겨준 수신자는 본문 조인으로
+     * 제외되지 않으며, 매칭 필터의 최근 매칭 쌍 기간 안에서만 다시 배정되지 않습니다.</p>
+     *
+     * <p>UPDATE 조건에 이전 수신자와 {@code status = 'DELIVERED'}를 포함하므로
+     * 잠금 이후 읽힌 편지는 덮어쓰지 않습니다.</p>
+     */
+    @Override
+    @Transactional
+    public List<MatchedLetter> rematchExpiredLetters(LocalDateTime cutoff, int batchSize) {
+        List<Letter> expired = letterRepository.findExpiredDeliveredForUpdateSkipLocked(
+                cutoff, PageRequest.of(0, batchSize));
+        if (expired.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Letter>> lettersBySender = new LinkedHashMap<>();
+        for (Letter letter : expired) {
+            lettersBySender.computeIfAbsent(letter.getSender().getId(), id -> new ArrayList<>()).add(letter);
+        }
+
+        Map<Long, String> senderNames = new HashMap<>();
+        for (Member sender : memberRepository.findAllById(lettersBySender.keySet())) {
+            senderNames.put(sender.getId(), sender.getName());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp matchedAt = Timestamp.valueOf(now);
+        LocalDateTime deliverAt = quietHoursPolicy.deferUntil(now);
+        boolean quiet = deliverAt != null;
+        List<Object[]> updates = new ArrayList<>(expired.size());
+        List<Object[]> extensions = new ArrayList<>();
+        List<MatchedLetter> matched = new ArrayList<>(expired.size());
+        List<LetterScheduledEvent> scheduled = new ArrayList<>();
+        Map<Long, Integer> recalledByReceiver = new HashMap<>();
+
+        Map<Long, Long> senderByLetter = new HashMap<>();
+        for (Letter letter : expired) {
+            senderByLetter.put(letter.getId(), letter.getSender().getId());
+        }
+        Map<Long, Set<Long>> excludedBySender = new HashMap<>();
+        for (BodyReceiver row : letterRepository.findBodyReceivers(senderByLetter.keySet())) {
+            excludedBySender.computeIfAbsent(senderByLetter.get(row.getLetterId()), id -> new HashSet<>())
+                    .add(row.getReceiverId());
+        }
+
+        for (Map.Entry<Long, List<Letter>> entry : lettersBySender.entrySet()) {
+            Long senderId = entry.getKey();
+            List<Letter> letters = entry.getValue();
+
+            Set<Long> excluded = new HashSet<>(excludedBySender.getOrDefault(senderId, Set.of()));
+            for (Letter letter : letters) {
+                excluded.add(letter.getReceiver().getId());
+            }
+            List<Long> receiverIds = selectExcluding(senderId, letters.size(), excluded);
+            recordMatches(senderId, receiverIds);
+
+            for (int i = 0; i < letters.size(); i++) {
+                Long letterId = letters.get(i).getId();
+                if (i >= receiverIds.size()) {
+                    extensions.add(new Object[]{matchedAt, matchedAt, letterId});
+                    continue;
+                }
+
+                Long previousReceiverId = letters.get(i).getReceiver().getId();
+                Long receiverId = receiverIds.get(i);
+                if (quiet) {
+                    updates.add(new Object[]{receiverId, matchedAt, Timestamp.valueOf(deliverAt), matchedAt,
+                            letterId, previousReceiverId});
+                    scheduled.add(new LetterScheduledEvent(letterId, deliverAt));
+                } else {
+                    updates.add(new Object[]{receiverId, matchedAt, matchedAt, letterId, previousReceiverId});
+                }
+                recalledByReceiver.merge(previousReceiverId, 1, Integer::sum);
+                matched.add(new MatchedLetter(letterId, receiverId, senderNames.get(senderId), quiet));
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(quiet ? RESCHEDULE_SQL : REDELIVER_SQL, updates);
+            List<Object[]> removals = new ArrayList<>(updates.size());
+            for (int i = 0; i < counts.length; i++) {
+                // 0이면 잠금 이후 다른 경로에서 바뀐 편지 (SUCCESS_NO_INFO는 변경된 것으로 간주)
+                if (counts[i] != 0) {
+                    Object[] update = updates.get(i);
+                    removals.add(new Object[]{update[update.length - 1], update[update.length - 2], matchedAt});
+                }
+            }
+            if (!removals.isEmpty()) {
+                jdbcTemplate.batchUpdate(REMOVAL_SQL, removals);
+            }
+        }
+        if (!extensions.isEmpty()) {
+            jdbcTemplate.batchUpdate(EXTEND_SQL, extensions);
+        }
+
+        recalledByReceiver.forEach((receiverId, count) ->
+                eventPublisher.publishEvent(new LetterRecalledEvent(receiverId, count)));
+        if (quiet) {
+            scheduled.forEach(eventPublisher::publishEvent);
+        } else {
+            for (MatchedLetter letter : matched) {
+                eventPublisher.publishEvent(new LetterDeliveredEvent(letter.getReceiverId()));
+                notificationOutboxService.enqueueLetterArrival(letter.getReceiverId(), letter.getSenderName());
+            }
+        }
+
+        log.info("만료 편지 재배정 완료: expired = {}, rematched = {}, extended = {}",
+                expired.size(), matched.size(), extensions.size());
+
+        return matched;
+    }
+
+    /**
+     * 제외 대상이 아닌 수신자를 최대 {@code count}명 선택합니다. 매칭 이력은 기록하지 않습니다.
+     *
+     * <p>제외 대상이 모두 뽑혀도 자리가 남도록 부족한 수에 제외 대상 수를 더해 후보를 뽑으며,
+     * 최대 {@value #MAX_SELECTION_ROUNDS}회까지 다시 뽑아 채웁니다. 필터를 거친 후보는 회원 ID 순으로
+     * 정렬되어 있으므로, 앞에서부터 자르지 않고 섞은 뒤 필요한 수만큼 고릅니다.</p>
+     */
+    private List<Long> selectExcluding(Long senderId, int count, Set<Long> excluded) {
+        List<Long> receiverIds = new ArrayList<>(count);
+        for (int round = 0; round < MAX_SELECTION_ROUNDS && receiverIds.size() < count; round++) {
+            int needed = count - receiverIds.size();
+            List<Long> candidates = selectCandidates(senderId, needed + excluded.size());
+            if (candidates.isEmpty()) {
+                break;
+            }
+            List<Long> eligible = new ArrayList<>(candidates.size());
+            for (Long candidate : candidates) {
+                if (!excluded.contains(candidate) && !receiverIds.contains(candidate)) {
+                    eligible.add(candidate);
+                }
+            }
+            Collections.shuffle(eligible, ThreadLocalRandom.current());
+            receiverIds.addAll(eligible.subList(0, Math.min(needed, eligible.size())));
+        }
+        return receiverIds;
+    }
+
+    /**
+     * 트랜잭션 하나에서 확정된 매칭 (커밋 이후 필터에 기록)
+     */
+    private final class PendingMatches implements TransactionSynchronization {
+
+        /** 발신자 ID → 확정된 수신자 ID 목록 */
+        private final MultiValueMap<Long, Long> matches = new LinkedMultiValueMap<>();
+
+        @Override
+        public void afterCommit() {
+            matches.forEach(MatchingServiceImpl.this::notifyMatched);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MatchingServiceImpl.this);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.letter.dto.MatchedLetter;
+import com.messageapp.domain.letter.entity.Letter;
+import com.messageapp.domain.letter.entity.LetterStatus;
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.repository.LetterRepository;
+import com.messageapp.domain.member.entity.Member;
+import com.messageapp.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 예약 배달 서비스
+ *
+ * <p>타이밍 휠에서 만기된 SCHEDULED 편지를 DELIVERED로 변경합니다.
+ * 알림 발송은 호출자가 커밋 이후에 수행합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.delivery.DeferredDeliveryScheduler
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduledDeliveryService {
+
+    private final LetterRepository letterRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 예약된 편지를 배달 처리합니다.
+     *
+     * <p>이미 배달되었거나 다른 인스턴스가 처리 중인 편지는 건너뜁니다.</p>
+     *
+     * @param letterIds 배달할 편지 ID 목록
+     * @return 배달 완료된 편지 목록
+     */
+    @Transactional
+    public List<MatchedLetter> deliver(List<Long> letterIds) {
+        List<Letter> letters = letterRepository.findByIdInAndStatusForUpdateSkipLocked(
+                letterIds, LetterStatus.SCHEDULED);
+        if (letters.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> senderIds = new HashSet<>();
+        for (Letter letter : letters) {
+            senderIds.add(letter.getSender().getId());
+        }
+        Map<Long, String> senderNames = new HashMap<>();
+        for (Member sender : memberRepository.findAllById(senderIds)) {
+            senderNames.put(sender.getId(), sender.getName());
+        }
+
+        List<MatchedLetter> delivered = new ArrayList<>(letters.size());
+        for (Letter letter : letters) {
+            letter.deliver();
+            Long receiverId = letter.getReceiver().getId();
+            eventPublisher.publishEvent(new LetterDeliveredEvent(receiverId));
+            delivered.add(new MatchedLetter(letter.getId(), receiverId,
+                    senderNames.get(letter.getSender().getId()), false));
+        }
+
+        log.info("예약 편지 배달 완료: requested = {}, delivered = {}", letterIds.size(), delivered.size());
+
+        return delivered;
+    }
+}
@@ -0,0 +1,204 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.event.LetterReadEvent;
+import com.messageapp.domain.letter.event.LetterRecalledEvent;
+import com.messageapp.domain.letter.repository.UnreadCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 미읽음 편지 수 서비스
+ *
+ * <p>편지 배달({@link LetterDeliveredEvent}), 읽음({@link LetterReadEvent}), 회수({@link LetterRecalledEvent}) 이벤트를
+ * 발행한 트랜잭션 안에서 {@code unread_counts} 테이블에 반영합니다.
+ * 편지 상태 변경과 카운터 변경이 함께 커밋되거나 롤백되므로, 수신함 배지를 위해
+ * DELIVERED 편지를 매번 읽어 셀 필요가 없습니다.</p>
+ *
+ * <h3>트랜잭션 내 반영:</h3>
+ * <ul>
+ *   <li>한 트랜잭션의 증감은 회원별로 합산해 두었다가 커밋 직전에 회원 ID 순으로 한 번씩 반영
+ *       (여러 수신자를 갱신하는 트랜잭션끼리 잠금 순서가 같아 교착이 생기지 않음)</li>
+ *   <li>커밋 이후 인메모리 캐시에 같은 증감을 적용</li>
+ * </ul>
+ *
+ * <h3>행이 없는 회원:</h3>
+ * <p>증감은 기존 행의 UPDATE로만 반영합니다 (DB 고유 upsert 문법 없음). 행이 없어 UPDATE가 0건이면
+ * 커밋 이후 별도 트랜잭션에서 letters 테이블의 DELIVERED 편지 수로 행을 만들고, 그 사이 다른 요청이
+ * 먼저 만들었으면 다시 셉니다. 발신 트랜잭션이 잠금을 모두 푼 뒤에 만들므로 빈 키 범위 잠금과
+ * 엇갈려 대기하지 않습니다.</p>
+ *
+ * <p>캐시 항목은 {@link #CACHE_TTL_MILLIS} 동안만 유효합니다. 조회와 갱신이 겹쳐
+ * 캐시에 이전 값이 들어가더라도 이 시간 안에 DB 값으로 다시 채워집니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+    /** 캐시 유효 시간 (밀리초) */
+    private static final long CACHE_TTL_MILLIS = 30_000L;
+
+    /** 최대 캐시 항목 수 (초과 시 만료 항목 정리, 그래도 가득 차면 캐시하지 않음) */
+    private static final int MAX_CACHE_ENTRIES = 100_000;
+
+    private final UnreadCountRepository unreadCountRepository;
+
+    /** 회원 ID → 캐시된 미읽음 편지 수 */
+    private final Map<Long, CachedCount> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 회원의 미읽음 편지 수를 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 미읽음 편지 수
+     */
+    public int getUnreadCount(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = cache.get(memberId);
+        if (cached != null && cached.expiresAtMillis > now) {
+            return cached.count;
+        }
+
+        int count = unreadCountRepository.findUnreadCountByMemberId(memberId).orElse(0);
+        if (cache.size() >= MAX_CACHE_ENTRIES) {
+            cache.values().removeIf(entry -> entry.expiresAtMillis <= now);
+        }
+        if (cache.size() < MAX_CACHE_ENTRIES) {
+            cache.put(memberId, new CachedCount(count, now + CACHE_TTL_MILLIS));
+        }
+        return count;
+    }
+
+    /**
+     * 편지 배달을 미읽음 편지 수에 반영합니다.
+     *
+     * @param event 편지 배달 이벤트
+     */
+    @EventListener
+    public void onLetterDelivered(LetterDeliveredEvent event) {
+        record(event.getReceiverId(), 1);
+    }
+
+    /**
+     * 편지 읽음을 미읽음 편지 수에 반영합니다.
+     *
+     * @param event 편지 읽음 이벤트
+     */
+    @EventListener
+    public void onLetterRead(LetterReadEvent event) {
+        record(event.getReceiverId(), -event.getCount());
+    }
+
+    /**
+     * 만료 편지 회수를 미읽음 편지 수에 반영합니다.
+     *
+     * @param event 편지 회수 이벤트
+     */
+    @EventListener
+    public void onLetterRecalled(LetterRecalledEvent event) {
+        record(event.getReceiverId(), -event.getCount());
+    }
+
+    /**
+     * 테이블이 비어 있으면 letters 테이블로 초기값을 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (unreadCountRepository.count() > 0) {
+            return;
+        }
+        int created = unreadCountRepository.backfillFromLetters();
+        log.info("미읽음 편지 수 초기화 완료: members = {}", created);
+    }
+
+    private void record(Long memberId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (unreadCountRepository.applyDelta(memberId, delta) == 0) {
+                createFromLetters(memberId);
+            }
+            adjustCache(memberId, delta);
+            return;
+        }
+
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.deltas.merge(memberId, delta, Integer::sum);
+    }
+
+    /**
+     * 행이 없는 회원의 미읽음 편지 수를 letters 테이블로 만듭니다 (트랜잭션 밖에서 호출).
+     */
+    private void createFromLetters(Long memberId) {
+        try {
+            try {
+                unreadCountRepository.insertFromLetters(memberId);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 먼저 행을 만듦 - 그 값이 이 요청의 변경을 포함하지 않았을 수 있으므로 다시 셈
+                unreadCountRepository.recountFromLetters(memberId);
+            }
+            cache.remove(memberId);
+        } catch (RuntimeException e) {
+            log.warn("미읽음 편지 수 행 생성 실패: memberId = {}, error = {}", memberId, e.getMessage());
+        }
+    }
+
+    private void adjustCache(Long memberId, int delta) {
+        cache.computeIfPresent(memberId,
+                (id, cached) -> new CachedCount(Math.max(0, cached.count + delta), cached.expiresAtMillis));
+    }
+
+    /**
+     * 트랜잭션 하나에서 발생한 회원별 증감
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        /** 회원 ID 순으로 반영하기 위해 정렬된 맵 사용 */
+        private final Map<Long, Integer> deltas = new TreeMap<>();
+
+        /** 행이 없어 증감을 반영하지 못한 회원 ID */
+        private final List<Long> missing = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            deltas.forEach((memberId, delta) -> {
+                if (delta != 0 && unreadCountRepository.applyDelta(memberId, delta) == 0) {
+                    missing.add(memberId);
+                }
+            });
+        }
+
+        @Override
+        public void afterCommit() {
+            deltas.forEach(UnreadCountService.this::adjustCache);
+            missing.forEach(UnreadCountService.this::createFromLetters);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(UnreadCountService.this);
+        }
+    }
+
+    private record CachedCount(int count, long expiresAtMillis) {
+    }
+}
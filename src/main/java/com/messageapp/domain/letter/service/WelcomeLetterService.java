@@ -1,11 +1,14 @@
 package com.messageapp.domain.letter.service;
 
 import com.messageapp.domain.letter.entity.Letter;
+import com.messageapp.domain.letter.entity.LetterBody;
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
 import com.messageapp.domain.letter.repository.LetterRepository;
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,8 @@ public class WelcomeLetterService {
 
     private final MemberRepository memberRepository;
     private final LetterRepository letterRepository;
+    private final LetterContentService letterContentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 신규 회원에게 환영 편지를 발송합니다.
@@ -45,15 +50,18 @@ public class WelcomeLetterService {
     public void sendWelcomeLetter(Member newMember) {
         Member systemMember = getOrCreateSystemMember();
 
-        Letter welcomeLetter = Letter.builder()
+        // 환영 문구는 모든 신규 회원에게 같으므로 내용 한 행을 공유
+        LetterBody body = LetterBody.builder()
                 .sender(systemMember)
-                .content(WELCOME_MESSAGE)
+                .content(letterContentService.resolve(WELCOME_MESSAGE))
                 .build();
+        Letter welcomeLetter = Letter.withBody(body);
 
         // 수신자 직접 배정 (DELIVERED 상태로 변경)
         welcomeLetter.assignReceiver(newMember);
 
         letterRepository.save(welcomeLetter);
+        eventPublisher.publishEvent(new LetterDeliveredEvent(newMember.getId()));
 
         log.info("환영 편지 발송 완료: receiverId = {}", newMember.getId());
     }
@@ -0,0 +1,31 @@
+package com.messageapp.domain.letter.strategy;
+
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 인덱스 기반 수신자 선택 전략
+ *
+ * <p>{@link ActiveMemberIndex}에서 균등 무작위로 선택합니다.
+ * 다른 전략이 후보를 충분히 찾지 못했을 때의 대체 경로로도 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class IndexSelectionStrategy implements ReceiverSelectionStrategy {
+
+    private final ActiveMemberIndex activeMemberIndex;
+
+    @Override
+    public long[] select(long senderId, int count) {
+        return activeMemberIndex.sample(senderId, count);
+    }
+
+    @Override
+    public MatchingStrategyType getType() {
+        return MatchingStrategyType.INDEX;
+    }
+}
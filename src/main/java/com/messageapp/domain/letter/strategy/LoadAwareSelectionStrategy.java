@@ -0,0 +1,80 @@
+package com.messageapp.domain.letter.strategy;
+
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import com.messageapp.domain.letter.matching.InboxLoadCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 수신함 부하 기반 수신자 선택 전략 ("power of two choices")
+ *
+ * <p>수신자 자리마다 활성 회원 2명을 무작위로 뽑아 미읽음 편지가 더 적은 쪽을 고릅니다.
+ * 균등 무작위 선택보다 가장 큰 수신함의 크기가 크게 줄어들어, 활동적인 회원의
+ * 수신함 조회 지연이 평탄해집니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see InboxLoadCounter
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadAwareSelectionStrategy implements ReceiverSelectionStrategy {
+
+    /** 수신자 1명당 최대 시도 횟수 */
+    private static final int MAX_ATTEMPTS_PER_RECEIVER = 4;
+
+    private final ActiveMemberIndex activeMemberIndex;
+    private final InboxLoadCounter inboxLoadCounter;
+
+    @Override
+    public long[] select(long senderId, int count) {
+        long[] picked = new long[count];
+        int n = 0;
+        int attempts = 0;
+
+        while (n < count && attempts < count * MAX_ATTEMPTS_PER_RECEIVER) {
+            attempts++;
+            long[] candidates = activeMemberIndex.sample(senderId, 2);
+            if (candidates.length == 0) {
+                break;
+            }
+
+            long choice = candidates.length == 1 ? candidates[0] : lessLoaded(candidates[0], candidates[1]);
+            if (contains(picked, n, choice)) {
+                continue;
+            }
+            picked[n++] = choice;
+        }
+
+        if (n < count) {
+            long[] extra = activeMemberIndex.sample(senderId, count);
+            for (int i = 0; i < extra.length && n < count; i++) {
+                if (!contains(picked, n, extra[i])) {
+                    picked[n++] = extra[i];
+                }
+            }
+        }
+
+        return n == count ? picked : Arrays.copyOf(picked, n);
+    }
+
+    @Override
+    public MatchingStrategyType getType() {
+        return MatchingStrategyType.LOAD_AWARE;
+    }
+
+    private long lessLoaded(long first, long second) {
+        return inboxLoadCounter.get(first) <= inboxLoadCounter.get(second) ? first : second;
+    }
+
+    private static boolean contains(long[] picked, int length, long candidate) {
+        for (int i = 0; i < length; i++) {
+            if (picked[i] == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
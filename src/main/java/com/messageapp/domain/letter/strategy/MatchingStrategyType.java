@@ -0,0 +1,31 @@
+package com.messageapp.domain.letter.strategy;
+
+/**
+ * 수신자 선택 전략 열거형
+ *
+ * <p>{@code matching.strategy} 설정으로 선택합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see ReceiverSelectionStrategy
+ */
+public enum MatchingStrategyType {
+
+    /** 활성 회원 인메모리 인덱스에서 균등 무작위 선택 */
+    INDEX,
+
+    /** 백그라운드에서 미리 섞어 둔 수신자 티켓 풀에서 선택 */
+    TICKET_POOL,
+
+    /** 후보 2명 중 미읽음 편지가 적은 회원을 선택 (power of two choices) */
+    LOAD_AWARE,
+
+    /** 최근 활동한 회원일수록 높은 확률로 선택 */
+    RECENCY,
+
+    /** 무작위 member_id 이후 첫 활성 회원을 인덱스 seek로 선택 (DB 독립) */
+    RANDOM_SEEK,
+
+    /** ORDER BY RAND() LIMIT N 쿼리로 선택 (기존 방식, 비교용) */
+    NATIVE_RAND
+}
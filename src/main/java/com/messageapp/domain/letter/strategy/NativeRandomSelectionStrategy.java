@@ -0,0 +1,45 @@
+package com.messageapp.domain.letter.strategy;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code ORDER BY RAND()} 기반 수신자 선택 전략
+ *
+ * <p>기존 {@code MemberRepository#findRandomActiveMembers}와 같은 방식으로
+ * 활성 회원 전체를 무작위 정렬한 뒤 상위 N명을 가져옵니다.
+ * 엔티티 대신 회원 ID만 조회하며, 비교/회귀 확인 용도로 유지합니다.</p>
+ *
+ * <p>활성 회원 수에 비례하는 정렬 비용이 발생하므로 운영 환경에서는
+ * {@link RandomSeekSelectionStrategy} 또는 인메모리 전략을 권장합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NativeRandomSelectionStrategy implements ReceiverSelectionStrategy {
+
+    private static final String RANDOM_SQL =
+            "SELECT member_id FROM members WHERE member_id <> ? AND status = 'ACTIVE' ORDER BY RAND() LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long[] select(long senderId, int count) {
+        List<Long> ids = jdbcTemplate.queryForList(RANDOM_SQL, Long.class, senderId, count);
+        long[] picked = new long[ids.size()];
+        for (int i = 0; i < picked.length; i++) {
+            picked[i] = ids.get(i);
+        }
+        return picked;
+    }
+
+    @Override
+    public MatchingStrategyType getType() {
+        return MatchingStrategyType.NATIVE_RAND;
+    }
+}
@@ -0,0 +1,97 @@
+package com.messageapp.domain.letter.strategy;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 무작위 seek 기반 수신자 선택 전략 (DB 독립)
+ *
+ * <p>{@code [min(member_id), max(member_id)]} 범위에서 무작위 값을 뽑고,
+ * PK 인덱스를 타는 {@code member_id >= ? AND status = 'ACTIVE' LIMIT 1} 조회로
+ * 그 이후 첫 활성 회원을 찾습니다. {@code ORDER BY RAND()}와 달리 전체 정렬이 없고
+ * MySQL 전용 함수를 쓰지 않으므로 H2 환경에서도 실제 매칭 경로와 같은 쿼리가 실행됩니다.</p>
+ *
+ * <h3>특징:</h3>
+ * <ul>
+ *   <li>수신자 1명당 인덱스 seek 1회 (발신자/중복이 걸리면 재시도)</li>
+ *   <li>pivot 이후에 활성 회원이 없으면 최소 ID부터 다시 찾음 (wrap-around)</li>
+ *   <li>ID 공백(탈퇴 회원 구간) 바로 뒤의 회원은 선택 확률이 조금 높아짐</li>
+ * </ul>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see NativeRandomSelectionStrategy
+ */
+@Component
+@RequiredArgsConstructor
+public class RandomSeekSelectionStrategy implements ReceiverSelectionStrategy {
+
+    /** 수신자 1명당 최대 seek 횟수 */
+    private static final int MAX_SEEKS_PER_RECEIVER = 4;
+
+    private static final String ID_RANGE_SQL =
+            "SELECT MIN(member_id) AS min_id, MAX(member_id) AS max_id FROM members";
+
+    private static final String SEEK_SQL =
+            "SELECT member_id FROM members WHERE member_id >= ? AND status = 'ACTIVE' ORDER BY member_id LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long[] select(long senderId, int count) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(ID_RANGE_SQL);
+        Number minId = (Number) range.get("min_id");
+        Number maxId = (Number) range.get("max_id");
+        if (minId == null || maxId == null) {
+            return new long[0];
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] picked = new long[count];
+        int n = 0;
+        int seeks = 0;
+
+        while (n < count && seeks < count * MAX_SEEKS_PER_RECEIVER) {
+            seeks++;
+            long pivot = random.nextLong(minId.longValue(), maxId.longValue() + 1);
+            Long found = seek(pivot);
+            if (found == null) {
+                found = seek(minId.longValue());
+            }
+            if (found == null) {
+                break;
+            }
+            if (found == senderId || contains(picked, n, found)) {
+                continue;
+            }
+            picked[n++] = found;
+        }
+
+        return n == count ? picked : Arrays.copyOf(picked, n);
+    }
+
+    @Override
+    public MatchingStrategyType getType() {
+        return MatchingStrategyType.RANDOM_SEEK;
+    }
+
+    private Long seek(long pivot) {
+        List<Long> ids = jdbcTemplate.queryForList(SEEK_SQL, Long.class, pivot);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private static boolean contains(long[] picked, int length, long candidate) {
+        for (int i = 0; i < length; i++) {
+            if (picked[i] == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package com.messageapp.domain.letter.strategy;
+
+/**
+ * 수신자 선택 전략 인터페이스
+ *
+ * <p>수신자 후보를 고르는 방식을 전략별로 분리합니다.
+ * 구현체는 {@link MatchingStrategyType}으로 식별되며,
+ * {@code MatchingServiceImpl}이 설정에 맞는 전략을 선택합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface ReceiverSelectionStrategy {
+
+    /**
+     * 발신자를 제외한 서로 다른 활성 회원을 선택합니다.
+     *
+     * @param senderId 발신자 ID
+     * @param count 선택할 수신자 수
+     * @return 선택된 회원 ID (후보가 부족하면 count보다 적을 수 있음)
+     */
+    long[] select(long senderId, int count);
+
+    /**
+     * 이 전략의 유형을 반환합니다.
+     *
+     * @return 전략 유형
+     */
+    MatchingStrategyType getType();
+}
@@ -0,0 +1,47 @@
+package com.messageapp.domain.letter.strategy;
+
+/**
+ * 최근 활동 가중치 감쇠 곡선
+ *
+ * <p>마지막 활동 이후 경과 시간을 0~1 사이의 선택 가중치로 변환합니다.
+ * 반환값에는 {@code matching.recency.min-weight} 하한이 별도로 적용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see RecencySelectionStrategy
+ */
+public enum RecencyDecayCurve {
+
+    /** 반감기마다 가중치가 절반으로 감소 */
+    EXPONENTIAL {
+        @Override
+        public double weight(long elapsedMillis, long halfLifeMillis) {
+            return Math.pow(0.5, (double) elapsedMillis / halfLifeMillis);
+        }
+    },
+
+    /** 반감기의 2배 시점에 0이 되도록 선형 감소 */
+    LINEAR {
+        @Override
+        public double weight(long elapsedMillis, long halfLifeMillis) {
+            return Math.max(0.0, 1.0 - (double) elapsedMillis / (2.0 * halfLifeMillis));
+        }
+    },
+
+    /** 반감기 이내면 1, 이후면 0 */
+    STEP {
+        @Override
+        public double weight(long elapsedMillis, long halfLifeMillis) {
+            return elapsedMillis <= halfLifeMillis ? 1.0 : 0.0;
+        }
+    };
+
+    /**
+     * 경과 시간에 대한 가중치를 계산합니다.
+     *
+     * @param elapsedMillis 마지막 활동 이후 경과 시간 (밀리초)
+     * @param halfLifeMillis 반감기 (밀리초)
+     * @return 0~1 사이 가중치
+     */
+    public abstract double weight(long elapsedMillis, long halfLifeMillis);
+}
@@ -0,0 +1,102 @@
+package com.messageapp.domain.letter.strategy;
+
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import com.messageapp.domain.member.activity.MemberActivityTracker;
+import com.messageapp.global.config.MatchingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 최근 활동 가중 수신자 선택 전략
+ *
+ * <p>몇 달째 앱을 열지 않은 회원에게 보낸 편지는 읽히지 않고 letters 테이블만 키우므로,
+ * 최근 활동한 회원일수록 높은 확률로 선택합니다.</p>
+ *
+ * <h3>선택 방식 (rejection sampling):</h3>
+ * <ol>
+ *   <li>{@link ActiveMemberIndex}에서 후보 1명을 균등 무작위로 뽑습니다.</li>
+ *   <li>{@link MemberActivityTracker}의 활동 시각으로 {@link RecencyDecayCurve} 가중치를 계산합니다.</li>
+ *   <li>가중치 확률로 수락하고, 거절되면 다시 뽑습니다.</li>
+ * </ol>
+ *
+ * <p>가중치에는 하한({@code min-weight})이 있어 오래 접속하지 않은 회원도 완전히 배제되지는 않으며,
+ * 시도 횟수를 넘기면 남은 자리는 균등 무작위로 채웁니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RecencySelectionStrategy implements ReceiverSelectionStrategy {
+
+    /** 수신자 1명당 최대 시도 횟수 */
+    private static final int MAX_ATTEMPTS_PER_RECEIVER = 32;
+
+    private final ActiveMemberIndex activeMemberIndex;
+    private final MemberActivityTracker memberActivityTracker;
+    private final MatchingProperties matchingProperties;
+
+    @Override
+    public long[] select(long senderId, int count) {
+        MatchingProperties.RecencyProperties recency = matchingProperties.getRecency();
+        long halfLifeMillis = Math.max(1L, recency.getHalfLife().toMillis());
+        long now = System.currentTimeMillis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long[] picked = new long[count];
+        int n = 0;
+        int attempts = 0;
+
+        while (n < count && attempts < count * MAX_ATTEMPTS_PER_RECEIVER) {
+            attempts++;
+            long[] candidate = activeMemberIndex.sample(senderId, 1);
+            if (candidate.length == 0) {
+                break;
+            }
+            long candidateId = candidate[0];
+            if (contains(picked, n, candidateId)) {
+                continue;
+            }
+            if (random.nextDouble() < weight(candidateId, now, halfLifeMillis, recency)) {
+                picked[n++] = candidateId;
+            }
+        }
+
+        if (n < count) {
+            long[] extra = activeMemberIndex.sample(senderId, count);
+            for (int i = 0; i < extra.length && n < count; i++) {
+                if (!contains(picked, n, extra[i])) {
+                    picked[n++] = extra[i];
+                }
+            }
+        }
+
+        return n == count ? picked : Arrays.copyOf(picked, n);
+    }
+
+    @Override
+    public MatchingStrategyType getType() {
+        return MatchingStrategyType.RECENCY;
+    }
+
+    private double weight(long memberId, long now, long halfLifeMillis, MatchingProperties.RecencyProperties recency) {
+        long lastActiveAt = memberActivityTracker.getLastActiveAt(memberId);
+        if (lastActiveAt < 0) {
+            return recency.getMinWeight();
+        }
+        double weight = recency.getDecay().weight(Math.max(0L, now - lastActiveAt), halfLifeMillis);
+        return Math.max(recency.getMinWeight(), weight);
+    }
+
+    private static boolean contains(long[] picked, int length, long candidate) {
+        for (int i = 0; i < length; i++) {
+            if (picked[i] == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+package com.messageapp.domain.letter.strategy;
+
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import com.messageapp.domain.letter.matching.ReceiverTicketPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 티켓 풀 기반 수신자 선택 전략
+ *
+ * <p>{@link ReceiverTicketPool}에서 미리 섞어 둔 수신자 ID를 꺼내 사용합니다.
+ * 발송 요청 스레드에서는 난수 생성이나 정렬 없이 CAS 몇 번으로 수신자를 확보하므로
+ * 푸시 캠페인 직후처럼 발송이 몰려도 매칭 비용이 거의 일정합니다.</p>
+ *
+ * <h3>꺼낸 티켓을 버리는 경우:</h3>
+ * <ul>
+ *   <li>발신자 본인</li>
+ *   <li>같은 발송에서 이미 선택된 회원</li>
+ *   <li>풀에 들어간 뒤 탈퇴/차단된 회원 ({@link ActiveMemberIndex}에 없음)</li>
+ * </ul>
+ *
+ * <p>풀이 비었거나 유효한 티켓이 부족하면 {@link IndexSelectionStrategy}로 나머지를 채웁니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketPoolSelectionStrategy implements ReceiverSelectionStrategy {
+
+    /** 수신자 1명당 최대 티켓 소모 수 */
+    private static final int MAX_DRAWS_PER_RECEIVER = 4;
+
+    private final ReceiverTicketPool ticketPool;
+    private final ActiveMemberIndex activeMemberIndex;
+    private final IndexSelectionStrategy fallbackStrategy;
+
+    @Override
+    public long[] select(long senderId, int count) {
+        long[] picked = new long[count];
+        int n = 0;
+        int draws = 0;
+
+        while (n < count && draws < count * MAX_DRAWS_PER_RECEIVER) {
+            long ticket = ticketPool.poll();
+            if (ticket == ReceiverTicketPool.EMPTY) {
+                break;
+            }
+            draws++;
+            if (ticket == senderId || contains(picked, n, ticket) || !activeMemberIndex.contains(ticket)) {
+                continue;
+            }
+            picked[n++] = ticket;
+        }
+
+        if (n < count) {
+            n = fillFromFallback(senderId, picked, n);
+        }
+
+        return n == count ? picked : Arrays.copyOf(picked, n);
+    }
+
+    @Override
+    public MatchingStrategyType getType() {
+        return MatchingStrategyType.TICKET_POOL;
+    }
+
+    private int fillFromFallback(long senderId, long[] picked, int n) {
+        long[] extra = fallbackStrategy.select(senderId, picked.length);
+        for (int i = 0; i < extra.length && n < picked.length; i++) {
+            if (!contains(picked, n, extra[i])) {
+                picked[n++] = extra[i];
+            }
+        }
+        return n;
+    }
+
+    private static boolean contains(long[] picked, int length, long candidate) {
+        for (int i = 0; i < length; i++) {
+            if (picked[i] == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+package com.messageapp.domain.member.activity;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 최근 활동 시각 일괄 반영 작업 (write-behind)
+ *
+ * <p>{@link MemberActivityTracker}에 쌓인 변경분을 주기적으로 꺼내
+ * {@code members.last_active_at}에 JDBC 배치 UPDATE로 반영합니다.
+ * 반영에 실패한 변경분은 대기열로 되돌려 다음 주기에 재시도합니다.</p>
+ *
+ * <p>애플리케이션 종료 시에도 남은 변경분을 반영합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see MemberActivityTracker
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberActivityFlusher {
+
+    /** 배치 UPDATE 한 번에 포함하는 최대 행 수 */
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String UPDATE_SQL = "UPDATE members SET last_active_at = ? WHERE member_id = ?";
+
+    private final MemberActivityTracker memberActivityTracker;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기 중인 활동 시각을 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${matching.recency.flush-interval-ms:60000}")
+    public void flush() {
+        Map<Long, Long> pending = memberActivityTracker.drainPending();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(Math.min(pending.size(), BATCH_SIZE));
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            batch.add(new Object[]{new Timestamp(entry.getValue()), entry.getKey()});
+            if (batch.size() == BATCH_SIZE) {
+                executeBatch(batch, pending);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            executeBatch(batch, pending);
+        }
+
+        log.debug("회원 활동 시각 반영 완료: count = {}", pending.size());
+    }
+
+    /**
+     * 종료 직전 남은 변경분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void executeBatch(List<Object[]> batch, Map<Long, Long> pending) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+        } catch (Exception e) {
+            log.warn("회원 활동 시각 반영 실패, 다음 주기에 재시도: count = {}, error = {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                Long memberId = (Long) row[1];
+                memberActivityTracker.requeue(Map.of(memberId, pending.get(memberId)));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.messageapp.domain.member.activity;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 최근 활동 시각 인메모리 추적기
+ *
+ * <p>{@link com.messageapp.global.security.JwtAuthenticationFilter}가 인증된 요청마다
+ * {@link #touch(long)}를 호출합니다. 요청마다 members 테이블을 UPDATE 하지 않고
+ * 변경분만 모아 두었다가 {@link MemberActivityFlusher}가 주기적으로 일괄 반영합니다.</p>
+ *
+ * <p>같은 회원의 연속 요청은 {@value #TOUCH_GRANULARITY_MS}ms 단위로만 기록하므로
+ * 활동이 많은 회원도 맵 갱신 비용이 거의 들지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see MemberActivityFlusher
+ */
+@Component
+public class MemberActivityTracker {
+
+    /** 활동 시각 기록 단위 (밀리초) */
+    private static final long TOUCH_GRANULARITY_MS = 60_000L;
+
+    /** 회원 ID → 최근 활동 시각 (epoch millis) */
+    private final Map<Long, Long> lastActiveAt = new ConcurrentHashMap<>();
+
+    /** DB에 아직 반영되지 않은 회원 ID → 활동 시각 */
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 회원의 활동을 기록합니다.
+     *
+     * @param memberId 회원 ID
+     */
+    public void touch(long memberId) {
+        long now = System.currentTimeMillis();
+        Long previous = lastActiveAt.get(memberId);
+        if (previous != null && now - previous < TOUCH_GRANULARITY_MS) {
+            return;
+        }
+        lastActiveAt.put(memberId, now);
+        pending.put(memberId, now);
+    }
+
+    /**
+     * DB에서 읽은 활동 시각을 적재합니다 (초기 적재용).
+     *
+     * <p>이미 더 최근 시각이 기록되어 있으면 유지합니다.</p>
+     *
+     * @param memberId 회원 ID
+     * @param epochMillis 활동 시각
+     */
+    public void load(long memberId, long epochMillis) {
+        lastActiveAt.merge(memberId, epochMillis, Math::max);
+    }
+
+    /**
+     * 회원의 최근 활동 시각을 반환합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 활동 시각 (epoch millis), 기록이 없으면 -1
+     */
+    public long getLastActiveAt(long memberId) {
+        Long value = lastActiveAt.get(memberId);
+        return value == null ? -1L : value;
+    }
+
+    /**
+     * 반영 대기 중인 변경분을 꺼냅니다.
+     *
+     * <p>꺼내는 도중 새로 기록된 시각은 다음 반영 주기에 포함됩니다.</p>
+     *
+     * @return 회원 ID → 활동 시각
+     */
+    public Map<Long, Long> drainPending() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 변경분을 다시 대기열에 넣습니다.
+     *
+     * @param failed 회원 ID → 활동 시각
+     */
+    public void requeue(Map<Long, Long> failed) {
+        failed.forEach((memberId, epochMillis) -> pending.merge(memberId, epochMillis, Math::max));
+    }
+}
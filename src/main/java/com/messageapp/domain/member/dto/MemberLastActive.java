@@ -0,0 +1,18 @@
+package com.messageapp.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 최근 활동 시각 조회용 프로젝션
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface MemberLastActive {
+
+    /** 회원 ID */
+    Long getMemberId();
+
+    /** 최근 활동 시각 */
+    LocalDateTime getLastActiveAt();
+}
@@ -10,6 +10,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * 회원 엔티티
  *
@@ -33,9 +35,11 @@ import lombok.NoArgsConstructor;
  * @since 1.0
  * @see MemberStatus
  * @see MemberConstants
+ * @see MemberStatusListener
  */
 @Entity
 @Table(name = "members")
+@EntityListeners(MemberStatusListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseEntity {
@@ -77,6 +81,15 @@ public class Member extends BaseEntity {
     @Column(name = "status", nullable = false)
     private MemberStatus status = MemberStatus.ACTIVE;
 
+    /**
+     * 최근 활동 시각
+     *
+     * <p>요청마다 갱신하지 않고 {@code MemberActivityFlusher}가 JDBC 배치로 반영하므로
+     * 엔티티 변경 감지 대상에서 제외합니다.</p>
+     */
+    @Column(name = "last_active_at", insertable = false, updatable = false)
+    private LocalDateTime lastActiveAt;
+
     /**
      * 회원 생성자
      *
@@ -0,0 +1,40 @@
+package com.messageapp.domain.member.entity;
+
+import com.messageapp.domain.member.event.MemberStatusChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 상태 변경 엔티티 리스너
+ *
+ * <p>회원이 INSERT/UPDATE 될 때 {@link MemberStatusChangedEvent}를 발행합니다.
+ * 가입, 탈퇴({@link Member#deactivate()}), 차단({@link Member#ban()}) 중
+ * 어떤 경로로 상태가 바뀌더라도 인메모리 매칭 구조가 함께 갱신됩니다.</p>
+ *
+ * <p>구독자는 {@code @TransactionalEventListener}로 커밋 이후에만 반영하므로
+ * 롤백된 변경은 인메모리 구조에 남지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see Member
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberStatusListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 회원 저장/수정 직후 상태 변경 이벤트를 발행합니다.
+     *
+     * @param member 저장된 회원
+     */
+    @PostPersist
+    @PostUpdate
+    public void onMemberSaved(Member member) {
+        eventPublisher.publishEvent(new MemberStatusChangedEvent(member.getId(), member.getStatus()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.messageapp.domain.member.event;
+
+import com.messageapp.domain.member.entity.MemberStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 상태 변경 이벤트
+ *
+ * <p>회원이 저장되거나 수정될 때 발행됩니다. 가입(ACTIVE), 탈퇴(INACTIVE),
+ * 차단(BANNED) 여부를 인메모리 매칭 구조에 반영하는 데 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.member.entity.MemberStatusListener
+ */
+@Getter
+@AllArgsConstructor
+public class MemberStatusChangedEvent {
+
+    /** 회원 ID */
+    private final Long memberId;
+
+    /** 변경 후 회원 상태 */
+    private final MemberStatus status;
+
+    /**
+     * 변경 후 상태가 활성 상태인지 확인합니다.
+     *
+     * @return ACTIVE이면 true
+     */
+    public boolean isActive() {
+        return status == MemberStatus.ACTIVE;
+    }
+}
@@ -1,6 +1,9 @@
 package com.messageapp.domain.member.repository;
 
+import com.messageapp.domain.member.dto.MemberLastActive;
 import com.messageapp.domain.member.entity.Member;
+import com.messageapp.domain.member.entity.MemberStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -59,7 +62,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * <p>DB에서 직접 랜덤 선택(ORDER BY RAND() LIMIT N)을 수행하여
      * 메모리 사용을 최소화합니다.</p>
      *
-     * <p><b>Note:</b> MySQL의 RAND() 함수를 사용하므로 MySQL 환경에서만 동작합니다.</p>
+     * <p><b>Note:</b> MySQL의 RAND() 함수를 사용하므로 MySQL 환경에서만 동작합니다.
+     * DB에 독립적인 방식은 {@code RandomSeekSelectionStrategy}를 참고하세요.</p>
      *
      * @param senderId 제외할 발신자 ID
      * @param count 선택할 수신자 수
@@ -68,6 +72,34 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query(value = "SELECT * FROM members WHERE member_id != :senderId AND status = 'ACTIVE' ORDER BY RAND() LIMIT :count", nativeQuery = true)
     List<Member> findRandomActiveMembers(@Param("senderId") Long senderId, @Param("count") int count);
 
+    /**
+     * 특정 상태의 회원 ID를 member_id 오름차순으로 조회합니다 (keyset 페이징).
+     *
+     * <p>인메모리 매칭 인덱스 적재 시 청크 단위로 사용됩니다.</p>
+     *
+     * @param status 회원 상태
+     * @param lastId 이전 청크의 마지막 회원 ID (첫 청크는 0)
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 회원 ID 목록 (오름차순)
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.status = :status AND m.id > :lastId ORDER BY m.id")
+    List<Long> findIdsByStatusAfter(@Param("status") MemberStatus status,
+                                    @Param("lastId") Long lastId,
+                                    Pageable pageable);
+
+    /**
+     * 최근 활동 시각이 기록된 활성 회원을 member_id 오름차순으로 조회합니다 (keyset 페이징).
+     *
+     * <p>최근 활동 가중 매칭의 활동 시각 적재 시 청크 단위로 사용됩니다.</p>
+     *
+     * @param lastId 이전 청크의 마지막 회원 ID (첫 청크는 0)
+     * @param pageable 조회 크기 (첫 페이지만 사용)
+     * @return 회원 ID와 최근 활동 시각 목록
+     */
+    @Query("SELECT m.id AS memberId, m.lastActiveAt AS lastActiveAt FROM Member m " +
+            "WHERE m.status = 'ACTIVE' AND m.lastActiveAt IS NOT NULL AND m.id > :lastId ORDER BY m.id")
+    List<MemberLastActive> findLastActiveAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     /**
      * 해당 닉네임이 이미 사용 중인지 확인합니다.
      *
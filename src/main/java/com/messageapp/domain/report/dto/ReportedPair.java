@@ -0,0 +1,21 @@
+package com.messageapp.domain.report.dto;
+
+/**
+ * 신고 (발신자, 신고자) 쌍 조회용 프로젝션
+ *
+ * <p>매칭 제외 비트맵 초기 적재 시 엔티티 로딩 없이 ID만 읽어오기 위해 사용합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface ReportedPair {
+
+    /** 신고 ID (keyset 페이징 커서) */
+    Long getReportId();
+
+    /** 신고된 편지의 발신자 ID */
+    Long getSenderId();
+
+    /** 신고자 ID */
+    Long getReporterId();
+}
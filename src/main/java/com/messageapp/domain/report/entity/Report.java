@@ -3,6 +3,7 @@ package com.messageapp.domain.report.entity;
 import com.messageapp.domain.letter.entity.Letter;
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.global.common.BaseEntity;
+import com.messageapp.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,7 +17,10 @@ import lombok.NoArgsConstructor;
 public class Report extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "report_id_generator")
+    @TableGenerator(name = "report_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "reports", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "report_id")
     private Long id;
 
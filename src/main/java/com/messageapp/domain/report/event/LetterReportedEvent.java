@@ -0,0 +1,25 @@
+package com.messageapp.domain.report.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 편지 신고 이벤트
+ *
+ * <p>신고가 저장되었을 때 발행됩니다. 신고자가 이후 같은 발신자의 편지를
+ * 받지 않도록 매칭 제외 목록에 반영하는 데 사용됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.report.service.ReportServiceImpl#reportLetter
+ */
+@Getter
+@AllArgsConstructor
+public class LetterReportedEvent {
+
+    /** 신고된 편지의 발신자 ID */
+    private final Long senderId;
+
+    /** 신고자 ID */
+    private final Long reporterId;
+}
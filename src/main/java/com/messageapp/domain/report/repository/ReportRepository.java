@@ -1,9 +1,15 @@
 package com.messageapp.domain.report.repository;
 
+import com.messageapp.domain.report.dto.ReportedPair;
 import com.messageapp.domain.report.entity.Report;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
@@ -11,4 +17,11 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
      * 중복 신고 여부 확인
      */
     boolean existsByLetterIdAndReporterId(Long letterId, Long reporterId);
+
+    /**
+     * 신고 ID 기준 keyset 페이징으로 (발신자, 신고자) 쌍 조회
+     */
+    @Query("SELECT r.id AS reportId, r.letter.body.sender.id AS senderId, r.reporter.id AS reporterId " +
+            "FROM Report r WHERE r.id > :lastId ORDER BY r.id")
+    List<ReportedPair> findReportedPairsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -6,12 +6,14 @@ import com.messageapp.domain.member.entity.Member;
 import com.messageapp.domain.member.repository.MemberRepository;
 import com.messageapp.domain.report.dto.ReportResponse;
 import com.messageapp.domain.report.entity.Report;
+import com.messageapp.domain.report.event.LetterReportedEvent;
 import com.messageapp.domain.report.repository.ReportRepository;
 import com.messageapp.global.exception.business.letter.LetterNotFoundException;
 import com.messageapp.global.exception.business.report.DuplicateReportException;
 import com.messageapp.global.exception.business.report.ReporterNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class ReportServiceImpl implements ReportService {
     private final ReportRepository reportRepository;
     private final LetterRepository letterRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -50,6 +53,9 @@ public class ReportServiceImpl implements ReportService {
 
         Report savedReport = reportRepository.save(report);
 
+        // 5. 신고자가 같은 발신자와 다시 매칭되지 않도록 제외 목록에 반영
+        eventPublisher.publishEvent(new LetterReportedEvent(letter.getSender().getId(), reporterId));
+
         log.info("편지 신고 접수: reportId = {}, letterId = {}, reporterId = {}",
                 savedReport.getId(), letterId, reporterId);
 
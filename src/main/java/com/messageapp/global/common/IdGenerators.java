@@ -0,0 +1,41 @@
+package com.messageapp.global.common;
+
+/**
+ * 엔티티 식별자 생성 설정 상수
+ *
+ * <p>IDENTITY 전략은 INSERT 시점에 DB가 ID를 발급하므로 Hibernate가 JDBC 배치를 쓰지 못합니다.
+ * 편지처럼 한 번에 여러 행을 저장하는 엔티티는 {@code id_sequences} 테이블에서
+ * {@link #ALLOCATION_SIZE}개씩 ID를 미리 할당받아(pooled optimizer) 메모리에서 부여하고,
+ * INSERT는 배치로 묶어 보냅니다.</p>
+ *
+ * <p>시퀀스 객체가 없는 MySQL과 H2에서 모두 동작하도록 테이블 기반 생성기를 사용합니다.</p>
+ *
+ * <pre>{@code
+ * @Id
+ * @GeneratedValue(strategy = GenerationType.TABLE, generator = "letter_id_generator")
+ * @TableGenerator(name = "letter_id_generator", table = IdGenerators.TABLE,
+ *         pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+ *         pkColumnValue = "letters", allocationSize = IdGenerators.ALLOCATION_SIZE)
+ * private Long id;
+ * }</pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public final class IdGenerators {
+
+    /** ID 할당 테이블 */
+    public static final String TABLE = "id_sequences";
+
+    /** 시퀀스 이름 컬럼 (엔티티 테이블명을 값으로 사용) */
+    public static final String PK_COLUMN = "sequence_name";
+
+    /** 다음 할당 값 컬럼 */
+    public static final String VALUE_COLUMN = "next_val";
+
+    /** 한 번에 할당받는 ID 수 ({@code hibernate.jdbc.batch_size}와 맞춤) */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -21,4 +22,59 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 알림 아웃박스 릴레이 실행기
+     *
+     * <p>실행 1개 + 대기 1개만 허용하고 나머지 요청은 버립니다.
+     * 대기 중인 실행이 아웃박스 전체를 비우므로 버려진 요청의 알림도 함께 처리됩니다.</p>
+     */
+    @Bean(name = "outboxRelayExecutor")
+    public Executor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("Outbox-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 편지 비동기 발송 워커 실행기
+     *
+     * <p>워커 수만큼의 스레드가 각각 큐를 계속 비우는 루프를 실행합니다.
+     * 종료 시 진행 중인 배치가 끝날 때까지 기다립니다.</p>
+     */
+    @Bean(name = "letterSendExecutor")
+    public Executor letterSendExecutor(LetterSendQueueProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkers());
+        executor.setMaxPoolSize(properties.getWorkers());
+        executor.setQueueCapacity(0);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setThreadNamePrefix("LetterSend-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 읽은 편지 보관 작업 실행기
+     *
+     * <p>보관 작업은 청크 사이에 쉬면서 최대 {@code max-run-duration} 동안 실행되므로,
+     * 공유 스케줄러 스레드를 붙잡아 다른 {@code @Scheduled} 작업을 밀지 않도록 전용 스레드 하나에서 실행합니다.
+     * 이미 실행 중이면 새 실행은 받지 않으며, 종료 시 인터럽트로 휴식을 깨워 멈춥니다.</p>
+     */
+    @Bean(name = "letterArchiveExecutor")
+    public Executor letterArchiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("LetterArchive-");
+        executor.initialize();
+        return executor;
+    }
 }
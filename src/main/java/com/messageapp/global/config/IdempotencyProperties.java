@@ -0,0 +1,47 @@
+package com.messageapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 멱등 요청 설정 프로퍼티 클래스
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * idempotency:
+ *   ttl: 24h
+ *   local-ttl: 10m
+ *   max-local-entries: 100000
+ * </pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /** DB에 키와 응답을 보관하는 기간 */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** 인메모리에 키와 응답을 보관하는 기간 (ttl보다 짧게) */
+    private Duration localTtl = Duration.ofMinutes(10);
+
+    /** 인메모리에 보관하는 최대 키 수 (초과 시 DB만 사용) */
+    private int maxLocalEntries = 100_000;
+
+    /** 처리 중인 같은 키의 요청을 기다리는 최대 시간 */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /** 처리 중 상태가 이 시간 이상 유지되면 방치된 것으로 보고 다시 선점 허용 */
+    private Duration inProgressTimeout = Duration.ofSeconds(60);
+
+    /** 만료 키 정리 주기 (밀리초) */
+    private long purgeIntervalMs = 60_000;
+}
@@ -0,0 +1,53 @@
+package com.messageapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 편지 보관 작업 설정 프로퍼티 클래스
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * letter:
+ *   archive:
+ *     enabled: true
+ *     retention: 90d
+ *     chunk-size: 500
+ *     throttle-ratio: 1.0
+ * </pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.archive.LetterArchiver
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "letter.archive")
+public class LetterArchiveProperties {
+
+    /** 활성화 여부 */
+    private boolean enabled = false;
+
+    /** 실행 시각 (cron) */
+    private String cron = "0 0 4 * * *";
+
+    /** 보관 기간 - 읽은 지 이 기간이 지난 편지를 보관 테이블로 옮김 */
+    private Duration retention = Duration.ofDays(90);
+
+    /** 한 트랜잭션에서 옮기는 최대 편지 수 */
+    private int chunkSize = 500;
+
+    /** 청크 사이 휴식 비율 - 청크 처리 시간 × 비율만큼 쉼 (1.0이면 DB 사용 시간 약 50%) */
+    private double throttleRatio = 1.0;
+
+    /** 청크 사이 최소 휴식 시간 */
+    private Duration minPause = Duration.ofMillis(50);
+
+    /** 한 번 실행의 최대 시간 (초과하면 다음 실행에서 이어서 처리) */
+    private Duration maxRunDuration = Duration.ofHours(1);
+}
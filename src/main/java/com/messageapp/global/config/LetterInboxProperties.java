@@ -0,0 +1,109 @@
+package com.messageapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 수신함 목록 조회 설정 프로퍼티 클래스
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * letter:
+ *   inbox:
+ *     default-page-size: 20
+ *     max-page-size: 100
+ *     sync:
+ *       page-size: 100
+ *       removal-retention: 30d
+ * </pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.service.LetterService#getReceivedLetters
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "letter.inbox")
+public class LetterInboxProperties {
+
+    /** 페이지 크기를 지정하지 않았을 때의 크기 */
+    private int defaultPageSize = 20;
+
+    /** 요청 가능한 최대 페이지 크기 (초과하면 이 값으로 제한) */
+    private int maxPageSize = 100;
+
+    /** 수신함 동기화 설정 */
+    private SyncProperties sync = new SyncProperties();
+
+    /**
+     * 요청한 페이지 크기를 1 ~ {@code maxPageSize} 범위로 보정합니다.
+     *
+     * @param requested 요청한 페이지 크기 (null이면 기본값)
+     * @return 실제로 사용할 페이지 크기
+     */
+    public int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+
+    /**
+     * 트랜잭션 기본 타임아웃을 동기화 설정에 반영합니다.
+     *
+     * @param transactionTimeout {@code spring.transaction.default-timeout}
+     */
+    @Value("${spring.transaction.default-timeout:10s}")
+    public void setTransactionTimeout(Duration transactionTimeout) {
+        sync.setTransactionTimeout(transactionTimeout);
+    }
+
+    /**
+     * 수신함 동기화 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class SyncProperties {
+
+        /** 마지막 SQL 실행 이후 커밋까지 허용하는 여유 시간 */
+        private static final Duration COMMIT_MARGIN = Duration.ofSeconds(1);
+
+        /** 한 번에 반환하는 최대 변경 수 */
+        private int pageSize = 100;
+
+        /** 제거 기록 보관 기간 - 이보다 오래된 토큰은 처음부터 다시 동기화 */
+        private Duration removalRetention = Duration.ofDays(30);
+
+        /** 제거 기록 정리 주기 (밀리초) */
+        private long removalPurgeIntervalMs = 60_000;
+
+        /** 트랜잭션 기본 타임아웃 ({@code spring.transaction.default-timeout}에서 주입) */
+        private Duration transactionTimeout = Duration.ofSeconds(10);
+
+        /**
+         * 모든 변경을 받은 클라이언트의 토큰을 현재 시각보다 과거에 두는 시간을 반환합니다.
+         *
+         * <p>변경 시각은 커밋보다 먼저 기록되므로, 트랜잭션이 이 시간 안에 커밋되어야 변경을 놓치지 않습니다.
+         * 트랜잭션 타임아웃에 커밋 여유 시간을 더해 계산합니다.</p>
+         *
+         * <h4>한계:</h4>
+         * <ul>
+         *   <li>타임아웃은 SQL 실행 시점에만 검사되므로, 마지막 SQL 이후 커밋까지
+         *       여유 시간보다 오래 걸리면(GC 정지 등) 그 변경은 다음 동기화에서 빠질 수 있음</li>
+         *   <li>{@code @Transactional(timeout = ...)}으로 기본값보다 긴 타임아웃을 지정한 트랜잭션은 보장 범위 밖</li>
+         *   <li>서버 간 시계 차이는 포함하지 않음</li>
+         * </ul>
+         *
+         * @return 동기화 overlap
+         */
+        public Duration getOverlap() {
+            return transactionTimeout.plus(COMMIT_MARGIN);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.messageapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 편지 비동기 발송 큐 설정 프로퍼티 클래스
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * letter:
+ *   send-queue:
+ *     enabled: true
+ *     capacity: 10000
+ *     workers: 2
+ *     batch-size: 50
+ *     lease: 60s
+ *     retry-backoff: 5s
+ *     retention: 1d
+ * </pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.domain.letter.queue.LetterSendQueue
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "letter.send-queue")
+public class LetterSendQueueProperties {
+
+    /** 비동기 발송 모드 사용 여부 (true이면 발송 요청에 202와 추적 ID로 응답) */
+    private boolean enabled = false;
+
+    /** 인메모리 큐 크기 (가득 차면 letter_send_queue 테이블 폴링으로 발송) */
+    private int capacity = 10_000;
+
+    /** 워커 스레드 수 */
+    private int workers = 2;
+
+    /** 워커가 한 번에 꺼내는 최대 요청 수 (발송은 요청마다 별도 트랜잭션) */
+    private int batchSize = 50;
+
+    /** 테이블 폴링 주기 (밀리초) */
+    private long pollIntervalMs = 1_000;
+
+    /** 임대 시간 - 이 시간 안에 발송이 끝나지 않으면 다시 발송 */
+    private Duration lease = Duration.ofSeconds(60);
+
+    /** 일시적 실패 후 재시도까지 대기 시간 */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    /** 최대 발송 시도 횟수 (초과 시 FAILED로 표시) */
+    private int maxAttempts = 5;
+
+    /** 완료(SENT, FAILED) 요청 보관 기간 - 이 기간 동안 추적 ID로 상태 조회 가능 */
+    private Duration retention = Duration.ofDays(1);
+
+    /** 완료 요청 정리 주기 (밀리초) */
+    private long purgeIntervalMs = 600_000;
+}
@@ -0,0 +1,209 @@
+package com.messageapp.global.config;
+
+import com.messageapp.domain.letter.matching.MatchingMode;
+import com.messageapp.domain.letter.strategy.MatchingStrategyType;
+import com.messageapp.domain.letter.strategy.RecencyDecayCurve;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * 수신자 매칭 설정 프로퍼티 클래스
+ *
+ * <p>application.yml의 matching 설정을 Type-safe하게 바인딩합니다.</p>
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * matching:
+ *   mode: ASYNC_BATCH
+ *   strategy: TICKET_POOL
+ *   ticket-pool:
+ *     capacity: 65536
+ *     refill-batch-size: 10000
+ *   pair-suppression:
+ *     window: 7d
+ *     false-positive-rate: 0.01
+ * </pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "matching")
+public class MatchingProperties {
+
+    /** 수신자 매칭 시점 (기본값: 발송 요청 안에서 배정) */
+    private MatchingMode mode = MatchingMode.SYNC;
+
+    /** 수신자 선택 전략 (기본값: 인메모리 인덱스) */
+    private MatchingStrategyType strategy = MatchingStrategyType.INDEX;
+
+    /** 수신자 티켓 풀 설정 */
+    private TicketPoolProperties ticketPool = new TicketPoolProperties();
+
+    /** WAITING 편지 일괄 매칭 설정 */
+    private AsyncBatchProperties asyncBatch = new AsyncBatchProperties();
+
+    /** 최근 매칭 쌍 중복 방지 설정 */
+    private PairSuppressionProperties pairSuppression = new PairSuppressionProperties();
+
+    /** 수신자 일일 배달 한도 설정 */
+    private DailyQuotaProperties dailyQuota = new DailyQuotaProperties();
+
+    /** 방해 금지 시간 설정 */
+    private QuietHoursProperties quietHours = new QuietHoursProperties();
+
+    /** 최근 활동 가중 매칭 설정 */
+    private RecencyProperties recency = new RecencyProperties();
+
+    /** 미읽음 편지 만료 후 재매칭 설정 */
+    private UnreadTtlProperties unreadTtl = new UnreadTtlProperties();
+
+    /**
+     * 수신자 티켓 풀 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class TicketPoolProperties {
+        /** 링 버퍼 크기 (2의 거듭제곱으로 올림) */
+        private int capacity = 65_536;
+
+        /** 한 번에 DB에서 읽어오는 활성 회원 ID 수 */
+        private int refillBatchSize = 10_000;
+
+        /** 보충 주기 (밀리초) */
+        private long refillIntervalMs = 200;
+    }
+
+    /**
+     * WAITING 편지 일괄 매칭 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class AsyncBatchProperties {
+        /** 한 번에 가져오는 WAITING 편지 수 */
+        private int batchSize = 500;
+
+        /** 매칭 주기 (밀리초) */
+        private long intervalMs = 1_000;
+
+        /** 수신자를 찾지 못한 편지의 첫 재시도 지연 (실패할 때마다 두 배) */
+        private Duration retryBackoff = Duration.ofSeconds(30);
+
+        /** 재시도 지연 상한 */
+        private Duration maxRetryBackoff = Duration.ofMinutes(30);
+
+        /**
+         * 매칭 시도 횟수에 따른 재시도 지연을 계산합니다.
+         *
+         * @param attempts 지금까지 실패한 시도 횟수
+         * @return 다음 시도까지의 지연
+         */
+        public Duration backoffFor(int attempts) {
+            Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts, 20));
+            return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+        }
+    }
+
+    /**
+     * 최근 매칭 쌍 중복 방지 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class PairSuppressionProperties {
+        /** 활성화 여부 */
+        private boolean enabled = true;
+
+        /** 같은 쌍의 재매칭을 막는 기간 */
+        private Duration window = Duration.ofDays(7);
+
+        /** 윈도우를 나누는 세대 수 (최소 2) */
+        private int generations = 7;
+
+        /** 세대당 예상 매칭 수 */
+        private long expectedInsertionsPerGeneration = 1_000_000;
+
+        /** 목표 오탐률 */
+        private double falsePositiveRate = 0.01;
+    }
+
+    /**
+     * 수신자 일일 배달 한도 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class DailyQuotaProperties {
+        /** 활성화 여부 */
+        private boolean enabled = true;
+
+        /** 회원 한 명이 하루에 받을 수 있는 최대 편지 수 */
+        private int maxLettersPerReceiver = 30;
+    }
+
+    /**
+     * 방해 금지 시간 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class QuietHoursProperties {
+        /** 활성화 여부 */
+        private boolean enabled = false;
+
+        /** 시작 시각 */
+        private LocalTime start = LocalTime.of(23, 0);
+
+        /** 종료 시각 (시작 시각보다 이르면 다음 날로 간주) */
+        private LocalTime end = LocalTime.of(8, 0);
+
+        /** 종료 시각 이후 배달을 분산하는 범위 */
+        private Duration spread = Duration.ofMinutes(60);
+
+        /** 시작/종료 시각을 해석하는 시간대 */
+        private ZoneId zone = ZoneId.of("Asia/Seoul");
+    }
+
+    /**
+     * 최근 활동 가중 매칭 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class RecencyProperties {
+        /** 감쇠 곡선 */
+        private RecencyDecayCurve decay = RecencyDecayCurve.EXPONENTIAL;
+
+        /** 가중치가 절반이 되는 기간 */
+        private Duration halfLife = Duration.ofDays(14);
+
+        /** 가중치 하한 (오래 접속하지 않은 회원의 최소 선택 확률) */
+        private double minWeight = 0.05;
+
+        /** 최근 활동 시각 DB 반영 주기 (밀리초) */
+        private long flushIntervalMs = 60_000;
+    }
+
+    /**
+     * 미읽음 편지 만료 후 재매칭 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class UnreadTtlProperties {
+        /** 활성화 여부 */
+        private boolean enabled = false;
+
+        /** 배정 후 이 기간 동안 읽히지 않은 DELIVERED 편지를 다른 수신자에게 재배정 */
+        private Duration ttl = Duration.ofDays(7);
+
+        /** 한 트랜잭션에서 재배정하는 최대 편지 수 */
+        private int batchSize = 200;
+
+        /** 만료 편지 탐색 주기 (밀리초) */
+        private long sweepIntervalMs = 60_000;
+    }
+}
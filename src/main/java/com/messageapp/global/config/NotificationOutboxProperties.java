@@ -0,0 +1,45 @@
+package com.messageapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 알림 아웃박스 설정 프로퍼티 클래스
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * notification:
+ *   outbox:
+ *     batch-size: 100
+ *     poll-interval-ms: 1000
+ *     lease: 60s
+ * </pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.outbox")
+public class NotificationOutboxProperties {
+
+    /** 릴레이가 한 번에 가져가는 알림 수 */
+    private int batchSize = 100;
+
+    /** 폴링 주기 (밀리초) - 커밋 직후 신호를 놓친 행과 재시도 행을 처리 */
+    private long pollIntervalMs = 1_000;
+
+    /** 임대 시간 - 이 시간 안에 발송이 끝나지 않으면 다시 발송 */
+    private Duration lease = Duration.ofSeconds(60);
+
+    /** 발송 실패 또는 FCM 실행기 포화 시 다시 시도하기까지의 대기 시간 */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    /** 최대 발송 시도 횟수 (도달 시 포기하고 notification_outbox_dead로 이동) */
+    private int maxAttempts = 10;
+}
@@ -0,0 +1,69 @@
+package com.messageapp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 한도 설정 프로퍼티 클래스
+ *
+ * <p>설정 예시:</p>
+ * <pre>
+ * rate-limit:
+ *   limits:
+ *     letter-send:
+ *       capacity: 5
+ *       refill-period: 12s
+ * </pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see com.messageapp.global.ratelimit.RateLimited
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /** 활성화 여부 */
+    private boolean enabled = true;
+
+    /** 한도별 최대 버킷 수 (초과 시 새 회원은 정리될 때까지 한도 없이 통과) */
+    private int maxBuckets = 100_000;
+
+    /** 가득 찬 버킷 정리 주기 (밀리초) */
+    private long evictionIntervalMs = 60_000;
+
+    /** 한도 이름별 설정 */
+    private Map<String, LimitProperties> limits = new HashMap<>(Map.of(
+            "letter-send", new LimitProperties(5, Duration.ofSeconds(12)),
+            "bookmark-write", new LimitProperties(30, Duration.ofSeconds(2)),
+            "report-write", new LimitProperties(5, Duration.ofSeconds(60))));
+
+    /**
+     * 한도 설정 프로퍼티
+     */
+    @Getter
+    @Setter
+    public static class LimitProperties {
+        /** 버킷 크기 (연속으로 허용하는 최대 요청 수) */
+        private int capacity;
+
+        /** 토큰 하나가 다시 채워지는 시간 */
+        private Duration refillPeriod;
+
+        public LimitProperties() {
+        }
+
+        public LimitProperties(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.messageapp.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄링 설정
+ *
+ * <p>매칭 풀 보충 등 백그라운드 작업을 위한 스케줄러를 등록합니다.
+ * 작업 하나가 지연되어도 다른 작업이 밀리지 않도록 스레드 풀을 사용합니다.
+ * 스케줄러는 빈 초기화 시 Spring이 {@code afterPropertiesSet}으로 한 번만 시작합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("Scheduler-");
+        return scheduler;
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.http.HttpStatus;
  *   <li>403 FORBIDDEN: 권한 없음</li>
  *   <li>404 NOT_FOUND: 리소스를 찾을 수 없음</li>
  *   <li>409 CONFLICT: 중복/충돌</li>
+ *   <li>429 TOO_MANY_REQUESTS: 요청 한도 초과</li>
  *   <li>500 INTERNAL_SERVER_ERROR: 서버 내부 오류</li>
  * </ul>
  *
@@ -72,6 +73,12 @@ public enum ErrorCode {
     /** 디바이스 토큰을 찾을 수 없음 */
     DEVICE_TOKEN_NOT_FOUND(400, "등록된 디바이스 토큰을 찾을 수 없습니다."),
 
+    /** 유효하지 않은 Idempotency-Key */
+    INVALID_IDEMPOTENCY_KEY(400, "Idempotency-Key는 1~100자여야 합니다."),
+
+    /** 유효하지 않은 페이지 커서 */
+    INVALID_CURSOR(400, "페이지 커서가 올바르지 않습니다."),
+
     // ==================== 401 UNAUTHORIZED ====================
 
     /** 유효하지 않은 토큰 */
@@ -111,6 +118,9 @@ public enum ErrorCode {
     /** 사용자를 찾을 수 없음 */
     USER_NOT_FOUND(404, "사용자를 찾을 수 없습니다."),
 
+    /** 발송 요청을 찾을 수 없음 (추적 ID) */
+    SEND_REQUEST_NOT_FOUND(404, "발송 요청을 찾을 수 없습니다."),
+
     /** 이미 등록된 회원 */
     AlREADY_REGISTER(404, "이미 등록된 회원입니다"),
 
@@ -128,6 +138,17 @@ public enum ErrorCode {
     /** 신고 중복 */
     DUPLICATE_REPORT(409, "이미 신고한 편지입니다."),
 
+    /** 다른 요청에 사용된 Idempotency-Key */
+    IDEMPOTENCY_KEY_REUSED(409, "다른 요청에 이미 사용된 Idempotency-Key입니다."),
+
+    /** 같은 Idempotency-Key의 요청이 처리 중 */
+    IDEMPOTENT_REQUEST_IN_PROGRESS(409, "같은 Idempotency-Key의 요청이 처리 중입니다."),
+
+    // ==================== 429 TOO_MANY_REQUESTS ====================
+
+    /** 요청 한도 초과 */
+    TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
     // ==================== 500 INTERNAL_SERVER_ERROR ====================
 
     /** 카카오 로그인 실패 */
@@ -1,5 +1,6 @@
 package com.messageapp.global.error;
 
+import com.messageapp.global.exception.RateLimitExceededException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +42,26 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.valueOf(code.getStatus())).body(errorResponse);
     }
 
+    /**
+     * 요청 한도 초과 예외 처리 (Retry-After 헤더 포함)
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+            RateLimitExceededException e, HttpServletRequest request) {
+
+        errorLogger.logBusinessException(e, request);
+
+        ErrorCode code = e.getErrorCode();
+        ErrorResponse errorResponse =
+                new ErrorResponse(
+                        code.getStatus(),
+                        code.getReason(),
+                        buildFullUrl(request));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * IllegalArgumentException 처리 (Entity 검증 실패)
      */
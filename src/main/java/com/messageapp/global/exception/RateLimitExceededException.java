@@ -0,0 +1,22 @@
+package com.messageapp.global.exception;
+
+import com.messageapp.global.error.AppException;
+import com.messageapp.global.error.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends AppException {
+
+    /** 다시 시도할 수 있을 때까지의 시간 (초, Retry-After 헤더 값) */
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public RateLimitExceededException(long retryAfterSeconds, String additionalMessage) {
+        super(ErrorCode.TOO_MANY_REQUESTS, additionalMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
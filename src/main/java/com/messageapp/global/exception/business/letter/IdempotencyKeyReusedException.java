@@ -0,0 +1,15 @@
+package com.messageapp.global.exception.business.letter;
+
+import com.messageapp.global.error.AppException;
+import com.messageapp.global.error.ErrorCode;
+
+public class IdempotencyKeyReusedException extends AppException {
+
+    public IdempotencyKeyReusedException() {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    public IdempotencyKeyReusedException(String additionalMessage) {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED, additionalMessage);
+    }
+}
@@ -0,0 +1,15 @@
+package com.messageapp.global.exception.business.letter;
+
+import com.messageapp.global.error.AppException;
+import com.messageapp.global.error.ErrorCode;
+
+public class IdempotentRequestInProgressException extends AppException {
+
+    public IdempotentRequestInProgressException() {
+        super(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+
+    public IdempotentRequestInProgressException(String additionalMessage) {
+        super(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, additionalMessage);
+    }
+}
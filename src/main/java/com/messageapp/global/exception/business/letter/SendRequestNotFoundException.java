@@ -0,0 +1,15 @@
+package com.messageapp.global.exception.business.letter;
+
+import com.messageapp.global.error.AppException;
+import com.messageapp.global.error.ErrorCode;
+
+public class SendRequestNotFoundException extends AppException {
+
+    public SendRequestNotFoundException() {
+        super(ErrorCode.SEND_REQUEST_NOT_FOUND);
+    }
+
+    public SendRequestNotFoundException(String additionalMessage) {
+        super(ErrorCode.SEND_REQUEST_NOT_FOUND, additionalMessage);
+    }
+}
@@ -0,0 +1,11 @@
+package com.messageapp.global.exception.validation;
+
+import com.messageapp.global.error.AppException;
+import com.messageapp.global.error.ErrorCode;
+
+public class InvalidCursorException extends AppException {
+
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,15 @@
+package com.messageapp.global.exception.validation;
+
+import com.messageapp.global.error.AppException;
+import com.messageapp.global.error.ErrorCode;
+
+public class InvalidIdempotencyKeyException extends AppException {
+
+    public InvalidIdempotencyKeyException() {
+        super(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+
+    public InvalidIdempotencyKeyException(String additionalMessage) {
+        super(ErrorCode.INVALID_IDEMPOTENCY_KEY, additionalMessage);
+    }
+}
@@ -0,0 +1,23 @@
+package com.messageapp.global.ratelimit;
+
+/**
+ * 완료된 멱등 요청의 재시도 여부 판단
+ *
+ * <p>{@link RateLimited#exemptIdempotentReplays()}가 켜진 엔드포인트에서 {@link RateLimitInterceptor}가
+ * 토큰이 없어 요청을 거절하기 직전에 호출합니다. 이미 처리가 끝난 키의 재시도는 저장된 응답을 돌려줄 뿐
+ * 새 작업을 만들지 않으므로, 네트워크 재시도가 429로 막히지 않도록 합니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ */
+public interface IdempotentReplayChecker {
+
+    /**
+     * 처리가 끝난 키의 재시도인지 확인합니다.
+     *
+     * @param memberId 회원 ID
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @return 같은 회원이 같은 키로 보낸 요청이 이미 성공적으로 처리되었으면 true
+     */
+    boolean isCompletedReplay(long memberId, String idempotencyKey);
+}
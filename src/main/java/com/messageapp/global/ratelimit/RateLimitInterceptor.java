@@ -0,0 +1,75 @@
+package com.messageapp.global.ratelimit;
+
+import com.messageapp.global.exception.RateLimitExceededException;
+import com.messageapp.global.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한도 인터셉터
+ *
+ * <p>{@link RateLimited}가 붙은 컨트롤러 메서드가 실행되기 전에 회원별 토큰을 소모합니다.
+ * 토큰이 없으면 서비스 계층(DB)에 닿기 전에 {@link RateLimitExceededException}으로 거절하며,
+ * 응답에는 다음 토큰까지 남은 시간이 {@code Retry-After} 헤더로 포함됩니다.</p>
+ *
+ * <p>회원 ID는 {@link JwtAuthenticationFilter}가 인증 후 요청 속성에 넣어 둔 값을 사용합니다.</p>
+ *
+ * <p>{@link RateLimited#exemptIdempotentReplays()}가 켜져 있으면 토큰이 없어 거절될 요청에 한해
+ * {@code Idempotency-Key}가 이미 처리된 요청의 재시도인지 확인하고, 재시도이면 통과시킵니다.
+ * 재시도 확인은 DB 조회로 이어질 수 있으므로 토큰이 남아 있는 요청에는 수행하지 않습니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see TokenBucketRateLimiter
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    /** 멱등 키 헤더 */
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final IdempotentReplayChecker idempotentReplayChecker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        Object memberId = request.getAttribute(JwtAuthenticationFilter.MEMBER_ID_ATTRIBUTE);
+        if (rateLimited == null || !(memberId instanceof Long id)) {
+            return true;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(rateLimited.value(), id);
+        if (waitNanos != TokenBucketRateLimiter.ALLOWED) {
+            if (rateLimited.exemptIdempotentReplays() && isCompletedReplay(request, id)) {
+                log.debug("완료된 멱등 요청 재시도 - 요청 한도 미적용: limit = {}, memberId = {}",
+                        rateLimited.value(), id);
+                return true;
+            }
+
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.info("요청 한도 초과: limit = {}, memberId = {}, retryAfter = {}s",
+                    rateLimited.value(), id, retryAfterSeconds);
+            throw new RateLimitExceededException(retryAfterSeconds);
+        }
+        return true;
+    }
+
+    private boolean isCompletedReplay(HttpServletRequest request, long memberId) {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return idempotencyKey != null && idempotentReplayChecker.isCompletedReplay(memberId, idempotencyKey);
+    }
+}
@@ -0,0 +1,37 @@
+package com.messageapp.global.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 회원별 요청 한도를 적용할 컨트롤러 메서드에 붙이는 어노테이션
+ *
+ * <p>{@code value}는 {@code rate-limit.limits}에 정의된 한도 이름입니다.
+ * 같은 이름을 쓰는 엔드포인트끼리는 한도를 공유합니다.</p>
+ *
+ * <pre>{@code
+ * @RateLimited("letter-send")
+ * @PostMapping("/send")
+ * public LetterResponse sendLetter(...) { ... }
+ * }</pre>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see RateLimitInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /** 한도 이름 */
+    String value();
+
+    /**
+     * 처리가 끝난 {@code Idempotency-Key}의 재시도는 토큰이 없어도 통과시킬지 여부
+     *
+     * @see IdempotentReplayChecker
+     */
+    boolean exemptIdempotentReplays() default false;
+}
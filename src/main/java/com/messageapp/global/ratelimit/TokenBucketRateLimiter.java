@@ -0,0 +1,146 @@
+package com.messageapp.global.ratelimit;
+
+import com.messageapp.global.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원별 토큰 버킷 요청 한도기
+ *
+ * <p>버킷마다 "버킷이 가득 차는 시각" 하나만 {@link AtomicLong}으로 보관하는
+ * GCRA 방식의 토큰 버킷입니다. 남은 토큰 수는 이 시각과 현재 시각의 차이로 계산되므로
+ * 별도의 충전 작업 없이 요청 시점에 지연 충전되고, 갱신은 CAS 한 번으로 끝나 잠금이 없습니다.</p>
+ *
+ * <h3>판정:</h3>
+ * <ul>
+ *   <li>{@code full = max(저장된 시각, now)}</li>
+ *   <li>{@code full - now > (capacity - 1) * refillPeriod}이면 토큰 부족 → 거절</li>
+ *   <li>아니면 {@code full + refillPeriod}로 갱신 (토큰 1개 소모)</li>
+ * </ul>
+ *
+ * <p>저장된 시각이 이미 지난 버킷은 가득 찬 상태로, 없는 버킷과 같으므로
+ * 주기적으로 맵에서 제거해도 동작이 바뀌지 않습니다. 한도별 버킷 수는 {@code max-buckets}로 제한됩니다.</p>
+ *
+ * @author MessageApp Team
+ * @since 1.0
+ * @see RateLimitInterceptor
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    /** 허용 */
+    public static final long ALLOWED = 0L;
+
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+
+    /** 한도 이름 → (회원 ID → 버킷이 가득 차는 시각) */
+    private final Map<String, Map<Long, AtomicLong>> buckets = new ConcurrentHashMap<>();
+
+    /** 버킷 수 한도에 도달한 한도 이름 (상태가 바뀔 때만 로그를 남기기 위해 사용) */
+    private final Set<String> saturatedLimits = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 소모합니다.
+     *
+     * @param limitName 한도 이름
+     * @param memberId 회원 ID
+     * @return 허용되면 {@link #ALLOWED}, 거절되면 다음 토큰까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String limitName, long memberId) {
+        RateLimitProperties.LimitProperties limit = properties.getLimits().get(limitName);
+        if (!properties.isEnabled() || limit == null) {
+            return ALLOWED;
+        }
+
+        long period = limit.getRefillPeriod().toNanos();
+        long tolerance = period * (limit.getCapacity() - 1);
+        long now = nanoClock.getAsLong();
+
+        AtomicLong bucket = bucketOf(limitName, memberId, now);
+        if (bucket == null) {
+            return ALLOWED;
+        }
+
+        while (true) {
+            long stored = bucket.get();
+            long full = Math.max(stored, now);
+            long ahead = full - now;
+            if (ahead > tolerance) {
+                return ahead - tolerance;
+            }
+            if (bucket.compareAndSet(stored, full + period)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictFullBuckets() {
+        long now = nanoClock.getAsLong();
+        for (Map<Long, AtomicLong> limitBuckets : buckets.values()) {
+            limitBuckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        }
+    }
+
+    /**
+     * 한도 이름별 현재 버킷 수를 반환합니다.
+     *
+     * @param limitName 한도 이름
+     * @return 버킷 수
+     */
+    public int size(String limitName) {
+        Map<Long, AtomicLong> limitBuckets = buckets.get(limitName);
+        return limitBuckets == null ? 0 : limitBuckets.size();
+    }
+
+    /**
+     * 회원의 버킷을 조회하거나 만듭니다.
+     *
+     * @return 버킷, 버킷 수 한도를 넘어 만들 수 없으면 null
+     */
+    private AtomicLong bucketOf(String limitName, long memberId, long now) {
+        Map<Long, AtomicLong> limitBuckets = buckets.computeIfAbsent(limitName, name -> new ConcurrentHashMap<>());
+        AtomicLong bucket = limitBuckets.get(memberId);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (limitBuckets.size() >= properties.getMaxBuckets()) {
+            limitBuckets.values().removeIf(b -> b.get() - now <= 0);
+            if (limitBuckets.size() >= properties.getMaxBuckets()) {
+                if (saturatedLimits.add(limitName)) {
+                    log.warn("요청 한도 버킷 수 초과, 새 회원은 한도 없이 통과: limit = {}, size = {}",
+                            limitName, limitBuckets.size());
+                }
+                return null;
+            }
+        }
+        if (saturatedLimits.remove(limitName)) {
+            log.info("요청 한도 버킷 수 회복, 새 회원 추적 재개: limit = {}, size = {}", limitName, limitBuckets.size());
+        }
+        return limitBuckets.computeIfAbsent(memberId, id -> new AtomicLong(now));
+    }
+}
@@ -1,6 +1,7 @@
 package com.messageapp.global.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.messageapp.domain.member.activity.MemberActivityTracker;
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.domain.member.repository.MemberRepository;
 import com.messageapp.global.error.ErrorCode;
@@ -32,6 +33,7 @@ import java.util.Map;
  *   <li>Authorization 헤더에서 Bearer 토큰 추출</li>
  *   <li>JWT 토큰 유효성 검증</li>
  *   <li>회원 존재 여부 및 활성 상태 확인</li>
+ *   <li>회원 최근 활동 시각 기록 (인메모리, 주기적으로 DB 반영)</li>
  *   <li>검증 실패 시 에러 응답 반환</li>
  * </ol>
  *
@@ -46,6 +48,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
+    private final MemberActivityTracker memberActivityTracker;
+
+    /** 인증된 회원 ID를 담는 요청 속성 이름 */
+    public static final String MEMBER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".memberId";
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
@@ -132,6 +138,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
+            memberActivityTracker.touch(memberId);
+            request.setAttribute(MEMBER_ID_ATTRIBUTE, memberId);
+
             log.debug("JWT 인증 성공: memberId = {}, path = {}", memberId, requestPath);
 
         } catch (Exception e) {
@@ -0,0 +1,95 @@
+package com.messageapp.domain.fcm.outbox;
+
+import com.messageapp.domain.fcm.dto.PendingNotification;
+import com.messageapp.domain.fcm.service.FcmService;
+import com.messageapp.domain.fcm.service.NotificationOutboxService;
+import com.messageapp.global.config.NotificationOutboxProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private FcmService fcmService;
+
+    private final NotificationOutboxProperties properties = new NotificationOutboxProperties();
+
+    @Test
+    @DisplayName("발송된 알림은 삭제하고 일시 실패한 알림은 재시도 대기로 돌려놓는다")
+    void send_completesSentAndRetriesFailed() {
+        // given
+        NotificationOutboxRelay relay = relay(Runnable::run);
+        given(fcmService.deliverLetterArrivalNotification(10L, "a")).willReturn(true);
+        given(fcmService.deliverLetterArrivalNotification(20L, "b")).willReturn(false);
+        given(fcmService.deliverLetterArrivalNotification(30L, "c")).willThrow(new IllegalStateException("boom"));
+
+        // when
+        relay.send(List.of(
+                new PendingNotification(1L, 10L, "a"),
+                new PendingNotification(2L, 20L, "b"),
+                new PendingNotification(3L, 30L, "c")));
+
+        // then
+        verify(notificationOutboxService).complete(List.of(1L));
+        verify(notificationOutboxService).retryLater(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("임대한 배치를 실행기에서 발송한다")
+    void relay_sendsLeasedBatch() {
+        // given
+        NotificationOutboxRelay relay = relay(Runnable::run);
+        given(notificationOutboxService.lease(properties.getBatchSize()))
+                .willReturn(List.of(new PendingNotification(1L, 10L, "a")));
+        given(fcmService.deliverLetterArrivalNotification(10L, "a")).willReturn(true);
+
+        // when
+        relay.relay();
+
+        // then
+        verify(notificationOutboxService).complete(List.of(1L));
+        verify(notificationOutboxService, never()).retryLater(anyCollection());
+    }
+
+    @Test
+    @DisplayName("실행기가 포화되면 시도 횟수를 되돌려 배치를 돌려놓고 발송하지 않는다")
+    void relay_releasesOnRejection() {
+        // given
+        NotificationOutboxRelay relay = relay(task -> {
+            throw new TaskRejectedException("full");
+        });
+        given(notificationOutboxService.lease(properties.getBatchSize()))
+                .willReturn(List.of(new PendingNotification(1L, 10L, "a"), new PendingNotification(2L, 20L, "b")));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(notificationOutboxService).release(List.of(1L, 2L));
+        verify(notificationOutboxService, never()).retryLater(anyCollection());
+        verify(fcmService, never()).deliverLetterArrivalNotification(anyLong(), anyString());
+    }
+
+    private NotificationOutboxRelay relay(Executor fcmTaskExecutor) {
+        return new NotificationOutboxRelay(notificationOutboxService, fcmService, properties,
+                fcmTaskExecutor, Runnable::run);
+    }
+}
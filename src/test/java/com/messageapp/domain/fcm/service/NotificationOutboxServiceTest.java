@@ -0,0 +1,128 @@
+package com.messageapp.domain.fcm.service;
+
+import com.messageapp.domain.fcm.dto.PendingNotification;
+import com.messageapp.domain.fcm.entity.NotificationOutbox;
+import com.messageapp.domain.fcm.repository.DeadNotificationRepository;
+import com.messageapp.domain.fcm.repository.NotificationOutboxRepository;
+import com.messageapp.fixture.TestFixture;
+import com.messageapp.global.config.NotificationOutboxProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private DeadNotificationRepository deadNotificationRepository;
+
+    @Spy
+    private NotificationOutboxProperties properties = new NotificationOutboxProperties();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private NotificationOutboxService notificationOutboxService;
+
+    @Nested
+    @DisplayName("lease 메서드")
+    class LeaseTest {
+
+        @Test
+        @DisplayName("가져간 행의 시도 횟수를 늘리고 임대 만료 시각으로 미룬다")
+        void lease_marksRowsLeased() {
+            // given
+            NotificationOutbox row = TestFixture.createOutbox(1L, 10L, 0);
+            given(notificationOutboxRepository.findAvailableForUpdateSkipLocked(any(), any()))
+                    .willReturn(List.of(row));
+            LocalDateTime before = LocalDateTime.now();
+
+            // when
+            List<PendingNotification> leased = notificationOutboxService.lease(10);
+
+            // then
+            assertThat(leased).extracting(PendingNotification::getOutboxId).containsExactly(1L);
+            assertThat(row.getAttempts()).isEqualTo(1);
+            assertThat(row.getAvailableAt()).isAfterOrEqualTo(before.plus(properties.getLease()));
+            verify(deadNotificationRepository, never()).copyFromOutbox(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달한 행은 삭제하지 않고 발송 포기 테이블로 옮긴다")
+        void lease_deadLettersExhaustedRows() {
+            // given
+            NotificationOutbox fresh = TestFixture.createOutbox(1L, 10L, 0);
+            NotificationOutbox exhausted = TestFixture.createOutbox(2L, 20L, properties.getMaxAttempts());
+            given(notificationOutboxRepository.findAvailableForUpdateSkipLocked(any(), any()))
+                    .willReturn(List.of(fresh, exhausted));
+
+            // when
+            List<PendingNotification> leased = notificationOutboxService.lease(10);
+
+            // then
+            assertThat(leased).extracting(PendingNotification::getOutboxId).containsExactly(1L);
+            verify(deadNotificationRepository).copyFromOutbox(eq(List.of(2L)), any());
+            verify(notificationOutboxRepository).deleteByIdIn(List.of(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("retryLater / release 메서드")
+    class RetryTest {
+
+        @Test
+        @DisplayName("발송 실패는 시도 횟수를 유지한 채 재시도 대기로 돌려놓는다")
+        void retryLater_keepsAttempts() {
+            LocalDateTime before = LocalDateTime.now();
+
+            notificationOutboxService.retryLater(List.of(1L));
+
+            verify(notificationOutboxRepository).rescheduleByIdIn(eq(List.of(1L)),
+                    argThat(at -> !at.isBefore(before.plus(properties.getRetryBackoff()))));
+            verify(notificationOutboxRepository, never()).releaseByIdIn(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("실행기 포화로 돌려놓은 행은 시도 횟수를 되돌린다")
+        void release_restoresAttempts() {
+            notificationOutboxService.release(List.of(1L, 2L));
+
+            verify(notificationOutboxRepository).releaseByIdIn(eq(List.of(1L, 2L)), any());
+            verify(notificationOutboxRepository, never()).rescheduleByIdIn(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 DB에 접근하지 않는다")
+        void emptyIds_noop() {
+            notificationOutboxService.retryLater(List.of());
+            notificationOutboxService.release(List.of());
+            notificationOutboxService.complete(List.of());
+
+            verify(notificationOutboxRepository, never()).rescheduleByIdIn(anyCollection(), any());
+            verify(notificationOutboxRepository, never()).releaseByIdIn(anyCollection(), any());
+            verify(notificationOutboxRepository, never()).deleteByIdIn(anyCollection());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.messageapp.domain.letter.archive;
+
+import com.messageapp.domain.letter.repository.ArchivedLetterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LetterArchiveWriterTest {
+
+    @Mock
+    private ArchivedLetterRepository archivedLetterRepository;
+
+    @InjectMocks
+    private LetterArchiveWriter letterArchiveWriter;
+
+    @Test
+    @DisplayName("보관함에 담겼거나 신고되어 잠기지 않은 편지는 복사/삭제하지 않는다")
+    void archive_movesOnlyLockedLetters() {
+        // given - 2L은 보관함, 3L은 신고로 lockArchivable에서 제외
+        List<Long> candidates = List.of(1L, 2L, 3L, 4L);
+        given(archivedLetterRepository.lockArchivable(candidates)).willReturn(List.of(1L, 4L));
+        given(archivedLetterRepository.deleteLetters(List.of(1L, 4L))).willReturn(2);
+
+        // when
+        int archived = letterArchiveWriter.archive(candidates);
+
+        // then
+        assertThat(archived).isEqualTo(2);
+        verify(archivedLetterRepository).copyToArchive(eq(List.of(1L, 4L)), any());
+        verify(archivedLetterRepository).recordRemovals(eq(List.of(1L, 4L)), any());
+        verify(archivedLetterRepository).deleteLetters(List.of(1L, 4L));
+    }
+
+    @Test
+    @DisplayName("잠긴 편지가 없으면 복사/삭제 쿼리를 실행하지 않는다")
+    void archive_nothingLocked() {
+        // given
+        given(archivedLetterRepository.lockArchivable(List.of(2L, 3L))).willReturn(List.of());
+
+        // when
+        int archived = letterArchiveWriter.archive(List.of(2L, 3L));
+
+        // then
+        assertThat(archived).isZero();
+        verify(archivedLetterRepository, never()).copyToArchive(any(), any());
+        verify(archivedLetterRepository, never()).recordRemovals(any(), any());
+        verify(archivedLetterRepository, never()).deleteLetters(any());
+    }
+}
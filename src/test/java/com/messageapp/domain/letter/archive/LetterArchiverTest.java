@@ -0,0 +1,170 @@
+package com.messageapp.domain.letter.archive;
+
+import com.messageapp.domain.letter.dto.ArchiveCandidate;
+import com.messageapp.domain.letter.repository.LetterRepository;
+import com.messageapp.global.config.LetterArchiveProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class LetterArchiverTest {
+
+    private static final LocalDateTime READ_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private LetterRepository letterRepository;
+
+    @Mock
+    private LetterArchiveWriter letterArchiveWriter;
+
+    private LetterArchiveProperties properties;
+    private LetterArchiver letterArchiver;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LetterArchiveProperties();
+        properties.setEnabled(true);
+        properties.setChunkSize(2);
+        properties.setThrottleRatio(0);
+        properties.setMinPause(Duration.ZERO);
+        letterArchiver = new LetterArchiver(letterRepository, letterArchiveWriter, properties,
+                new SimpleMeterRegistry(), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("다음 청크는 이전 청크 마지막 후보의 (read_at, letter_id) 이후부터 조회한다")
+    void archive_advancesKeyset() {
+        // given
+        List<ArchiveCandidate> first = List.of(candidate(1L, READ_AT), candidate(2L, READ_AT.plusMinutes(1)));
+        List<ArchiveCandidate> second = List.of(candidate(3L, READ_AT.plusMinutes(2)));
+        given(letterRepository.findArchiveCandidates(any(), eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L), any()))
+                .willReturn(first);
+        given(letterRepository.findArchiveCandidates(any(), eq(READ_AT.plusMinutes(1)), eq(2L), any()))
+                .willReturn(second);
+        given(letterArchiveWriter.archive(List.of(1L, 2L))).willReturn(2);
+        given(letterArchiveWriter.archive(List.of(3L))).willReturn(1);
+
+        // when
+        letterArchiver.archive();
+
+        // then
+        Map<String, Object> stats = letterArchiver.stats();
+        assertThat(stats.get("chunks")).isEqualTo(2L);
+        assertThat(stats.get("archived")).isEqualTo(3L);
+        assertThat(stats.get("cursorLetterId")).isEqualTo(3L);
+        assertThat(stats.get("cursorReadAt")).isEqualTo(READ_AT.plusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("보관함/신고로 옮기지 못한 후보는 건너뛴 수로 집계하고 keyset은 그대로 전진한다")
+    void archive_countsSkippedCandidates() {
+        // given - 2L은 보관함에 담긴 편지
+        List<ArchiveCandidate> first = List.of(candidate(1L, READ_AT), candidate(2L, READ_AT));
+        given(letterRepository.findArchiveCandidates(any(), eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L), any()))
+                .willReturn(first);
+        given(letterRepository.findArchiveCandidates(any(), eq(READ_AT), eq(2L), any()))
+                .willReturn(List.of());
+        given(letterArchiveWriter.archive(List.of(1L, 2L))).willReturn(1);
+
+        // when
+        letterArchiver.archive();
+
+        // then
+        Map<String, Object> stats = letterArchiver.stats();
+        assertThat(stats.get("archived")).isEqualTo(1L);
+        assertThat(stats.get("skipped")).isEqualTo(1L);
+        assertThat(stats.get("cursorLetterId")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("청크가 실패해도 다음 청크로 진행한다")
+    void archive_continuesAfterChunkFailure() {
+        // given
+        List<ArchiveCandidate> first = List.of(candidate(1L, READ_AT), candidate(2L, READ_AT));
+        given(letterRepository.findArchiveCandidates(any(), eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L), any()))
+                .willReturn(first);
+        given(letterRepository.findArchiveCandidates(any(), eq(READ_AT), eq(2L), any()))
+                .willReturn(List.of(candidate(3L, READ_AT)));
+        given(letterArchiveWriter.archive(List.of(1L, 2L))).willThrow(new IllegalStateException("lock wait timeout"));
+        given(letterArchiveWriter.archive(List.of(3L))).willReturn(1);
+
+        // when
+        letterArchiver.archive();
+
+        // then
+        Map<String, Object> stats = letterArchiver.stats();
+        assertThat(stats.get("archived")).isEqualTo(1L);
+        assertThat(stats.get("skipped")).isEqualTo(2L);
+        assertThat(stats.get("lastError")).isEqualTo("lock wait timeout");
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 후보를 조회하지 않는다")
+    void archive_disabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        letterArchiver.archive();
+
+        // then
+        verify(letterRepository, never()).findArchiveCandidates(any(), any(), anyLong(), any());
+        verifyNoInteractions(letterArchiveWriter);
+    }
+
+    @Test
+    @DisplayName("실행은 전용 실행기에 넘기고, 진행 중이면 다음 실행을 건너뛴다")
+    void archive_runsOnDedicatedExecutor() {
+        // given - 제출만 하고 아직 실행하지 않는 실행기
+        List<Runnable> submitted = new ArrayList<>();
+        letterArchiver = new LetterArchiver(letterRepository, letterArchiveWriter, properties,
+                new SimpleMeterRegistry(), submitted::add);
+
+        // when
+        letterArchiver.archive();
+        letterArchiver.archive();
+
+        // then
+        assertThat(submitted).hasSize(1);
+        assertThat(letterArchiver.stats().get("running")).isEqualTo(true);
+        verifyNoInteractions(letterRepository);
+
+        given(letterRepository.findArchiveCandidates(any(), any(), anyLong(), any())).willReturn(List.of());
+        submitted.get(0).run();
+        assertThat(letterArchiver.stats().get("running")).isEqualTo(false);
+    }
+
+    private static ArchiveCandidate candidate(Long letterId, LocalDateTime readAt) {
+        return new ArchiveCandidate() {
+            @Override
+            public Long getLetterId() {
+                return letterId;
+            }
+
+            @Override
+            public LocalDateTime getReadAt() {
+                return readAt;
+            }
+        };
+    }
+}
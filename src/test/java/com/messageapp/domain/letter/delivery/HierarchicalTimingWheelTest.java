@@ -0,0 +1,74 @@
+package com.messageapp.domain.letter.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    @DisplayName("만기 시각 이전에는 꺼내지 않는다")
+    void advance_doesNotFireBeforeDue() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1_000, START);
+        wheel.add(1L, START + 10_500);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(START + 10_000, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(START + 11_000, fired::add);
+        assertThat(fired).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 단에 있던 엔트리도 만기 시각에 꺼낸다")
+    void advance_cascadesFromUpperLevels() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1_000, START);
+        Map<Long, Long> dues = new HashMap<>();
+        Random random = new Random(42);
+        for (long id = 1; id <= 10_000; id++) {
+            long due = START + (long) (random.nextDouble() * 80 * HOUR);
+            dues.put(id, due);
+            wheel.add(id, due);
+        }
+
+        List<Long> late = new ArrayList<>();
+        int fired = 0;
+        for (long now = START; now <= START + 81 * HOUR; now += 60_000) {
+            long current = now;
+            fired += wheel.advance(now, id -> {
+                long due = dues.get(id);
+                if (due > current || current - due > 61_000) {
+                    late.add(id);
+                }
+            });
+        }
+
+        assertThat(fired).isEqualTo(10_000);
+        assertThat(late).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 만기는 다음 tick에 바로 꺼낸다")
+    void add_pastDueFiresOnNextTick() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1_000, START);
+        wheel.add(7L, START - HOUR);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(START + 1_000, fired::add);
+
+        assertThat(fired).containsExactly(7L);
+    }
+}
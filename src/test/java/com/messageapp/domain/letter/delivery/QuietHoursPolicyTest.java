@@ -0,0 +1,73 @@
+package com.messageapp.domain.letter.delivery;
+
+import com.messageapp.global.config.MatchingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuietHoursPolicyTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private MatchingProperties properties;
+    private QuietHoursPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MatchingProperties();
+        MatchingProperties.QuietHoursProperties quietHours = properties.getQuietHours();
+        quietHours.setEnabled(true);
+        quietHours.setStart(LocalTime.of(23, 0));
+        quietHours.setEnd(LocalTime.of(8, 0));
+        quietHours.setSpread(Duration.ZERO);
+        policy = new QuietHoursPolicy(properties);
+    }
+
+    @Test
+    @DisplayName("설정 시간대 기준 방해 금지 시간이면 종료 시각으로 미룬다")
+    void deferUntil_duringQuietHours() {
+        LocalDateTime now = serverTime(ZonedDateTime.of(2026, 1, 1, 23, 30, 0, 0, SEOUL));
+
+        assertThat(policy.deferUntil(now))
+                .isEqualTo(serverTime(ZonedDateTime.of(2026, 1, 2, 8, 0, 0, 0, SEOUL)));
+    }
+
+    @Test
+    @DisplayName("설정 시간대 기준 낮 시간이면 바로 배달한다")
+    void deferUntil_outsideQuietHours() {
+        LocalDateTime now = serverTime(ZonedDateTime.of(2026, 1, 1, 12, 0, 0, 0, SEOUL));
+
+        assertThat(policy.deferUntil(now)).isNull();
+    }
+
+    @Test
+    @DisplayName("서버 시간대와 무관하게 설정한 시간대로 판단한다")
+    void deferUntil_usesConfiguredZone() {
+        properties.getQuietHours().setZone(ZoneId.of("UTC"));
+        LocalDateTime seoulNight = serverTime(ZonedDateTime.of(2026, 1, 1, 23, 30, 0, 0, SEOUL));
+
+        // 서울 23:30은 UTC 14:30이므로 방해 금지 시간이 아니다
+        assertThat(policy.deferUntil(seoulNight)).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화되면 미루지 않는다")
+    void deferUntil_disabled() {
+        properties.getQuietHours().setEnabled(false);
+        LocalDateTime now = serverTime(ZonedDateTime.of(2026, 1, 1, 23, 30, 0, 0, SEOUL));
+
+        assertThat(policy.deferUntil(now)).isNull();
+    }
+
+    private static LocalDateTime serverTime(ZonedDateTime time) {
+        return time.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
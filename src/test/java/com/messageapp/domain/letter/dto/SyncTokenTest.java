@@ -0,0 +1,76 @@
+package com.messageapp.domain.letter.dto;
+
+import com.messageapp.global.exception.validation.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncTokenTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("인코딩한 토큰을 해석하면 같은 위치가 나온다")
+    void encodeDecode_roundTrip() {
+        // given
+        SyncToken token = SyncToken.of(AT, 42L);
+
+        // when
+        SyncToken decoded = SyncToken.decode(token.encode());
+
+        // then
+        assertThat(decoded.getLastModifiedAt()).isEqualTo(AT);
+        assertThat(decoded.getLetterId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("토큰 문자열은 패딩 없는 URL-safe Base64다")
+    void encode_isUrlSafeWithoutPadding() {
+        String encoded = SyncToken.of(AT, 42L).encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("시작 토큰은 처음부터 동기화하는 토큰이다")
+    void beginning() {
+        assertThat(SyncToken.beginning().isBeginning()).isTrue();
+        assertThat(SyncToken.decode(SyncToken.beginning().encode()).isBeginning()).isTrue();
+        assertThat(SyncToken.of(AT, 0L).isBeginning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Base64가 아니거나 구분자, 시각, 편지 ID가 잘못된 토큰은 예외가 발생한다")
+    void decode_invalid() {
+        assertThatThrownBy(() -> SyncToken.decode("not a token!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> SyncToken.decode(encode("2026-03-01T09:30")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> SyncToken.decode(encode("yesterday,1")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> SyncToken.decode(encode("2026-03-01T09:30,abc")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("모든 변경을 받은 토큰은 지정한 시각의 처음(편지 ID 0)을 가리킨다")
+    void caughtUpTo_pointsAtHorizon() {
+        // when
+        SyncToken token = SyncToken.caughtUpTo(AT);
+
+        // then
+        assertThat(token.getLastModifiedAt()).isEqualTo(AT);
+        assertThat(token.getLetterId()).isZero();
+        assertThat(token.isBeginning()).isFalse();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.messageapp.domain.letter.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    @DisplayName("임계값보다 짧은 내용은 원문 형식(0x00)으로 저장한다")
+    void shortText_storedRaw() {
+        String text = "a".repeat(CompressedTextConverter.COMPRESSION_THRESHOLD - 1);
+
+        byte[] data = converter.convertToDatabaseColumn(text);
+
+        assertThat(data[0]).isEqualTo(CompressedTextConverter.VERSION_RAW);
+        assertThat(data).hasSize(CompressedTextConverter.COMPRESSION_THRESHOLD);
+        assertThat(converter.convertToEntityAttribute(data)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("임계값 이상이고 압축 이득이 있으면 Deflate 형식(0x01)으로 저장한다")
+    void longText_storedCompressed() {
+        String text = "안녕하세요, 반갑습니다. ".repeat(20);
+        assertThat(text.getBytes(StandardCharsets.UTF_8).length)
+                .isGreaterThanOrEqualTo(CompressedTextConverter.COMPRESSION_THRESHOLD);
+
+        byte[] data = converter.convertToDatabaseColumn(text);
+
+        assertThat(data[0]).isEqualTo(CompressedTextConverter.VERSION_DEFLATE);
+        assertThat(data.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(converter.convertToEntityAttribute(data)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("정확히 임계값 크기인 내용부터 압축을 시도한다")
+    void thresholdText_compressed() {
+        String text = "a".repeat(CompressedTextConverter.COMPRESSION_THRESHOLD);
+
+        byte[] data = converter.convertToDatabaseColumn(text);
+
+        assertThat(data[0]).isEqualTo(CompressedTextConverter.VERSION_DEFLATE);
+        assertThat(converter.convertToEntityAttribute(data)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("null과 빈 값을 그대로 변환한다")
+    void nullAndEmpty() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(new byte[0])).isEmpty();
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(""))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식 버전이나 손상된 압축 데이터는 예외가 발생한다")
+    void invalidData_throws() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[]{0x7F, 1, 2}))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(
+                new byte[]{CompressedTextConverter.VERSION_DEFLATE, 1, 2, 3}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.member.entity.MemberStatus;
+import com.messageapp.domain.member.event.MemberStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveMemberIndexTest {
+
+    private ActiveMemberIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ActiveMemberIndex();
+        index.rebuild(new long[]{1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L}, 10);
+    }
+
+    @Nested
+    @DisplayName("sample 메서드")
+    class SampleTest {
+
+        @Test
+        @DisplayName("발신자를 제외한 서로 다른 회원을 선택한다")
+        void sample_excludesSenderAndDuplicates() {
+            for (int i = 0; i < 1_000; i++) {
+                long[] picked = index.sample(3L, 5);
+
+                assertThat(picked).hasSize(5);
+                assertThat(picked).doesNotContain(3L);
+                assertThat(Arrays.stream(picked).distinct().count()).isEqualTo(5);
+            }
+        }
+
+        @Test
+        @DisplayName("후보가 요청 수보다 적으면 발신자를 제외한 전체를 반환한다")
+        void sample_returnsAllWhenNotEnoughCandidates() {
+            ActiveMemberIndex small = new ActiveMemberIndex();
+            small.rebuild(new long[]{1L, 2L, 3L}, 3);
+
+            long[] picked = small.sample(2L, 5);
+
+            assertThat(picked).containsExactlyInAnyOrder(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("발신자 외에 회원이 없으면 빈 배열을 반환한다")
+        void sample_returnsEmptyWhenOnlySender() {
+            ActiveMemberIndex single = new ActiveMemberIndex();
+            single.rebuild(new long[]{1L}, 1);
+
+            assertThat(single.sample(1L, 3)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("회원 상태 변경 반영")
+    class MemberStatusChangedTest {
+
+        @Test
+        @DisplayName("신규 가입 회원을 추가한다")
+        void activeEvent_addsMember() {
+            index.onMemberStatusChanged(new MemberStatusChangedEvent(11L, MemberStatus.ACTIVE));
+
+            assertThat(index.contains(11L)).isTrue();
+            assertThat(index.size()).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("탈퇴/차단 회원을 제거한다")
+        void inactiveEvent_removesMember() {
+            index.onMemberStatusChanged(new MemberStatusChangedEvent(4L, MemberStatus.INACTIVE));
+            index.onMemberStatusChanged(new MemberStatusChangedEvent(7L, MemberStatus.BANNED));
+
+            assertThat(index.contains(4L)).isFalse();
+            assertThat(index.contains(7L)).isFalse();
+            assertThat(index.size()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("이미 존재하는 회원은 중복 추가하지 않는다")
+        void duplicateActiveEvent_isIgnored() {
+            index.onMemberStatusChanged(new MemberStatusChangedEvent(5L, MemberStatus.ACTIVE));
+
+            assertThat(index.size()).isEqualTo(10);
+        }
+    }
+}
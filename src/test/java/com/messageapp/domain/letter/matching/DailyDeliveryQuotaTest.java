@@ -0,0 +1,64 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.global.config.MatchingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyDeliveryQuotaTest {
+
+    private final AtomicLong epochDay = new AtomicLong(20_000L);
+    private MatchingProperties properties;
+    private DailyDeliveryQuota quota;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MatchingProperties();
+        properties.getDailyQuota().setMaxLettersPerReceiver(2);
+        quota = new DailyDeliveryQuota(properties, new SimpleMeterRegistry(), epochDay::get);
+    }
+
+    @Test
+    @DisplayName("오늘 받은 편지 수가 한도에 도달하면 후보에서 제외한다")
+    void accept_rejectsAtLimit() {
+        quota.onMatched(1L, 2L);
+        assertThat(quota.accept(1L, 2L)).isTrue();
+
+        quota.onMatched(3L, 2L);
+
+        assertThat(quota.getTodayCount(2L)).isEqualTo(2);
+        assertThat(quota.accept(1L, 2L)).isFalse();
+        assertThat(quota.accept(1L, 4L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 카운트가 초기화된다")
+    void dayRollover_resetsCounts() {
+        quota.onMatched(1L, 2L);
+        quota.onMatched(3L, 2L);
+        assertThat(quota.accept(1L, 2L)).isFalse();
+
+        epochDay.incrementAndGet();
+
+        assertThat(quota.getTodayCount(2L)).isZero();
+        assertThat(quota.accept(1L, 2L)).isTrue();
+        assertThat(quota.stats()).containsEntry("receivers", 0);
+    }
+
+    @Test
+    @DisplayName("비활성화되면 한도를 검사하지 않고 기록하지도 않는다")
+    void disabled_acceptsEverything() {
+        properties.getDailyQuota().setEnabled(false);
+
+        quota.onMatched(1L, 2L);
+        quota.onMatched(3L, 2L);
+
+        assertThat(quota.getTodayCount(2L)).isZero();
+        assertThat(quota.accept(1L, 2L)).isTrue();
+    }
+}
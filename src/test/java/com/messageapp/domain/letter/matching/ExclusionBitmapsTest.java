@@ -0,0 +1,106 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.report.event.LetterReportedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExclusionBitmapsTest {
+
+    private ExclusionBitmaps bitmaps;
+
+    @BeforeEach
+    void setUp() {
+        bitmaps = new ExclusionBitmaps();
+    }
+
+    @Nested
+    @DisplayName("전역 제외 사유")
+    class ReasonTest {
+
+        @Test
+        @DisplayName("제외한 회원은 모든 발신자에게서 걸러진다")
+        void exclude_filtersForAllSenders() {
+            bitmaps.exclude(ExclusionReason.BLOCKED, 3L);
+
+            assertThat(bitmaps.accept(1L, 3L)).isFalse();
+            assertThat(bitmaps.accept(2L, 3L)).isFalse();
+            assertThat(bitmaps.filter(1L, new long[]{2L, 3L, 4L})).containsExactly(2L, 4L);
+        }
+
+        @Test
+        @DisplayName("제외를 해제하면 합집합에서도 제거된다")
+        void include_removesFromUnion() {
+            bitmaps.exclude(ExclusionReason.BLOCKED, 3L);
+            bitmaps.include(ExclusionReason.BLOCKED, 3L);
+
+            assertThat(bitmaps.accept(1L, 3L)).isTrue();
+            assertThat(bitmaps.filter(1L, new long[]{3L})).containsExactly(3L);
+            assertThat(bitmaps.stats()).containsEntry("excludedTotal", 0L);
+        }
+
+        @Test
+        @DisplayName("제외되지 않은 회원의 해제는 무시한다")
+        void include_ignoresUnknownMember() {
+            bitmaps.exclude(ExclusionReason.BLOCKED, 3L);
+            bitmaps.include(ExclusionReason.BLOCKED, 4L);
+
+            assertThat(bitmaps.accept(1L, 3L)).isFalse();
+            assertThat(bitmaps.stats()).containsEntry("excludedTotal", 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("발신자별 신고자")
+    class ReporterTest {
+
+        @Test
+        @DisplayName("신고자는 신고한 발신자에게서만 걸러진다")
+        void addReporter_filtersOnlyForReportedSender() {
+            bitmaps.onLetterReported(new LetterReportedEvent(1L, 5L));
+
+            assertThat(bitmaps.accept(1L, 5L)).isFalse();
+            assertThat(bitmaps.accept(2L, 5L)).isTrue();
+            assertThat(bitmaps.filter(1L, new long[]{4L, 5L, 6L})).containsExactly(4L, 6L);
+            assertThat(bitmaps.filter(2L, new long[]{4L, 5L, 6L})).containsExactly(4L, 5L, 6L);
+        }
+
+        @Test
+        @DisplayName("전역 제외와 신고자 제외를 함께 적용한다")
+        void filter_appliesBothBitmaps() {
+            bitmaps.exclude(ExclusionReason.BLOCKED, 4L);
+            bitmaps.addReporter(1L, 6L);
+
+            assertThat(bitmaps.filter(1L, new long[]{6L, 5L, 4L})).containsExactly(5L);
+        }
+    }
+
+    @Test
+    @DisplayName("후보가 없으면 그대로 반환한다")
+    void filter_emptyCandidates() {
+        long[] empty = new long[0];
+
+        assertThat(bitmaps.filter(1L, empty)).isSameAs(empty);
+    }
+
+    @Test
+    @DisplayName("통계에 사유별 인원과 신고 발신자 수를 포함한다")
+    void stats_reportsCardinalities() {
+        bitmaps.exclude(ExclusionReason.BLOCKED, 3L);
+        bitmaps.exclude(ExclusionReason.BLOCKED, 4L);
+        bitmaps.addReporter(1L, 5L);
+        bitmaps.addReporter(1L, 6L);
+
+        Map<String, Object> stats = bitmaps.stats();
+
+        assertThat(stats).containsEntry("excludedTotal", 2L);
+        assertThat(stats).containsEntry("excludedByReason", Map.of("BLOCKED", 2L));
+        assertThat(stats).containsEntry("reportedSenders", 1);
+        assertThat(stats).containsEntry("reporterEntries", 2L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.domain.letter.strategy.MatchingStrategyType;
+import com.messageapp.domain.member.entity.MemberStatus;
+import com.messageapp.domain.member.repository.MemberRepository;
+import com.messageapp.global.config.MatchingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiverTicketPoolRefillerTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MatchingProperties properties;
+    private ReceiverTicketPool pool;
+    private ReceiverTicketPoolRefiller refiller;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MatchingProperties();
+        properties.setStrategy(MatchingStrategyType.TICKET_POOL);
+        properties.getTicketPool().setCapacity(8);
+        properties.getTicketPool().setRefillBatchSize(3);
+        pool = new ReceiverTicketPool(properties);
+        refiller = new ReceiverTicketPoolRefiller(pool, memberRepository, properties);
+    }
+
+    @Test
+    @DisplayName("풀이 절반 이상 찰 때까지 청크를 이어서 읽어 섞은 티켓을 채운다")
+    void refill_fillsUntilHalfCapacity() {
+        // given
+        given(memberRepository.findIdsByStatusAfter(MemberStatus.ACTIVE, 0L, PageRequest.of(0, 3)))
+                .willReturn(List.of(1L, 2L, 3L));
+        given(memberRepository.findIdsByStatusAfter(MemberStatus.ACTIVE, 3L, PageRequest.of(0, 3)))
+                .willReturn(List.of(4L, 5L, 6L));
+
+        // when
+        refiller.refill();
+
+        // then
+        assertThat(pool.size()).isEqualTo(6);
+        Set<Long> tickets = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            tickets.add(pool.poll());
+        }
+        assertThat(tickets).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("테이블 끝에 도달하면 커서를 처음으로 되돌린다")
+    void refill_wrapsCursorAtEnd() {
+        // given
+        given(memberRepository.findIdsByStatusAfter(MemberStatus.ACTIVE, 0L, PageRequest.of(0, 3)))
+                .willReturn(List.of(1L, 2L));
+
+        // when
+        refiller.refill();
+        pool.poll();
+        pool.poll();
+        refiller.refill();
+
+        // then
+        verify(memberRepository, never()).findIdsByStatusAfter(eq(MemberStatus.ACTIVE), eq(2L), any());
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("티켓 풀 전략이 아니면 보충하지 않는다")
+    void refill_skipsWhenStrategyDisabled() {
+        // given
+        properties.setStrategy(MatchingStrategyType.INDEX);
+
+        // when
+        refiller.refill();
+
+        // then
+        verify(memberRepository, never()).findIdsByStatusAfter(any(), anyLong(), any());
+        assertThat(pool.size()).isZero();
+    }
+}
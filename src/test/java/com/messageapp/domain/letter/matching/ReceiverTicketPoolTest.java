@@ -0,0 +1,113 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.global.config.MatchingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiverTicketPoolTest {
+
+    private ReceiverTicketPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = poolOf(8);
+    }
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림된다")
+    void capacity_roundsUpToPowerOfTwo() {
+        assertThat(poolOf(8).capacity()).isEqualTo(8);
+        assertThat(poolOf(9).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고 비면 EMPTY를 반환한다")
+    void poll_fifoThenEmpty() {
+        pool.offer(1L);
+        pool.offer(2L);
+        pool.offer(3L);
+
+        assertThat(pool.poll()).isEqualTo(1L);
+        assertThat(pool.poll()).isEqualTo(2L);
+        assertThat(pool.poll()).isEqualTo(3L);
+        assertThat(pool.poll()).isEqualTo(ReceiverTicketPool.EMPTY);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 차면 offer가 false를 반환하고 꺼낸 만큼 다시 채울 수 있다")
+    void offer_rejectsWhenFull() {
+        for (long i = 1; i <= 8; i++) {
+            assertThat(pool.offer(i)).isTrue();
+        }
+
+        assertThat(pool.offer(9L)).isFalse();
+        assertThat(pool.size()).isEqualTo(8);
+
+        assertThat(pool.poll()).isEqualTo(1L);
+        assertThat(pool.offer(9L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 생산자/소비자가 동시에 사용해도 티켓이 유실되거나 중복되지 않는다")
+    void concurrentOfferAndPoll_noLossOrDuplication() throws InterruptedException {
+        ReceiverTicketPool concurrentPool = poolOf(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        int total = producers * perProducer;
+        ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+        ConcurrentLinkedQueue<Long> polled = new ConcurrentLinkedQueue<>();
+        AtomicInteger remaining = new AtomicInteger(total);
+        CountDownLatch done = new CountDownLatch(producers * 2);
+
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer + 1;
+            executor.execute(() -> {
+                for (long id = base; id < base + perProducer; id++) {
+                    while (!concurrentPool.offer(id)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+            executor.execute(() -> {
+                while (remaining.get() > 0) {
+                    long ticket = concurrentPool.poll();
+                    if (ticket != ReceiverTicketPool.EMPTY) {
+                        polled.add(ticket);
+                        remaining.decrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+
+        List<Long> tickets = new ArrayList<>(polled);
+        Set<Long> distinct = new HashSet<>(tickets);
+        assertThat(tickets).hasSize(total);
+        assertThat(distinct).hasSize(total);
+    }
+
+    private static ReceiverTicketPool poolOf(int capacity) {
+        MatchingProperties properties = new MatchingProperties();
+        properties.getTicketPool().setCapacity(capacity);
+        return new ReceiverTicketPool(properties);
+    }
+}
@@ -0,0 +1,60 @@
+package com.messageapp.domain.letter.matching;
+
+import com.messageapp.global.config.MatchingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentPairFilterTest {
+
+    private RecentPairFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MatchingProperties properties = new MatchingProperties();
+        properties.getPairSuppression().setGenerations(3);
+        properties.getPairSuppression().setExpectedInsertionsPerGeneration(10_000);
+        filter = new RecentPairFilter(properties);
+    }
+
+    @Test
+    @DisplayName("매칭된 쌍은 거절하고 방향이 다른 쌍은 허용한다")
+    void accept_rejectsMatchedPair() {
+        filter.onMatched(1L, 2L);
+
+        assertThat(filter.accept(1L, 2L)).isFalse();
+        assertThat(filter.accept(2L, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 세대가 회전하면 기록이 만료된다")
+    void rotate_expiresAfterAllGenerations() {
+        filter.onMatched(1L, 2L);
+
+        filter.rotate();
+        filter.rotate();
+        assertThat(filter.accept(1L, 2L)).isFalse();
+
+        filter.rotate();
+        assertThat(filter.accept(1L, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("오탐률이 설정값 근처로 유지된다")
+    void accept_falsePositiveRateWithinBound() {
+        for (long i = 1; i <= 10_000; i++) {
+            filter.onMatched(i, i + 1);
+        }
+
+        int falsePositives = 0;
+        for (long i = 1; i <= 10_000; i++) {
+            if (!filter.accept(i + 1_000_000L, i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(200);
+    }
+}
@@ -0,0 +1,100 @@
+package com.messageapp.domain.letter.queue;
+
+import com.messageapp.domain.letter.dto.QueuedLetter;
+import com.messageapp.global.config.LetterSendQueueProperties;
+import com.messageapp.global.exception.business.letter.NoAvailableReceiverException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LetterSendWorkerTest {
+
+    @Mock
+    private LetterSendQueue letterSendQueue;
+
+    @Mock
+    private QueuedLetterSender queuedLetterSender;
+
+    private LetterSendWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new LetterSendWorker(letterSendQueue, queuedLetterSender,
+                new LetterSendQueueProperties(), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("배치의 요청은 한 건씩 발송하며 한 요청의 실패가 다른 요청을 다시 발송하게 만들지 않는다")
+    void process_sendsEachRequestOnce() {
+        // given
+        QueuedLetter ok = letter(1L, "ok");
+        QueuedLetter rejected = letter(2L, "rejected");
+        QueuedLetter other = letter(3L, "other");
+        willThrow(new NoAvailableReceiverException()).given(queuedLetterSender).send(rejected);
+
+        // when
+        worker.process(List.of(ok, rejected, other));
+
+        // then
+        verify(queuedLetterSender, times(1)).send(ok);
+        verify(queuedLetterSender, times(1)).send(rejected);
+        verify(queuedLetterSender, times(1)).send(other);
+    }
+
+    @Test
+    @DisplayName("업무 예외로 실패한 요청은 재시도하지 않고 FAILED로 표시한다")
+    void process_failsBusinessErrors() {
+        // given
+        QueuedLetter rejected = letter(2L, "rejected");
+        willThrow(new NoAvailableReceiverException()).given(queuedLetterSender).send(rejected);
+
+        // when
+        worker.process(List.of(rejected));
+
+        // then
+        verify(queuedLetterSender).fail(2L);
+        verify(queuedLetterSender, never()).reschedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("일시적으로 실패한 요청은 retry-backoff 이후로 재시도를 예약한다")
+    void process_reschedulesTransientFailures() {
+        // given
+        QueuedLetter letter = letter(5L, "timeout");
+        willThrow(new QueryTimeoutException("timeout")).given(queuedLetterSender).send(letter);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        worker.process(List.of(letter));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<LocalDateTime> availableAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(queuedLetterSender).reschedule(ids.capture(), availableAt.capture());
+        assertThat(ids.getValue()).containsExactly(5L);
+        assertThat(availableAt.getValue()).isAfterOrEqualTo(before.plusSeconds(5));
+        verify(queuedLetterSender, never()).fail(any());
+    }
+
+    private static QueuedLetter letter(Long queueId, String trackingId) {
+        return new QueuedLetter(queueId, trackingId, 1L, null, "안녕하세요");
+    }
+}
@@ -0,0 +1,102 @@
+package com.messageapp.domain.letter.queue;
+
+import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.dto.QueuedLetter;
+import com.messageapp.domain.letter.entity.QueuedLetterSend;
+import com.messageapp.domain.letter.entity.QueuedLetterSendStatus;
+import com.messageapp.domain.letter.repository.QueuedLetterSendRepository;
+import com.messageapp.domain.letter.service.IdempotentLetterSendService;
+import com.messageapp.domain.letter.service.LetterService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueuedLetterSenderTest {
+
+    @Mock
+    private LetterService letterService;
+
+    @Mock
+    private IdempotentLetterSendService idempotentLetterSendService;
+
+    @Mock
+    private QueuedLetterSendRepository queuedLetterSendRepository;
+
+    @InjectMocks
+    private QueuedLetterSender queuedLetterSender;
+
+    @Test
+    @DisplayName("대기 중인 요청을 발송하고 발송된 편지 ID와 함께 SENT로 표시한다")
+    void send_marksSent() {
+        // given
+        QueuedLetterSend row = pendingRow(null);
+        given(queuedLetterSendRepository.findByIdAndStatusForUpdate(1L, QueuedLetterSendStatus.PENDING))
+                .willReturn(Optional.of(row));
+        given(letterService.sendLetter(10L, "안녕하세요"))
+                .willReturn(LetterResponse.builder().letterId(100L).build());
+
+        // when
+        boolean sent = queuedLetterSender.send(new QueuedLetter(1L, "t-1", 10L, null, "안녕하세요"));
+
+        // then
+        assertThat(sent).isTrue();
+        assertThat(row.getStatus()).isEqualTo(QueuedLetterSendStatus.SENT);
+        assertThat(row.getLetterId()).isEqualTo(100L);
+        assertThat(row.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key가 있는 요청은 멱등 발송 서비스로 발송한다")
+    void send_withIdempotencyKey() {
+        // given
+        QueuedLetterSend row = pendingRow("key-1");
+        given(queuedLetterSendRepository.findByIdAndStatusForUpdate(1L, QueuedLetterSendStatus.PENDING))
+                .willReturn(Optional.of(row));
+        given(idempotentLetterSendService.sendLetter(10L, "key-1", "안녕하세요"))
+                .willReturn(LetterResponse.builder().letterId(100L).build());
+
+        // when
+        queuedLetterSender.send(new QueuedLetter(1L, "t-1", 10L, "key-1", "안녕하세요"));
+
+        // then
+        verify(letterService, never()).sendLetter(anyLong(), any());
+        assertThat(row.getStatus()).isEqualTo(QueuedLetterSendStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("다른 워커가 이미 처리한 요청은 다시 발송하지 않는다")
+    void send_skipsCompletedRequest() {
+        // given
+        given(queuedLetterSendRepository.findByIdAndStatusForUpdate(1L, QueuedLetterSendStatus.PENDING))
+                .willReturn(Optional.empty());
+
+        // when
+        boolean sent = queuedLetterSender.send(new QueuedLetter(1L, "t-1", 10L, null, "안녕하세요"));
+
+        // then
+        assertThat(sent).isFalse();
+        verify(letterService, never()).sendLetter(anyLong(), any());
+    }
+
+    private static QueuedLetterSend pendingRow(String idempotencyKey) {
+        return QueuedLetterSend.builder()
+                .trackingId("t-1")
+                .senderId(10L)
+                .idempotencyKey(idempotencyKey)
+                .content("안녕하세요")
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.messageapp.domain.letter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.entity.LetterStatus;
+import com.messageapp.global.config.IdempotencyProperties;
+import com.messageapp.global.exception.business.letter.IdempotencyKeyReusedException;
+import com.messageapp.global.exception.business.letter.NoAvailableReceiverException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentLetterSendServiceTest {
+
+    @Mock
+    private LetterService letterService;
+
+    @Mock
+    private IdempotencyRecordWriter idempotencyRecordWriter;
+
+    private IdempotentLetterSendService idempotentLetterSendService;
+
+    @BeforeEach
+    void setUp() {
+        idempotentLetterSendService = new IdempotentLetterSendService(
+                letterService, idempotencyRecordWriter, new IdempotencyProperties(), new ObjectMapper());
+        lenient().when(idempotencyRecordWriter.find(anyString())).thenReturn(Optional.empty());
+        lenient().when(idempotencyRecordWriter.executeAndRecord(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<LetterResponse>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보내면 발송하지 않고 최초 응답을 반환한다")
+    void repeatedKey_returnsOriginalResponse() {
+        // given
+        LetterResponse original = LetterResponse.builder().letterId(1L).status(LetterStatus.DELIVERED).build();
+        given(letterService.sendLetter(1L, "안녕하세요")).willReturn(original);
+
+        // when
+        LetterResponse first = idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요");
+        LetterResponse retry = idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요");
+
+        // then
+        assertThat(retry).isSameAs(first);
+        verify(letterService, times(1)).sendLetter(1L, "안녕하세요");
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 요청은 한 번만 발송한다")
+    void concurrentDuplicates_collapsed() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LetterResponse original = LetterResponse.builder().letterId(1L).build();
+        given(letterService.sendLetter(1L, "안녕하세요")).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return original;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<LetterResponse> first = executor.submit(
+                    () -> idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요"));
+            started.await();
+            Future<LetterResponse> duplicate = executor.submit(
+                    () -> idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요"));
+            release.countDown();
+
+            // then
+            assertThat(first.get()).isSameAs(original);
+            assertThat(duplicate.get()).isSameAs(original);
+            verify(letterService, times(1)).sendLetter(1L, "안녕하세요");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용을 보내면 예외가 발생한다")
+    void reusedKeyWithDifferentContent_throwsException() {
+        // given
+        given(letterService.sendLetter(1L, "안녕하세요")).willReturn(LetterResponse.builder().letterId(1L).build());
+        idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요");
+
+        // when & then
+        assertThatThrownBy(() -> idempotentLetterSendService.sendLetter(1L, "key-1", "다른 내용"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("발송이 실패하면 키를 해제하여 다시 시도할 수 있다")
+    void failedSend_releasesKey() {
+        // given
+        given(letterService.sendLetter(1L, "안녕하세요"))
+                .willThrow(new NoAvailableReceiverException())
+                .willReturn(LetterResponse.builder().letterId(1L).build());
+
+        // when
+        assertThatThrownBy(() -> idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요"))
+                .isInstanceOf(NoAvailableReceiverException.class);
+        LetterResponse retry = idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요");
+
+        // then
+        assertThat(retry.getLetterId()).isEqualTo(1L);
+        verify(idempotencyRecordWriter).release("1:key-1");
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 키만 완료된 재시도로 판단한다")
+    void isCompletedReplay_onlyAfterSuccess() {
+        // given
+        given(letterService.sendLetter(1L, "안녕하세요"))
+                .willThrow(new NoAvailableReceiverException())
+                .willReturn(LetterResponse.builder().letterId(1L).build());
+
+        // when & then
+        assertThat(idempotentLetterSendService.isCompletedReplay(1L, "key-1")).isFalse();
+
+        assertThatThrownBy(() -> idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요"))
+                .isInstanceOf(NoAvailableReceiverException.class);
+        assertThat(idempotentLetterSendService.isCompletedReplay(1L, "key-1")).isFalse();
+
+        idempotentLetterSendService.sendLetter(1L, "key-1", "안녕하세요");
+        assertThat(idempotentLetterSendService.isCompletedReplay(1L, "key-1")).isTrue();
+        assertThat(idempotentLetterSendService.isCompletedReplay(2L, "key-1")).isFalse();
+    }
+}
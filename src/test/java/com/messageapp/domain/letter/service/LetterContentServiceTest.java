@@ -0,0 +1,85 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.letter.entity.LetterContent;
+import com.messageapp.domain.letter.repository.LetterContentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LetterContentServiceTest {
+
+    @Mock
+    private LetterContentRepository letterContentRepository;
+
+    @Mock
+    private LetterContentWriter letterContentWriter;
+
+    @InjectMocks
+    private LetterContentService letterContentService;
+
+    @Test
+    @DisplayName("같은 내용이 이미 있으면 저장하지 않고 참조를 반환한다")
+    void resolve_existingContent() {
+        // given
+        String hash = LetterContent.hashOf("안녕하세요");
+        LetterContent reference = mock(LetterContent.class);
+        given(letterContentRepository.findIdByContentHash(hash)).willReturn(Optional.of(7L));
+        given(letterContentRepository.getReferenceById(7L)).willReturn(reference);
+
+        // when
+        LetterContent result = letterContentService.resolve("안녕하세요");
+
+        // then
+        assertThat(result).isSameAs(reference);
+        verify(letterContentWriter, never()).insert(anyString());
+    }
+
+    @Test
+    @DisplayName("없으면 새로 저장하고 저장된 ID의 참조를 반환한다")
+    void resolve_newContent() {
+        // given
+        String hash = LetterContent.hashOf("안녕하세요");
+        LetterContent reference = mock(LetterContent.class);
+        given(letterContentRepository.findIdByContentHash(hash)).willReturn(Optional.empty());
+        given(letterContentWriter.insert("안녕하세요")).willReturn(8L);
+        given(letterContentRepository.getReferenceById(8L)).willReturn(reference);
+
+        // when
+        LetterContent result = letterContentService.resolve("안녕하세요");
+
+        // then
+        assertThat(result).isSameAs(reference);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 내용이 먼저 저장되면 커밋된 행을 다시 조회한다")
+    void resolve_concurrentInsert() {
+        // given
+        String hash = LetterContent.hashOf("안녕하세요");
+        LetterContent reference = mock(LetterContent.class);
+        given(letterContentRepository.findIdByContentHash(hash)).willReturn(Optional.empty());
+        given(letterContentWriter.insert("안녕하세요")).willThrow(new DataIntegrityViolationException("duplicate"));
+        given(letterContentWriter.findId(hash)).willReturn(Optional.of(9L));
+        given(letterContentRepository.getReferenceById(9L)).willReturn(reference);
+
+        // when
+        LetterContent result = letterContentService.resolve("안녕하세요");
+
+        // then
+        assertThat(result).isSameAs(reference);
+    }
+}
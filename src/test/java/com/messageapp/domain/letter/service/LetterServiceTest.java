@@ -1,32 +1,57 @@
 package com.messageapp.domain.letter.service;
 
-import com.messageapp.domain.fcm.service.FcmService;
+import com.messageapp.domain.fcm.service.NotificationOutboxService;
+import com.messageapp.domain.letter.delivery.QuietHoursPolicy;
+import com.messageapp.domain.letter.dto.InboxCursor;
+import com.messageapp.domain.letter.dto.InboxLetter;
+import com.messageapp.domain.letter.dto.LetterChange;
+import com.messageapp.domain.letter.dto.LetterDetail;
+import com.messageapp.domain.letter.dto.LetterIdResponse;
+import com.messageapp.domain.letter.dto.LetterPageResponse;
 import com.messageapp.domain.letter.dto.LetterResponse;
+import com.messageapp.domain.letter.dto.LetterSyncResponse;
+import com.messageapp.domain.letter.dto.SyncToken;
 import com.messageapp.domain.letter.entity.Letter;
+import com.messageapp.domain.letter.entity.LetterContent;
 import com.messageapp.domain.letter.entity.LetterStatus;
+import com.messageapp.domain.letter.event.LetterReadEvent;
+import com.messageapp.domain.letter.matching.MatchingMode;
+import com.messageapp.domain.letter.repository.LetterRemovalRepository;
 import com.messageapp.domain.letter.repository.LetterRepository;
 import com.messageapp.domain.member.entity.Member;
 import com.messageapp.domain.member.repository.MemberRepository;
 import com.messageapp.fixture.TestFixture;
+import com.messageapp.global.config.LetterInboxProperties;
+import com.messageapp.global.config.MatchingProperties;
 import com.messageapp.global.exception.business.letter.LetterAccessDeniedException;
 import com.messageapp.global.exception.business.letter.LetterNotFoundException;
 import com.messageapp.global.exception.business.letter.NoAvailableReceiverException;
 import com.messageapp.global.exception.business.letter.SenderNotFoundException;
+import com.messageapp.global.exception.validation.InvalidCursorException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +67,226 @@ class LetterServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private FcmService fcmService;
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private ProfanityFilterService profanityFilterService;
+
+    @Mock
+    private MatchingService matchingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MatchingProperties matchingProperties = new MatchingProperties();
+
+    @Mock
+    private QuietHoursPolicy quietHoursPolicy;
+
+    @Mock
+    private LetterContentService letterContentService;
+
+    @Spy
+    private LetterInboxProperties letterInboxProperties = new LetterInboxProperties();
+
+    @Mock
+    private LetterRemovalRepository letterRemovalRepository;
+
+    @Nested
+    @DisplayName("getReceivedLetters 메서드")
+    class GetReceivedLettersTest {
+
+        private final LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+        @Test
+        @DisplayName("페이지 크기보다 한 건 더 조회되면 마지막 편지로 다음 커서를 만든다")
+        void firstPage_hasNext() {
+            // given
+            List<InboxLetter> letters = List.of(letter(5L, base), letter(4L, base), letter(3L, base.minusMinutes(1)));
+            given(letterRepository.findInboxFirstPage(2L, LetterStatus.DELIVERED, PageRequest.of(0, 3)))
+                    .willReturn(letters);
+
+            // when
+            LetterPageResponse response = letterService.getReceivedLetters(2L, null, 2);
+
+            // then
+            assertThat(response.getLetters()).extracting(LetterIdResponse::getLetterId).containsExactly(5L, 4L);
+            assertThat(response.isHasNext()).isTrue();
+            InboxCursor next = InboxCursor.decode(response.getNextCursor());
+            assertThat(next.getCreatedAt()).isEqualTo(base);
+            assertThat(next.getLetterId()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서 이후 편지를 조회하고 마지막 페이지는 커서를 비운다")
+        void withCursor_lastPage() {
+            // given
+            String cursor = InboxCursor.after(letter(4L, base)).encode();
+            given(letterRepository.findInboxPageBefore(2L, LetterStatus.DELIVERED, base, 4L, PageRequest.of(0, 3)))
+                    .willReturn(List.of(letter(3L, base.minusMinutes(1))));
+
+            // when
+            LetterPageResponse response = letterService.getReceivedLetters(2L, cursor, 2);
+
+            // then
+            assertThat(response.getLetters()).extracting(LetterIdResponse::getLetterId).containsExactly(3L);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 커서는 예외가 발생한다")
+        void invalidCursor_throwsException() {
+            assertThatThrownBy(() -> letterService.getReceivedLetters(2L, "not-a-cursor", null))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+
+        private InboxLetter letter(Long id, LocalDateTime createdAt) {
+            return new InboxLetter(id, createdAt, "발신자", "섬", 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("syncLetters 메서드")
+    class SyncLettersTest {
+
+        @Test
+        @DisplayName("변경이 없어도 토큰을 현재 시각 - overlap으로 전진한다")
+        void noChanges_advancesToken() {
+            // given
+            LocalDateTime since = LocalDateTime.now().minusHours(1);
+            String token = SyncToken.after(change(7L, since)).encode();
+            given(letterRepository.findChangesAfter(eq(2L), eq(since), eq(7L), anyCollection(), any()))
+                    .willReturn(List.of());
+            given(letterRemovalRepository.findRemovalsAfter(eq(2L), eq(since), eq(7L), any()))
+                    .willReturn(List.of());
+            LocalDateTime before = LocalDateTime.now();
+
+            // when
+            LetterSyncResponse response = letterService.syncLetters(2L, token);
+
+            // then
+            assertThat(response.getLetters()).isEmpty();
+            assertThat(response.isHasMore()).isFalse();
+            SyncToken next = SyncToken.decode(response.getNextToken());
+            assertThat(next.getLastModifiedAt())
+                    .isAfter(since)
+                    .isAfterOrEqualTo(before.minus(letterInboxProperties.getSync().getOverlap()));
+            assertThat(next.getLetterId()).isZero();
+        }
+
+        @Test
+        @DisplayName("변경이 없는 수신함은 제거 기록 보관 기간이 지나도 다시 초기화되지 않는다")
+        void idleInbox_doesNotResetAgain() {
+            // given - 마지막 변경이 보관 기간(30일)보다 오래된 수신함
+            LocalDateTime lastChange = LocalDateTime.now().minusDays(40);
+            given(letterRepository.findChangesAfter(eq(2L), any(), any(), anyCollection(), any()))
+                    .willReturn(List.of(change(3L, lastChange)), List.of());
+
+            // when
+            LetterSyncResponse first = letterService.syncLetters(2L, null);
+            LetterSyncResponse second = letterService.syncLetters(2L, first.getNextToken());
+
+            // then
+            assertThat(first.getLetters()).extracting(LetterChange::getLetterId).containsExactly(3L);
+            assertThat(SyncToken.decode(first.getNextToken()).getLastModifiedAt()).isAfter(lastChange);
+            assertThat(second.isReset()).isFalse();
+            assertThat(second.getLetters()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("방금 변경된 편지까지 받으면 토큰을 overlap만큼 과거로 제한한다")
+        void caughtUp_tokenHeldBehindOverlap() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            given(letterRepository.findChangesAfter(eq(2L), any(), eq(0L), anyCollection(), any()))
+                    .willReturn(List.of(change(3L, now)));
+
+            // when
+            LetterSyncResponse response = letterService.syncLetters(2L, null);
+
+            // then
+            assertThat(response.getLetters()).extracting(LetterChange::getLetterId).containsExactly(3L);
+            SyncToken next = SyncToken.decode(response.getNextToken());
+            assertThat(next.getLastModifiedAt()).isBefore(now);
+            assertThat(next.getLetterId()).isZero();
+        }
+
+        @Test
+        @DisplayName("제거 기록을 변경과 같은 순서로 합치고 편지마다 마지막 변경만 전달한다")
+        void mergesRemovals() {
+            // given - 3번은 배달 후 재배정으로 제거, 5번은 제거 후 다시 배달, 6번은 제거만
+            LocalDateTime since = LocalDateTime.now().minusHours(1);
+            String token = SyncToken.after(change(1L, since)).encode();
+            given(letterRepository.findChangesAfter(eq(2L), eq(since), eq(1L), anyCollection(), any()))
+                    .willReturn(List.of(change(3L, since.plusMinutes(1)), change(5L, since.plusMinutes(4))));
+            given(letterRemovalRepository.findRemovalsAfter(eq(2L), eq(since), eq(1L), any()))
+                    .willReturn(List.of(
+                            TestFixture.createRemoval(2L, 3L, since.plusMinutes(2)),
+                            TestFixture.createRemoval(2L, 5L, since.plusMinutes(3)),
+                            TestFixture.createRemoval(2L, 6L, since.plusMinutes(5))));
+
+            // when
+            LetterSyncResponse response = letterService.syncLetters(2L, token);
+
+            // then
+            assertThat(response.getLetters()).extracting(LetterChange::getLetterId).containsExactly(5L);
+            assertThat(response.getRemovedLetterIds()).containsExactly(3L, 6L);
+            assertThat(response.isHasMore()).isFalse();
+            assertThat(response.isReset()).isFalse();
+            SyncToken next = SyncToken.decode(response.getNextToken());
+            assertThat(next.getLastModifiedAt()).isAfter(since.plusMinutes(5));
+            assertThat(next.getLetterId()).isZero();
+        }
+
+        @Test
+        @DisplayName("합친 결과가 페이지 크기를 넘으면 페이지 마지막 위치를 토큰으로 돌려준다")
+        void mergedPage_hasMore() {
+            // given
+            letterInboxProperties.getSync().setPageSize(2);
+            LocalDateTime since = LocalDateTime.now().minusHours(1);
+            String token = SyncToken.after(change(1L, since)).encode();
+            given(letterRepository.findChangesAfter(eq(2L), eq(since), eq(1L), anyCollection(), any()))
+                    .willReturn(List.of(change(3L, since.plusMinutes(1)), change(4L, since.plusMinutes(3))));
+            given(letterRemovalRepository.findRemovalsAfter(eq(2L), eq(since), eq(1L), any()))
+                    .willReturn(List.of(TestFixture.createRemoval(2L, 9L, since.plusMinutes(2))));
+
+            // when
+            LetterSyncResponse response = letterService.syncLetters(2L, token);
+
+            // then
+            assertThat(response.getLetters()).extracting(LetterChange::getLetterId).containsExactly(3L);
+            assertThat(response.getRemovedLetterIds()).containsExactly(9L);
+            assertThat(response.isHasMore()).isTrue();
+            SyncToken next = SyncToken.decode(response.getNextToken());
+            assertThat(next.getLastModifiedAt()).isEqualTo(since.plusMinutes(2));
+            assertThat(next.getLetterId()).isEqualTo(9L);
+        }
+
+        @Test
+        @DisplayName("제거 기록 보관 기간보다 오래된 토큰은 처음부터 다시 동기화한다")
+        void expiredToken_resets() {
+            // given
+            String token = SyncToken.after(change(7L, LocalDateTime.now().minusDays(31))).encode();
+            given(letterRepository.findChangesAfter(eq(2L), eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L),
+                    anyCollection(), any()))
+                    .willReturn(List.of(change(3L, LocalDateTime.now().minusDays(40))));
+
+            // when
+            LetterSyncResponse response = letterService.syncLetters(2L, token);
+
+            // then
+            assertThat(response.isReset()).isTrue();
+            assertThat(response.getLetters()).extracting(LetterChange::getLetterId).containsExactly(3L);
+            verify(letterRemovalRepository, never()).findRemovalsAfter(any(), any(), any(), any());
+        }
+
+        private LetterChange change(Long id, LocalDateTime lastModifiedAt) {
+            return new LetterChange(id, LetterStatus.DELIVERED, "발신자", "섬", 1,
+                    lastModifiedAt, null, lastModifiedAt);
+        }
+    }
 
     @Nested
     @DisplayName("sendLetter 메서드")
@@ -58,27 +302,28 @@ class LetterServiceTest {
             Member receiver = TestFixture.createActiveMember(2L);
 
             given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-            given(memberRepository.findRandomActiveMember(senderId)).willReturn(Optional.of(receiver));
-            given(letterRepository.save(any(Letter.class))).willAnswer(invocation -> {
-                Letter letter = invocation.getArgument(0);
+            given(matchingService.selectReceivers(any(), anyInt())).willReturn(List.of(receiver.getId()));
+            given(memberRepository.getReferenceById(receiver.getId())).willReturn(receiver);
+            given(letterContentService.resolve(any())).willAnswer(invocation -> LetterContent.of(invocation.getArgument(0)));
+            given(letterRepository.saveAll(anyList())).willAnswer(invocation -> {
+                List<Letter> letters = invocation.getArgument(0);
                 try {
                     java.lang.reflect.Field idField = Letter.class.getDeclaredField("id");
                     idField.setAccessible(true);
-                    idField.set(letter, 1L);
+                    idField.set(letters.get(0), 1L);
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
-                return letter;
+                return letters;
             });
-            doNothing().when(fcmService).sendLetterArrivalNotification(any(), any());
 
             // when
             LetterResponse response = letterService.sendLetter(senderId, content);
 
             // then
             assertThat(response).isNotNull();
-            verify(letterRepository).save(any(Letter.class));
-            verify(fcmService).sendLetterArrivalNotification(receiver.getId(), sender.getName());
+            verify(letterRepository).saveAll(anyList());
+            verify(notificationOutboxService).enqueueLetterArrival(receiver.getId(), sender.getName());
         }
 
         @Test
@@ -101,12 +346,33 @@ class LetterServiceTest {
             Member sender = TestFixture.createActiveMember(senderId);
 
             given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-            given(memberRepository.findRandomActiveMember(senderId)).willReturn(Optional.empty());
+            given(matchingService.selectReceivers(any(), anyInt())).willReturn(List.of());
 
             // when & then
             assertThatThrownBy(() -> letterService.sendLetter(senderId, "안녕하세요"))
                     .isInstanceOf(NoAvailableReceiverException.class);
         }
+
+        @Test
+        @DisplayName("일괄 매칭 모드에서는 수신자 배정 없이 WAITING 편지만 저장한다")
+        void asyncBatchMode_savesWaitingLetters() {
+            // given
+            Long senderId = 1L;
+            Member sender = TestFixture.createActiveMember(senderId);
+            matchingProperties.setMode(MatchingMode.ASYNC_BATCH);
+
+            given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
+            given(letterContentService.resolve(any())).willAnswer(invocation -> LetterContent.of(invocation.getArgument(0)));
+            given(letterRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            LetterResponse response = letterService.sendLetter(senderId, "안녕하세요");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(LetterStatus.WAITING);
+            verify(matchingService, never()).selectReceivers(any(), anyInt());
+            verify(notificationOutboxService, never()).enqueueLetterArrival(any(), any());
+        }
     }
 
     @Nested
@@ -114,16 +380,15 @@ class LetterServiceTest {
     class GetLetterDetailTest {
 
         @Test
-        @DisplayName("편지 상세를 성공적으로 조회한다")
+        @DisplayName("편지 상세를 성공적으로 조회하고 읽음 처리한다")
         void getLetterDetail_success() {
             // given
             Long letterId = 1L;
             Long memberId = 2L;
-            Member sender = TestFixture.createActiveMember(1L);
-            Member receiver = TestFixture.createActiveMember(memberId);
-            Letter letter = TestFixture.createLetter(letterId, sender, receiver, "테스트 편지 내용");
+            LetterDetail detail = detail(letterId, memberId, "테스트 편지 내용");
 
-            given(letterRepository.findById(letterId)).willReturn(Optional.of(letter));
+            given(letterRepository.markAsRead(eq(letterId), eq(memberId), any())).willReturn(1);
+            given(letterRepository.findDeliveredDetailById(letterId)).willReturn(Optional.of(detail));
 
             // when
             LetterResponse response = letterService.getLetterDetail(letterId, memberId);
@@ -131,7 +396,24 @@ class LetterServiceTest {
             // then
             assertThat(response).isNotNull();
             assertThat(response.getContent()).isEqualTo("테스트 편지 내용");
-            assertThat(letter.getStatus()).isEqualTo(LetterStatus.READ);
+            assertThat(response.getStatus()).isEqualTo(LetterStatus.READ);
+            verify(eventPublisher).publishEvent(any(LetterReadEvent.class));
+        }
+
+        @Test
+        @DisplayName("이미 읽은 편지는 읽음 이벤트를 발행하지 않는다")
+        void alreadyRead_doesNotPublishEvent() {
+            // given
+            Long letterId = 1L;
+            Long memberId = 2L;
+            given(letterRepository.findDeliveredDetailById(letterId))
+                    .willReturn(Optional.of(detail(letterId, memberId, "테스트 편지")));
+
+            // when
+            letterService.getLetterDetail(letterId, memberId);
+
+            // then
+            verify(eventPublisher, never()).publishEvent(any(LetterReadEvent.class));
         }
 
         @Test
@@ -140,11 +422,26 @@ class LetterServiceTest {
             // given
             Long letterId = 999L;
             Long memberId = 1L;
-            given(letterRepository.findById(letterId)).willReturn(Optional.empty());
+            given(letterRepository.findDeliveredDetailById(letterId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> letterService.getLetterDetail(letterId, memberId))
+                    .isInstanceOf(LetterNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("아직 배달되지 않은 예약 편지는 내용을 조회할 수 없다")
+        void scheduledLetter_throwsException() {
+            // given - SCHEDULED 편지는 읽음 처리도, 상세 조회도 되지 않음
+            Long letterId = 1L;
+            Long memberId = 2L;
+            given(letterRepository.markAsRead(eq(letterId), eq(memberId), any())).willReturn(0);
+            given(letterRepository.findDeliveredDetailById(letterId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> letterService.getLetterDetail(letterId, memberId))
                     .isInstanceOf(LetterNotFoundException.class);
+            verify(eventPublisher, never()).publishEvent(any(LetterReadEvent.class));
         }
 
         @Test
@@ -153,15 +450,39 @@ class LetterServiceTest {
             // given
             Long letterId = 1L;
             Long requesterId = 3L; // 다른 사용자
-            Member sender = TestFixture.createActiveMember(1L);
-            Member receiver = TestFixture.createActiveMember(2L);
-            Letter letter = TestFixture.createLetter(letterId, sender, receiver, "테스트 편지");
-
-            given(letterRepository.findById(letterId)).willReturn(Optional.of(letter));
+            given(letterRepository.findDeliveredDetailById(letterId))
+                    .willReturn(Optional.of(detail(letterId, 2L, "테스트 편지")));
 
             // when & then
             assertThatThrownBy(() -> letterService.getLetterDetail(letterId, requesterId))
                     .isInstanceOf(LetterAccessDeniedException.class);
         }
+
+        private LetterDetail detail(Long letterId, Long receiverId, String content) {
+            LocalDateTime now = LocalDateTime.now();
+            return new LetterDetail(letterId, receiverId, content, "발신자", "섬", 1,
+                    LetterStatus.READ, now, now, now);
+        }
+    }
+
+    @Nested
+    @DisplayName("markAsRead 메서드")
+    class MarkAsReadTest {
+
+        @Test
+        @DisplayName("변경된 편지 수만큼 읽음 이벤트를 발행한다")
+        void markAsRead_publishesReadCount() {
+            // given
+            Long memberId = 2L;
+            List<Long> letterIds = List.of(1L, 2L, 3L);
+            given(letterRepository.markAllAsRead(eq(letterIds), eq(memberId), any())).willReturn(2);
+
+            // when
+            int read = letterService.markAsRead(memberId, letterIds);
+
+            // then
+            assertThat(read).isEqualTo(2);
+            verify(eventPublisher).publishEvent(any(LetterReadEvent.class));
+        }
     }
 }
@@ -0,0 +1,398 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.fcm.service.NotificationOutboxService;
+import com.messageapp.domain.letter.delivery.QuietHoursPolicy;
+import com.messageapp.domain.letter.dto.BodyReceiver;
+import com.messageapp.domain.letter.dto.MatchedLetter;
+import com.messageapp.domain.letter.dto.WaitingMatchResult;
+import com.messageapp.domain.letter.entity.Letter;
+import com.messageapp.domain.letter.entity.LetterStatus;
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.event.LetterRecalledEvent;
+import com.messageapp.domain.letter.event.LetterScheduledEvent;
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import com.messageapp.domain.letter.matching.ExclusionBitmaps;
+import com.messageapp.domain.letter.matching.InboxLoadCounter;
+import com.messageapp.domain.letter.matching.ReceiverFilter;
+import com.messageapp.domain.letter.repository.LetterRepository;
+import com.messageapp.domain.letter.strategy.IndexSelectionStrategy;
+import com.messageapp.domain.member.activity.MemberActivityTracker;
+import com.messageapp.domain.member.entity.Member;
+import com.messageapp.domain.member.repository.MemberRepository;
+import com.messageapp.domain.report.repository.ReportRepository;
+import com.messageapp.fixture.TestFixture;
+import com.messageapp.global.config.MatchingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingServiceImplTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private LetterRepository letterRepository;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private ExclusionBitmaps exclusionBitmaps;
+
+    @Mock
+    private MemberActivityTracker memberActivityTracker;
+
+    @Mock
+    private QuietHoursPolicy quietHoursPolicy;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private ReceiverFilter receiverFilter;
+
+    private MatchingServiceImpl matchingService;
+
+    @BeforeEach
+    void setUp() {
+        ActiveMemberIndex activeMemberIndex = new ActiveMemberIndex();
+        activeMemberIndex.rebuild(new long[]{1L, 2L, 3L, 4L}, 4);
+        matchingService = new MatchingServiceImpl(memberRepository, letterRepository, reportRepository,
+                activeMemberIndex, exclusionBitmaps, new InboxLoadCounter(), memberActivityTracker,
+                new MatchingProperties(), quietHoursPolicy, jdbcTemplate, eventPublisher, notificationOutboxService,
+                List.of(new IndexSelectionStrategy(activeMemberIndex)), List.of(receiverFilter));
+        matchingService.initStrategyMap();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("selectReceivers 메서드")
+    class SelectReceiversTest {
+
+        @BeforeEach
+        void acceptAll() {
+            given(receiverFilter.filter(anyLong(), any()))
+                    .willAnswer(invocation -> invocation.getArgument(1));
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 확정 즉시 매칭 이력을 기록한다")
+        void outsideTransaction_recordsImmediately() {
+            List<Long> receivers = matchingService.selectReceivers(1L, 2);
+
+            assertThat(receivers).hasSize(2).doesNotContain(1L);
+            verify(receiverFilter, times(2)).onMatched(eq(1L), anyLong());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 이후에 매칭 이력을 기록한다")
+        void insideTransaction_recordsAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            List<Long> receivers = matchingService.selectReceivers(1L, 2);
+            verify(receiverFilter, never()).onMatched(anyLong(), anyLong());
+
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            for (Long receiverId : receivers) {
+                verify(receiverFilter).onMatched(1L, receiverId);
+            }
+        }
+
+        @Test
+        @DisplayName("롤백된 트랜잭션의 매칭은 기록하지 않는다")
+        void rolledBack_doesNotRecord() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            matchingService.selectReceivers(1L, 2);
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            verify(receiverFilter, never()).onMatched(anyLong(), anyLong());
+            assertThat(TransactionSynchronizationManager.getResource(matchingService)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("matchWaitingLetters 메서드")
+    class MatchWaitingLettersTest {
+
+        private final Member sender = TestFixture.createActiveMember(1L);
+
+        @BeforeEach
+        void acceptAll() {
+            given(receiverFilter.filter(anyLong(), any()))
+                    .willAnswer(invocation -> invocation.getArgument(1));
+            given(memberRepository.findAllById(any())).willReturn(List.of(sender));
+        }
+
+        @Test
+        @DisplayName("수신자를 찾지 못한 편지는 다음 매칭 시각을 뒤로 미루고 잠근 편지 수를 반환한다")
+        @SuppressWarnings("unchecked")
+        void unmatchedLetters_areBackedOff() {
+            // given
+            givenWaiting(5);
+            given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+                int[] counts = new int[invocation.<List<?>>getArgument(1).size()];
+                Arrays.fill(counts, 1);
+                return counts;
+            });
+            LocalDateTime before = LocalDateTime.now();
+
+            // when
+            WaitingMatchResult result = matchingService.matchWaitingLetters(5);
+
+            // then
+            assertThat(result.getClaimed()).isEqualTo(5);
+            assertThat(result.getMatched()).extracting(MatchedLetter::getLetterId).containsExactly(10L, 11L, 12L);
+
+            ArgumentCaptor<List<Object[]>> backoffs = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(contains("next_attempt_at"), backoffs.capture());
+            assertThat(backoffs.getValue()).extracting(row -> row[1]).containsExactly(13L, 14L);
+            assertThat(backoffs.getValue()).allSatisfy(row ->
+                    assertThat(((Timestamp) row[0]).toLocalDateTime()).isAfterOrEqualTo(before.plusSeconds(30)));
+        }
+
+        @Test
+        @DisplayName("다른 경로에서 이미 바뀐 편지는 배정 결과와 배달 이벤트에서 제외한다")
+        void unchangedRows_areNotPublished() {
+            // given - 편지 11은 잠금 이후 다른 경로에서 처리됨
+            givenWaiting(2);
+            given(jdbcTemplate.batchUpdate(contains("status = 'DELIVERED'"), anyList()))
+                    .willReturn(new int[]{1, 0});
+
+            // when
+            WaitingMatchResult result = matchingService.matchWaitingLetters(2);
+
+            // then
+            assertThat(result.getClaimed()).isEqualTo(2);
+            assertThat(result.getMatched()).extracting(MatchedLetter::getLetterId).containsExactly(10L);
+            verify(eventPublisher, times(1)).publishEvent(any(LetterDeliveredEvent.class));
+        }
+
+        private void givenWaiting(int count) {
+            List<Letter> waiting = new ArrayList<>();
+            for (long id = 10L; id < 10L + count; id++) {
+                waiting.add(TestFixture.createWaitingLetter(id, sender, "내용"));
+            }
+            given(letterRepository.findDueByStatusForUpdateSkipLocked(eq(LetterStatus.WAITING), any(), any()))
+                    .willReturn(waiting);
+        }
+    }
+
+    @Nested
+    @DisplayName("rematchExpiredLetters 메서드")
+    class RematchExpiredLettersTest {
+
+        private final Member sender = TestFixture.createActiveMember(1L);
+
+        @BeforeEach
+        void acceptAll() {
+            given(receiverFilter.filter(anyLong(), any()))
+                    .willAnswer(invocation -> invocation.getArgument(1));
+            given(memberRepository.findAllById(any())).willReturn(List.of(sender));
+            given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+                int[] counts = new int[invocation.<List<?>>getArgument(1).size()];
+                Arrays.fill(counts, 1);
+                return counts;
+            });
+        }
+
+        @Test
+        @DisplayName("같은 본문을 받은 모든 수신자를 제외하고 재배정하며 알림을 아웃박스에 적재한다")
+        @SuppressWarnings("unchecked")
+        void excludesEveryReceiverOfBody() {
+            // given - 편지 10은 2번에게 배달, 같은 본문이 3번에게도 배달됨
+            Letter letter = TestFixture.createLetter(10L, sender, TestFixture.createActiveMember(2L), "내용");
+            givenExpired(List.of(letter), bodyReceiver(10L, 2L), bodyReceiver(10L, 3L));
+
+            // when
+            List<MatchedLetter> matched = matchingService.rematchExpiredLetters(LocalDateTime.now(), 10);
+
+            // then
+            assertThat(matched).extracting(MatchedLetter::getReceiverId).containsExactly(4L);
+
+            ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(contains("SET receiver_id = ?, matched_at = ?"), updates.capture());
+            assertThat(updates.getValue()).singleElement().satisfies(row -> {
+                assertThat(row[0]).isEqualTo(4L);
+                assertThat(row[3]).isEqualTo(10L);
+                assertThat(row[4]).isEqualTo(2L);
+            });
+            verify(notificationOutboxService).enqueueLetterArrival(eq(4L), any());
+            verify(receiverFilter).onMatched(1L, 4L);
+
+            ArgumentCaptor<List<Object[]>> removals = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(contains("letter_removals"), removals.capture());
+            assertThat(removals.getValue()).singleElement().satisfies(row -> {
+                assertThat(row[0]).isEqualTo(2L);
+                assertThat(row[1]).isEqualTo(10L);
+            });
+            verify(receiverFilter, times(1)).onMatched(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("제외 후 남은 후보 중 한쪽(가장 작은 회원 ID)에 몰리지 않게 고른다")
+        void spreadsAcrossEligibleCandidates() {
+            // given - 2번이 받은 편지, 남은 후보는 3번과 4번
+            Letter letter = TestFixture.createLetter(10L, sender, TestFixture.createActiveMember(2L), "내용");
+            givenExpired(List.of(letter), bodyReceiver(10L, 2L));
+
+            // when
+            Set<Long> receivers = new HashSet<>();
+            for (int i = 0; i < 50; i++) {
+                matchingService.rematchExpiredLetters(LocalDateTime.now(), 10)
+                        .forEach(matched -> receivers.add(matched.getReceiverId()));
+            }
+
+            // then
+            assertThat(receivers).containsExactlyInAnyOrder(3L, 4L);
+        }
+
+        @Test
+        @DisplayName("방해 금지 시간에는 SCHEDULED로 재배정하고 알림을 적재하지 않는다")
+        @SuppressWarnings("unchecked")
+        void quietHours_reschedules() {
+            // given
+            LocalDateTime deliverAt = LocalDateTime.now().plusHours(8);
+            given(quietHoursPolicy.deferUntil(any())).willReturn(deliverAt);
+            Letter letter = TestFixture.createLetter(10L, sender, TestFixture.createActiveMember(2L), "내용");
+            givenExpired(List.of(letter), bodyReceiver(10L, 2L));
+
+            // when
+            List<MatchedLetter> matched = matchingService.rematchExpiredLetters(LocalDateTime.now(), 10);
+
+            // then
+            assertThat(matched).singleElement().satisfies(m -> assertThat(m.isDeferred()).isTrue());
+            ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(contains("status = 'SCHEDULED'"), updates.capture());
+            assertThat(((Timestamp) updates.getValue().get(0)[2]).toLocalDateTime()).isEqualTo(deliverAt);
+
+            ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+            assertThat(events.getAllValues()).filteredOn(LetterScheduledEvent.class::isInstance).hasSize(1);
+            verify(notificationOutboxService, never()).enqueueLetterArrival(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("제외 후 남은 후보가 없으면 배정 시각만 갱신하고 회수 이벤트를 발행하지 않는다")
+        @SuppressWarnings("unchecked")
+        void noCandidate_extends() {
+            // given - 가능한 모든 수신자(2, 3, 4)가 이미 같은 본문을 받음
+            Letter letter = TestFixture.createLetter(10L, sender, TestFixture.createActiveMember(2L), "내용");
+            givenExpired(List.of(letter), bodyReceiver(10L, 2L), bodyReceiver(10L, 3L), bodyReceiver(10L, 4L));
+
+            // when
+            List<MatchedLetter> matched = matchingService.rematchExpiredLetters(LocalDateTime.now(), 10);
+
+            // then
+            assertThat(matched).isEmpty();
+            ArgumentCaptor<List<Object[]>> extensions = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(contains("SET matched_at = ?"), extensions.capture());
+            assertThat(extensions.getValue()).extracting(row -> row[2]).containsExactly(10L);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+            verify(receiverFilter, never()).onMatched(anyLong(), anyLong());
+            verify(jdbcTemplate, never()).batchUpdate(contains("letter_removals"), anyList());
+        }
+
+        @Test
+        @DisplayName("이전 수신자별로 회수된 편지 수를 모아 회수 이벤트를 발행한다")
+        void publishesRecalledCountPerReceiver() {
+            // given - 2번이 받은 편지 두 통 (서로 다른 본문)
+            Member previous = TestFixture.createActiveMember(2L);
+            List<Letter> letters = List.of(
+                    TestFixture.createLetter(10L, sender, previous, "내용1"),
+                    TestFixture.createLetter(11L, sender, previous, "내용2"));
+            givenExpired(letters, bodyReceiver(10L, 2L), bodyReceiver(11L, 2L));
+
+            // when
+            List<MatchedLetter> matched = matchingService.rematchExpiredLetters(LocalDateTime.now(), 10);
+
+            // then
+            assertThat(matched).extracting(MatchedLetter::getReceiverId).containsExactlyInAnyOrder(3L, 4L);
+            ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+            assertThat(events.getAllValues())
+                    .filteredOn(LetterRecalledEvent.class::isInstance)
+                    .singleElement()
+                    .satisfies(event -> {
+                        LetterRecalledEvent recalled = (LetterRecalledEvent) event;
+                        assertThat(recalled.getReceiverId()).isEqualTo(2L);
+                        assertThat(recalled.getCount()).isEqualTo(2);
+                    });
+        }
+
+        private void givenExpired(List<Letter> letters, BodyReceiver... bodyReceivers) {
+            given(letterRepository.findExpiredDeliveredForUpdateSkipLocked(any(), any())).willReturn(letters);
+            given(letterRepository.findBodyReceivers(any(Collection.class))).willReturn(List.of(bodyReceivers));
+        }
+    }
+
+    private static BodyReceiver bodyReceiver(Long letterId, Long receiverId) {
+        return new BodyReceiver() {
+            @Override
+            public Long getLetterId() {
+                return letterId;
+            }
+
+            @Override
+            public Long getReceiverId() {
+                return receiverId;
+            }
+        };
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
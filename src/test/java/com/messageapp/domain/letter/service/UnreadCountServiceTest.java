@@ -0,0 +1,111 @@
+package com.messageapp.domain.letter.service;
+
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.event.LetterReadEvent;
+import com.messageapp.domain.letter.repository.UnreadCountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountServiceTest {
+
+    @InjectMocks
+    private UnreadCountService unreadCountService;
+
+    @Mock
+    private UnreadCountRepository unreadCountRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 미읽음 편지 수에 배달/읽음을 반영한다")
+    void getUnreadCount_reflectsChangesInCache() {
+        given(unreadCountRepository.findUnreadCountByMemberId(1L)).willReturn(Optional.of(2));
+        given(unreadCountRepository.applyDelta(anyLong(), anyInt())).willReturn(1);
+        assertThat(unreadCountService.getUnreadCount(1L)).isEqualTo(2);
+
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(1L));
+        unreadCountService.onLetterRead(new LetterReadEvent(1L, 3));
+
+        assertThat(unreadCountService.getUnreadCount(1L)).isZero();
+        verify(unreadCountRepository, times(1)).findUnreadCountByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("행이 없는 회원은 커밋 이후 letters 테이블로 행을 만든다")
+    void record_missingRow_createsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(5L));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        verify(unreadCountRepository, never()).insertFromLetters(anyLong());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(unreadCountRepository).insertFromLetters(5L);
+        verify(unreadCountRepository, never()).recountFromLetters(anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 행을 만들었으면 letters 테이블로 다시 센다")
+    void record_concurrentlyCreatedRow_recounts() {
+        given(unreadCountRepository.insertFromLetters(5L))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(5L));
+
+        verify(unreadCountRepository).recountFromLetters(5L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 증감은 회원별로 합산해 커밋 직전에 회원 ID 순으로 반영한다")
+    void record_aggregatesWithinTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(3L));
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(2L));
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(3L));
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(2L));
+        unreadCountService.onLetterRead(new LetterReadEvent(2L, 1));
+        unreadCountService.onLetterDelivered(new LetterDeliveredEvent(4L));
+        unreadCountService.onLetterRead(new LetterReadEvent(4L, 1));
+        verify(unreadCountRepository, never()).applyDelta(anyLong(), anyInt());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        InOrder inOrder = inOrder(unreadCountRepository);
+        inOrder.verify(unreadCountRepository).applyDelta(2L, 1);
+        inOrder.verify(unreadCountRepository).applyDelta(3L, 2);
+        verify(unreadCountRepository, never()).applyDelta(4L, 0);
+        assertThat(TransactionSynchronizationManager.getResource(unreadCountService)).isNull();
+    }
+}
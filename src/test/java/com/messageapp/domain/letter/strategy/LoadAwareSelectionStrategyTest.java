@@ -0,0 +1,112 @@
+package com.messageapp.domain.letter.strategy;
+
+import com.messageapp.domain.letter.event.LetterDeliveredEvent;
+import com.messageapp.domain.letter.event.LetterReadEvent;
+import com.messageapp.domain.letter.event.LetterRecalledEvent;
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import com.messageapp.domain.letter.matching.InboxLoadCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadAwareSelectionStrategyTest {
+
+    private ActiveMemberIndex activeMemberIndex;
+    private InboxLoadCounter inboxLoadCounter;
+    private LoadAwareSelectionStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        activeMemberIndex = new ActiveMemberIndex();
+        inboxLoadCounter = new InboxLoadCounter();
+        strategy = new LoadAwareSelectionStrategy(activeMemberIndex, inboxLoadCounter);
+    }
+
+    @Nested
+    @DisplayName("select 메서드")
+    class SelectTest {
+
+        @Test
+        @DisplayName("두 후보 중 미읽음 편지가 적은 회원을 고른다")
+        void select_picksLessLoadedCandidate() {
+            activeMemberIndex.rebuild(new long[]{1L, 2L, 3L}, 3);
+            inboxLoadCounter.set(2L, 10);
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(strategy.select(1L, 1)).containsExactly(3L);
+            }
+        }
+
+        @Test
+        @DisplayName("발신자를 제외한 서로 다른 회원을 요청 수만큼 고른다")
+        void select_returnsDistinctReceivers() {
+            long[] ids = LongStream.rangeClosed(1, 10).toArray();
+            activeMemberIndex.rebuild(ids, ids.length);
+
+            for (int i = 0; i < 1_000; i++) {
+                long[] picked = strategy.select(1L, 5);
+
+                assertThat(picked).hasSize(5);
+                assertThat(picked).doesNotContain(1L);
+                assertThat(Arrays.stream(picked).distinct().count()).isEqualTo(5);
+            }
+        }
+
+        @Test
+        @DisplayName("부하가 큰 회원이 선택되는 비율은 균등 선택보다 낮다")
+        void select_skewsAwayFromHeavyInboxes() {
+            long[] ids = LongStream.rangeClosed(1, 101).toArray();
+            activeMemberIndex.rebuild(ids, ids.length);
+            // 절반(짝수 ID)은 수신함이 가득 찬 회원
+            for (long id = 2; id <= 101; id += 2) {
+                inboxLoadCounter.set(id, 50);
+            }
+
+            int heavy = 0;
+            int trials = 10_000;
+            for (int i = 0; i < trials; i++) {
+                if (strategy.select(1L, 1)[0] % 2 == 0) {
+                    heavy++;
+                }
+            }
+
+            // 균등 선택이면 약 50%, 두 후보 중 선택이면 약 25%
+            assertThat(heavy).isLessThan(trials * 35 / 100);
+        }
+
+        @Test
+        @DisplayName("후보가 부족하면 가능한 만큼만 반환한다")
+        void select_returnsFewerWhenNotEnoughCandidates() {
+            activeMemberIndex.rebuild(new long[]{1L, 2L, 3L}, 3);
+
+            assertThat(strategy.select(1L, 5)).containsExactlyInAnyOrder(2L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("InboxLoadCounter")
+    class InboxLoadCounterTest {
+
+        @Test
+        @DisplayName("배달, 읽음, 회수 이벤트를 반영하고 0 미만으로 내려가지 않는다")
+        void events_adjustCountsWithoutGoingNegative() {
+            inboxLoadCounter.onLetterDelivered(new LetterDeliveredEvent(2L));
+            inboxLoadCounter.onLetterDelivered(new LetterDeliveredEvent(2L));
+            inboxLoadCounter.onLetterDelivered(new LetterDeliveredEvent(2L));
+            assertThat(inboxLoadCounter.get(2L)).isEqualTo(3);
+
+            inboxLoadCounter.onLetterRead(new LetterReadEvent(2L, 1));
+            inboxLoadCounter.onLetterRecalled(new LetterRecalledEvent(2L, 1));
+            assertThat(inboxLoadCounter.get(2L)).isEqualTo(1);
+
+            inboxLoadCounter.onLetterRead(new LetterReadEvent(2L, 5));
+            assertThat(inboxLoadCounter.get(2L)).isZero();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.messageapp.domain.letter.strategy;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자 샘플링 쿼리 벤치마크
+ *
+ * <p>100만 행 members 테이블(H2)에서 {@link NativeRandomSelectionStrategy}와
+ * {@link RandomSeekSelectionStrategy}의 발송 1건당 지연을 비교합니다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReceiverSamplingBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 1_000_000;
+    private static final int RECEIVER_COUNT = 3;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 50;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:matching-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE members (member_id BIGINT PRIMARY KEY, status VARCHAR(20) NOT NULL)");
+        // 10명 중 1명은 탈퇴 회원
+        jdbcTemplate.execute("INSERT INTO members (member_id, status) " +
+                "SELECT X, CASE WHEN MOD(X, 10) = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END " +
+                "FROM SYSTEM_RANGE(1, " + MEMBER_COUNT + ")");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("ORDER BY RAND() 대비 random seek 지연 비교")
+    void compareNativeRandAndRandomSeek() {
+        double nativeMillis = measure(new NativeRandomSelectionStrategy(jdbcTemplate));
+        double seekMillis = measure(new RandomSeekSelectionStrategy(jdbcTemplate));
+
+        System.out.printf("[benchmark] members=%,d receivers=%d%n", MEMBER_COUNT, RECEIVER_COUNT);
+        System.out.printf("[benchmark] NATIVE_RAND : %.3f ms/op%n", nativeMillis);
+        System.out.printf("[benchmark] RANDOM_SEEK : %.3f ms/op%n", seekMillis);
+
+        assertThat(seekMillis).isLessThan(nativeMillis);
+    }
+
+    private double measure(ReceiverSelectionStrategy strategy) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            strategy.select(1L, RECEIVER_COUNT);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long[] picked = strategy.select(1L, RECEIVER_COUNT);
+
+            assertThat(picked).hasSize(RECEIVER_COUNT);
+            assertThat(picked).doesNotContain(1L);
+            assertThat(Arrays.stream(picked).distinct().count()).isEqualTo(RECEIVER_COUNT);
+            assertThat(Arrays.stream(picked).noneMatch(id -> id % 10 == 0)).isTrue();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURE_ITERATIONS;
+    }
+}
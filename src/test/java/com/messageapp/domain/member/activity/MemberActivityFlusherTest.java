@@ -0,0 +1,82 @@
+package com.messageapp.domain.member.activity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberActivityFlusherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MemberActivityTracker tracker;
+    private MemberActivityFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MemberActivityTracker();
+        flusher = new MemberActivityFlusher(tracker, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("대기 중인 활동 시각을 배치 UPDATE로 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_batchUpdatesPending() {
+        // given
+        tracker.touch(1L);
+        tracker.touch(2L);
+        long touched = tracker.getLastActiveAt(1L);
+
+        // when
+        flusher.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).hasSize(2);
+        assertThat(batch.getValue())
+                .anySatisfy(row -> assertThat(row).containsExactly(new Timestamp(touched), 1L));
+        assertThat(tracker.drainPending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영할 변경분이 없으면 DB에 접근하지 않는다")
+    void flush_skipsWhenNothingPending() {
+        flusher.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 변경분을 대기열로 되돌린다")
+    void flush_requeuesOnFailure() {
+        // given
+        tracker.touch(1L);
+        long touched = tracker.getLastActiveAt(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        flusher.flush();
+
+        // then
+        assertThat(tracker.drainPending()).containsEntry(1L, touched);
+    }
+}
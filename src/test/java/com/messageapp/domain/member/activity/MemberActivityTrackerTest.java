@@ -0,0 +1,78 @@
+package com.messageapp.domain.member.activity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberActivityTrackerTest {
+
+    private MemberActivityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MemberActivityTracker();
+    }
+
+    @Test
+    @DisplayName("활동을 기록하면 최근 활동 시각과 반영 대기열에 추가된다")
+    void touch_recordsActivityAndPending() {
+        long before = System.currentTimeMillis();
+
+        tracker.touch(1L);
+
+        assertThat(tracker.getLastActiveAt(1L)).isGreaterThanOrEqualTo(before);
+        assertThat(tracker.drainPending()).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("기록 단위 안의 연속 활동은 한 번만 기록한다")
+    void touch_ignoresWithinGranularity() {
+        tracker.touch(1L);
+        long first = tracker.getLastActiveAt(1L);
+        tracker.drainPending();
+
+        tracker.touch(1L);
+
+        assertThat(tracker.getLastActiveAt(1L)).isEqualTo(first);
+        assertThat(tracker.drainPending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록이 없는 회원은 -1을 반환한다")
+    void getLastActiveAt_unknownMember() {
+        assertThat(tracker.getLastActiveAt(99L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("초기 적재는 더 최근 시각을 덮어쓰지 않고 반영 대기열에 넣지 않는다")
+    void load_keepsLatestAndIsNotPending() {
+        tracker.touch(1L);
+        long touched = tracker.getLastActiveAt(1L);
+        tracker.drainPending();
+
+        tracker.load(1L, touched - 1_000_000L);
+        tracker.load(2L, 1_000L);
+
+        assertThat(tracker.getLastActiveAt(1L)).isEqualTo(touched);
+        assertThat(tracker.getLastActiveAt(2L)).isEqualTo(1_000L);
+        assertThat(tracker.drainPending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("꺼낸 변경분은 대기열에서 제거되고, 되돌리면 더 최근 시각이 유지된다")
+    void drainAndRequeue() {
+        tracker.touch(1L);
+        Map<Long, Long> drained = tracker.drainPending();
+        assertThat(tracker.drainPending()).isEmpty();
+
+        long newer = drained.get(1L) + 5_000L;
+        tracker.requeue(Map.of(1L, newer));
+        tracker.requeue(drained);
+
+        assertThat(tracker.drainPending()).containsEntry(1L, newer);
+    }
+}
@@ -2,7 +2,9 @@ package com.messageapp.fixture;
 
 import com.messageapp.api.auth.OauthProvider;
 import com.messageapp.domain.auth.dto.OAuthUserInfo;
+import com.messageapp.domain.fcm.entity.NotificationOutbox;
 import com.messageapp.domain.letter.entity.Letter;
+import com.messageapp.domain.letter.entity.LetterRemoval;
 import com.messageapp.domain.member.entity.Member;
 
 public class TestFixture {
@@ -51,11 +53,16 @@ public class TestFixture {
     }
 
     public static Letter createLetter(Long id, Member sender, Member receiver, String content) {
+        Letter letter = createWaitingLetter(id, sender, content);
+        letter.assignReceiver(receiver);
+        return letter;
+    }
+
+    public static Letter createWaitingLetter(Long id, Member sender, String content) {
         Letter letter = Letter.builder()
                 .sender(sender)
                 .content(content)
                 .build();
-        letter.assignReceiver(receiver);
 
         try {
             java.lang.reflect.Field idField = Letter.class.getDeclaredField("id");
@@ -67,4 +74,44 @@ public class TestFixture {
 
         return letter;
     }
+
+    public static NotificationOutbox createOutbox(Long id, Long receiverId, int attempts) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .senderName("발신자" + receiverId)
+                .build();
+
+        try {
+            java.lang.reflect.Field idField = NotificationOutbox.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(outbox, id);
+            java.lang.reflect.Field attemptsField = NotificationOutbox.class.getDeclaredField("attempts");
+            attemptsField.setAccessible(true);
+            attemptsField.set(outbox, attempts);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        return outbox;
+    }
+
+    public static LetterRemoval createRemoval(Long receiverId, Long letterId, java.time.LocalDateTime removedAt) {
+        try {
+            java.lang.reflect.Constructor<LetterRemoval> constructor = LetterRemoval.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            LetterRemoval removal = constructor.newInstance();
+            java.lang.reflect.Field receiverIdField = LetterRemoval.class.getDeclaredField("receiverId");
+            receiverIdField.setAccessible(true);
+            receiverIdField.set(removal, receiverId);
+            java.lang.reflect.Field letterIdField = LetterRemoval.class.getDeclaredField("letterId");
+            letterIdField.setAccessible(true);
+            letterIdField.set(removal, letterId);
+            java.lang.reflect.Field removedAtField = LetterRemoval.class.getDeclaredField("removedAt");
+            removedAtField.setAccessible(true);
+            removedAtField.set(removal, removedAt);
+            return removal;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
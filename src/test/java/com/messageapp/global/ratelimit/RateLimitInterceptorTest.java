@@ -0,0 +1,116 @@
+package com.messageapp.global.ratelimit;
+
+import com.messageapp.global.config.RateLimitProperties;
+import com.messageapp.global.exception.RateLimitExceededException;
+import com.messageapp.global.security.JwtAuthenticationFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitInterceptorTest {
+
+    private static final String LIMIT = "letter-send";
+
+    @Mock
+    private IdempotentReplayChecker idempotentReplayChecker;
+
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLimits(Map.of(LIMIT, new RateLimitProperties.LimitProperties(1, Duration.ofMinutes(1))));
+        interceptor = new RateLimitInterceptor(new TokenBucketRateLimiter(properties), idempotentReplayChecker);
+    }
+
+    @Test
+    @DisplayName("토큰을 다 쓰면 요청 한도 초과 예외가 발생한다")
+    void preHandle_rejectsWhenExhausted() throws Exception {
+        HandlerMethod handler = handler("send");
+
+        assertThat(interceptor.preHandle(request(null), new MockHttpServletResponse(), handler)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request(null), new MockHttpServletResponse(), handler))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("토큰이 없어도 완료된 멱등 키의 재시도는 통과시킨다")
+    void preHandle_exemptsCompletedReplays() throws Exception {
+        // given
+        HandlerMethod handler = handler("send");
+        given(idempotentReplayChecker.isCompletedReplay(anyLong(), anyString()))
+                .willAnswer(invocation -> "key-1".equals(invocation.getArgument(1)));
+        assertThat(interceptor.preHandle(request("key-1"), new MockHttpServletResponse(), handler)).isTrue();
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preHandle(request("key-1"), new MockHttpServletResponse(), handler)).isTrue();
+        }
+        assertThatThrownBy(() -> interceptor.preHandle(request("key-2"), new MockHttpServletResponse(), handler))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("토큰이 남아 있으면 멱등 키를 확인하지 않는다")
+    void preHandle_withinLimit_doesNotCheckKey() throws Exception {
+        HandlerMethod handler = handler("send");
+
+        interceptor.preHandle(request("key-1"), new MockHttpServletResponse(), handler);
+
+        verify(idempotentReplayChecker, never()).isCompletedReplay(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("재시도 예외가 꺼진 엔드포인트는 토큰이 없어도 멱등 키를 확인하지 않는다")
+    void preHandle_withoutExemption_doesNotCheckKey() throws Exception {
+        HandlerMethod handler = handler("strict");
+
+        interceptor.preHandle(request("key-1"), new MockHttpServletResponse(), handler);
+        assertThatThrownBy(() -> interceptor.preHandle(request("key-1"), new MockHttpServletResponse(), handler))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        verify(idempotentReplayChecker, never()).isCompletedReplay(anyLong(), anyString());
+    }
+
+    private static MockHttpServletRequest request(String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtAuthenticationFilter.MEMBER_ID_ATTRIBUTE, 1L);
+        if (idempotencyKey != null) {
+            request.addHeader("Idempotency-Key", idempotencyKey);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(methodName));
+    }
+
+    static class SampleController {
+
+        @RateLimited(value = LIMIT, exemptIdempotentReplays = true)
+        public void send() {
+        }
+
+        @RateLimited(LIMIT)
+        public void strict() {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.messageapp.global.ratelimit;
+
+import com.messageapp.global.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final String LIMIT = "letter-send";
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private RateLimitProperties properties;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setLimits(Map.of(LIMIT, new RateLimitProperties.LimitProperties(3, Duration.ofSeconds(10))));
+        limiter = new TokenBucketRateLimiter(properties, now::get);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 요청을 허용하고 이후에는 남은 대기 시간을 반환한다")
+    void tryAcquire_rejectsAfterCapacity() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(LIMIT, 1L)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        }
+
+        assertThat(limiter.tryAcquire(LIMIT, 1L)).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.tryAcquire(LIMIT, 2L)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("충전 주기가 지나면 토큰이 하나씩 다시 채워진다")
+    void tryAcquire_refillsLazily() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(LIMIT, 1L);
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(limiter.tryAcquire(LIMIT, 1L)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire(LIMIT, 1L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 정리되고 버킷 수 한도를 넘으면 새 회원은 추적하지 않는다")
+    void evictAndBound() {
+        properties.setMaxBuckets(1);
+        limiter.tryAcquire(LIMIT, 1L);
+
+        assertThat(limiter.tryAcquire(LIMIT, 2L)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        assertThat(limiter.size(LIMIT)).isEqualTo(1);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.evictFullBuckets();
+
+        assertThat(limiter.size(LIMIT)).isZero();
+    }
+}
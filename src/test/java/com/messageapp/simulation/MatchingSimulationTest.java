@@ -0,0 +1,235 @@
+package com.messageapp.simulation;
+
+import com.messageapp.domain.fcm.service.NotificationOutboxService;
+import com.messageapp.domain.letter.delivery.QuietHoursPolicy;
+import com.messageapp.domain.letter.matching.ActiveMemberIndex;
+import com.messageapp.domain.letter.matching.DailyDeliveryQuota;
+import com.messageapp.domain.letter.matching.ExclusionBitmaps;
+import com.messageapp.domain.letter.matching.InboxLoadCounter;
+import com.messageapp.domain.letter.matching.ReceiverFilter;
+import com.messageapp.domain.letter.matching.ReceiverTicketPool;
+import com.messageapp.domain.letter.matching.ReceiverTicketPoolRefiller;
+import com.messageapp.domain.letter.matching.RecentPairFilter;
+import com.messageapp.domain.letter.repository.LetterRepository;
+import com.messageapp.domain.letter.service.MatchingServiceImpl;
+import com.messageapp.domain.letter.strategy.IndexSelectionStrategy;
+import com.messageapp.domain.letter.strategy.LoadAwareSelectionStrategy;
+import com.messageapp.domain.letter.strategy.MatchingStrategyType;
+import com.messageapp.domain.letter.strategy.NativeRandomSelectionStrategy;
+import com.messageapp.domain.letter.strategy.RandomSeekSelectionStrategy;
+import com.messageapp.domain.letter.strategy.ReceiverSelectionStrategy;
+import com.messageapp.domain.letter.strategy.RecencySelectionStrategy;
+import com.messageapp.domain.letter.strategy.TicketPoolSelectionStrategy;
+import com.messageapp.domain.member.activity.MemberActivityTracker;
+import com.messageapp.domain.member.repository.MemberRepository;
+import com.messageapp.domain.report.repository.ReportRepository;
+import com.messageapp.global.config.MatchingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 매칭 공정성/처리량 시뮬레이션
+ *
+ * <p>합성 모집단(H2)을 대상으로 실제 {@link MatchingServiceImpl}과 전략/필터 구현체를 구성하고,
+ * 초당 {@value #SENDS_PER_SECOND}건 발송을 모사하여 매칭 결과를 정량적으로 비교합니다.</p>
+ *
+ * <h3>모사 규칙:</h3>
+ * <ul>
+ *   <li>발송의 20%는 상위 1% 회원(활동적인 발신자)이 보냄</li>
+ *   <li>발송 1건당 수신자 3~5명 ({@code LetterServiceImpl}과 동일)</li>
+ *   <li>모사 1초마다 활성 회원 {@value #READERS_PER_SECOND}명이 앱을 열어 수신함을 모두 읽음</li>
+ * </ul>
+ *
+ * <p>기본 test 태스크에서는 제외되며 {@code ./gradlew simulation}으로 실행합니다.
+ * 규모는 {@code -Dsimulation.members}, {@code -Dsimulation.sends},
+ * {@code -Dsimulation.db-sends}로 조정합니다.</p>
+ */
+@Tag("simulation")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MatchingSimulationTest {
+
+    private static final int SENDS_PER_SECOND = 100;
+    private static final int READERS_PER_SECOND = 50;
+
+    private final int members = Integer.getInteger("simulation.members", 1_000_000);
+    private final int sends = Integer.getInteger("simulation.sends", 60_000);
+    private final int dbSends = Integer.getInteger("simulation.db-sends", 2_000);
+
+    private SyntheticPopulation population;
+    private int[] activeIds;
+    private final List<String> rows = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        population = new SyntheticPopulation("matching-simulation", members);
+        activeIds = new int[members - members / 10];
+        int n = 0;
+        for (int id = 1; id <= members; id++) {
+            if (population.isActive(id)) {
+                activeIds[n++] = id;
+            }
+        }
+        activeIds = Arrays.copyOf(activeIds, n);
+    }
+
+    @AfterAll
+    void tearDown() {
+        System.out.printf("%n[simulation] members=%,d (active %,d), target %d sends/s%n",
+                members, activeIds.length, SENDS_PER_SECOND);
+        System.out.println(SimulationReport.header());
+        rows.forEach(System.out::println);
+        population.drop();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(MatchingStrategyType.class)
+    void simulate(MatchingStrategyType type) {
+        int sendCount = switch (type) {
+            case RANDOM_SEEK -> dbSends;
+            case NATIVE_RAND -> Math.max(1, dbSends / 20);
+            default -> sends;
+        };
+
+        Scenario scenario = new Scenario(type);
+        SimulationReport report = scenario.run(sendCount);
+
+        rows.add(report.row() + String.format("  (%.0f sends/s)", report.throughputPerSecond()));
+        assertThat(report.duplicatePairs()).isZero();
+    }
+
+    /**
+     * 전략 하나에 대한 매칭 구성과 수신함 모델
+     */
+    private class Scenario {
+
+        private final MatchingStrategyType type;
+        private final MatchingServiceImpl matchingService;
+        private final ReceiverTicketPoolRefiller refiller;
+        private final InboxLoadCounter inboxLoadCounter = new InboxLoadCounter();
+
+        private Scenario(MatchingStrategyType type) {
+            this.type = type;
+            MemberRepository memberRepository = population.memberRepository();
+
+            MatchingProperties properties = new MatchingProperties();
+            properties.setStrategy(type);
+
+            ActiveMemberIndex index = new ActiveMemberIndex();
+            MemberActivityTracker tracker = new MemberActivityTracker();
+            ReceiverTicketPool ticketPool = new ReceiverTicketPool(properties);
+            IndexSelectionStrategy indexStrategy = new IndexSelectionStrategy(index);
+            this.refiller = new ReceiverTicketPoolRefiller(ticketPool, memberRepository, properties);
+
+            List<ReceiverSelectionStrategy> strategies = List.of(
+                    indexStrategy,
+                    new TicketPoolSelectionStrategy(ticketPool, index, indexStrategy),
+                    new LoadAwareSelectionStrategy(index, inboxLoadCounter),
+                    new RecencySelectionStrategy(index, tracker, properties),
+                    new RandomSeekSelectionStrategy(population.jdbcTemplate()),
+                    new NativeRandomSelectionStrategy(population.jdbcTemplate()));
+
+            ExclusionBitmaps exclusionBitmaps = new ExclusionBitmaps();
+            List<ReceiverFilter> filters = List.of(
+                    exclusionBitmaps,
+                    new RecentPairFilter(properties),
+                    new DailyDeliveryQuota(properties, new SimpleMeterRegistry()));
+
+            this.matchingService = new MatchingServiceImpl(
+                    memberRepository,
+                    mock(LetterRepository.class),
+                    mock(ReportRepository.class),
+                    index,
+                    exclusionBitmaps,
+                    inboxLoadCounter,
+                    tracker,
+                    properties,
+                    mock(QuietHoursPolicy.class),
+                    population.jdbcTemplate(),
+                    mock(ApplicationEventPublisher.class),
+                    mock(NotificationOutboxService.class),
+                    strategies,
+                    filters);
+            matchingService.initialize();
+        }
+
+        private SimulationReport run(int sendCount) {
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            Random random = new Random(7);
+            int[] receipts = new int[members + 1];
+            int[] inbox = new int[members + 1];
+            Set<Long> pairs = new HashSet<>();
+            long[] latencies = new long[sendCount];
+            long allocated = 0;
+            long duplicates = 0;
+            long shortMatches = 0;
+            int maxInbox = 0;
+            int heavySenders = Math.max(1, activeIds.length / 100);
+
+            long wallStart = System.nanoTime();
+            for (int i = 0; i < sendCount; i++) {
+                if (i % SENDS_PER_SECOND == 0) {
+                    simulateSecond(random, inbox);
+                }
+
+                long senderId = random.nextInt(5) == 0
+                        ? activeIds[random.nextInt(heavySenders)]
+                        : activeIds[random.nextInt(activeIds.length)];
+                int count = 3 + random.nextInt(3);
+
+                long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                List<Long> receivers = matchingService.selectReceivers(senderId, count);
+                latencies[i] = System.nanoTime() - start;
+                allocated += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+                if (receivers.size() < count) {
+                    shortMatches++;
+                }
+                for (Long receiverId : receivers) {
+                    int id = receiverId.intValue();
+                    receipts[id]++;
+                    inbox[id]++;
+                    maxInbox = Math.max(maxInbox, inbox[id]);
+                    inboxLoadCounter.add(id, 1);
+                    if (!pairs.add((senderId << 32) | id)) {
+                        duplicates++;
+                    }
+                }
+            }
+            long wallNanos = System.nanoTime() - wallStart;
+
+            return new SimulationReport(type.name(), sendCount, latencies, allocated, wallNanos,
+                    receipts, activeIds, duplicates, maxInbox, shortMatches);
+        }
+
+        /** 모사 1초 경과: 티켓 풀 보충, 일부 회원의 수신함 읽음 */
+        private void simulateSecond(Random random, int[] inbox) {
+            refiller.refill();
+            for (int r = 0; r < READERS_PER_SECOND; r++) {
+                int id = activeIds[random.nextInt(activeIds.length)];
+                if (inbox[id] > 0) {
+                    inboxLoadCounter.add(id, -inbox[id]);
+                    inbox[id] = 0;
+                }
+            }
+        }
+    }
+}
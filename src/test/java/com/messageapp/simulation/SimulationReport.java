@@ -0,0 +1,104 @@
+package com.messageapp.simulation;
+
+import java.util.Arrays;
+
+/**
+ * 시뮬레이션 결과 집계
+ *
+ * <p>수신 분포(지니 계수, 최대 수신 수), 중복 쌍, 최대 수신함 크기,
+ * 매칭 지연 백분위수, 매칭 1회당 할당 바이트를 계산합니다.</p>
+ */
+class SimulationReport {
+
+    private final String scenario;
+    private final int sends;
+    private final long[] latenciesNanos;
+    private final long allocatedBytes;
+    private final long wallNanos;
+    private final int[] receipts;
+    private final int[] activeIds;
+    private final long duplicatePairs;
+    private final int maxInbox;
+    private final long shortMatches;
+
+    SimulationReport(String scenario, int sends, long[] latenciesNanos, long allocatedBytes, long wallNanos,
+                     int[] receipts, int[] activeIds, long duplicatePairs, int maxInbox, long shortMatches) {
+        this.scenario = scenario;
+        this.sends = sends;
+        this.latenciesNanos = latenciesNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.wallNanos = wallNanos;
+        this.receipts = receipts;
+        this.activeIds = activeIds;
+        this.duplicatePairs = duplicatePairs;
+        this.maxInbox = maxInbox;
+        this.shortMatches = shortMatches;
+    }
+
+    static String header() {
+        return String.format("%-12s %8s %9s %9s %9s %9s %10s %7s %8s %8s %9s %6s",
+                "scenario", "sends", "p50(us)", "p90(us)", "p99(us)", "max(us)", "alloc(B)",
+                "gini", "maxRecv", "maxInbox", "dupPairs", "short");
+    }
+
+    String row() {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        return String.format("%-12s %8d %9.1f %9.1f %9.1f %9.1f %10d %7.4f %8d %8d %9d %6d",
+                scenario, sends,
+                percentile(sorted, 0.50) / 1_000.0,
+                percentile(sorted, 0.90) / 1_000.0,
+                percentile(sorted, 0.99) / 1_000.0,
+                sorted[sorted.length - 1] / 1_000.0,
+                allocatedBytes / Math.max(1, sends),
+                gini(),
+                maxReceipts(),
+                maxInbox,
+                duplicatePairs,
+                shortMatches);
+    }
+
+    double throughputPerSecond() {
+        return sends / (wallNanos / 1_000_000_000.0);
+    }
+
+    long duplicatePairs() {
+        return duplicatePairs;
+    }
+
+    /**
+     * 활성 회원의 수신 수 지니 계수 (0 = 완전 균등, 1 = 한 명에게 집중)
+     */
+    double gini() {
+        long[] values = new long[activeIds.length];
+        for (int i = 0; i < activeIds.length; i++) {
+            values[i] = receipts[activeIds[i]];
+        }
+        Arrays.sort(values);
+
+        double weighted = 0;
+        double total = 0;
+        for (int i = 0; i < values.length; i++) {
+            weighted += (i + 1) * (double) values[i];
+            total += values[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        int n = values.length;
+        return (2 * weighted) / (n * total) - (n + 1.0) / n;
+    }
+
+    private int maxReceipts() {
+        int max = 0;
+        for (int id : activeIds) {
+            max = Math.max(max, receipts[id]);
+        }
+        return max;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,110 @@
+package com.messageapp.simulation;
+
+import com.messageapp.domain.member.dto.MemberLastActive;
+import com.messageapp.domain.member.entity.MemberStatus;
+import com.messageapp.domain.member.repository.MemberRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 시뮬레이션용 합성 회원 모집단 (H2)
+ *
+ * <p>member_id 1..N의 members 테이블을 만들고, 매칭 코드가 사용하는
+ * {@link MemberRepository} 조회 메서드를 같은 테이블에 대한 JDBC 쿼리로 연결합니다.</p>
+ *
+ * <h3>모집단 구성:</h3>
+ * <ul>
+ *   <li>10명 중 1명은 탈퇴(INACTIVE)</li>
+ *   <li>최근 활동: 30%는 하루 이내, 30%는 2주 이내, 나머지는 1~6개월 전</li>
+ * </ul>
+ */
+class SyntheticPopulation {
+
+    private final int size;
+    private final JdbcTemplate jdbcTemplate;
+
+    SyntheticPopulation(String name, int size) {
+        this.size = size;
+        this.jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", ""));
+
+        jdbcTemplate.execute("CREATE TABLE members (member_id BIGINT PRIMARY KEY, " +
+                "status VARCHAR(20) NOT NULL, last_active_at TIMESTAMP)");
+        jdbcTemplate.execute("INSERT INTO members (member_id, status, last_active_at) " +
+                "SELECT X, CASE WHEN MOD(X, 10) = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END, " +
+                "CASE WHEN MOD(X * 7, 10) < 3 THEN DATEADD('MINUTE', -MOD(X * 31, 1440), CURRENT_TIMESTAMP) " +
+                "     WHEN MOD(X * 7, 10) < 6 THEN DATEADD('HOUR', -MOD(X * 31, 336), CURRENT_TIMESTAMP) " +
+                "     ELSE DATEADD('DAY', -30 - MOD(X * 31, 150), CURRENT_TIMESTAMP) END " +
+                "FROM SYSTEM_RANGE(1, " + size + ")");
+    }
+
+    int size() {
+        return size;
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    boolean isActive(long memberId) {
+        return memberId % 10 != 0;
+    }
+
+    /**
+     * H2 테이블을 조회하는 {@link MemberRepository}를 만듭니다.
+     *
+     * <p>매칭 초기화에 쓰이는 keyset 조회 메서드만 연결합니다.</p>
+     */
+    MemberRepository memberRepository() {
+        MemberRepository repository = mock(MemberRepository.class);
+
+        given(repository.findIdsByStatusAfter(any(), anyLong(), any())).willAnswer(invocation -> {
+            MemberStatus status = invocation.getArgument(0);
+            Long lastId = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            return jdbcTemplate.queryForList(
+                    "SELECT member_id FROM members WHERE status = ? AND member_id > ? ORDER BY member_id LIMIT ?",
+                    Long.class, status.name(), lastId, pageable.getPageSize());
+        });
+
+        given(repository.findLastActiveAfter(anyLong(), any())).willAnswer(invocation -> {
+            Long lastId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            List<MemberLastActive> rows = jdbcTemplate.query(
+                    "SELECT member_id, last_active_at FROM members WHERE status = 'ACTIVE' " +
+                            "AND last_active_at IS NOT NULL AND member_id > ? ORDER BY member_id LIMIT ?",
+                    (rs, rowNum) -> lastActive(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()),
+                    lastId, pageable.getPageSize());
+            return rows;
+        });
+
+        return repository;
+    }
+
+    void drop() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    private static MemberLastActive lastActive(long memberId, LocalDateTime lastActiveAt) {
+        return new MemberLastActive() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public LocalDateTime getLastActiveAt() {
+                return lastActiveAt;
+            }
+        };
+    }
+}